@@ -0,0 +1,28 @@
+package com.hklim.finingserver.benchmark;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+
+/*
+* src/jmh/resources/payload 의 녹화된 크롤링 응답 (Nasdaq 종목 1페이지, 채권 / 주가지수)
+*/
+public class BenchmarkPayloads {
+    public static final String STOCK_PAGE = "payload/stock-page.json";
+    public static final String BOND = "payload/bond.json";
+    public static final String STOCK_INDICATORS = "payload/stock-indicators.json";
+
+    private BenchmarkPayloads() {
+    }
+
+    public static byte[] read(String name) {
+        try (InputStream in = BenchmarkPayloads.class.getClassLoader().getResourceAsStream(name)) {
+            if (in == null) {
+                throw new IllegalStateException("Not found benchmark payload : " + name);
+            }
+            return in.readAllBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.hklim.finingserver.domain.stock.repository;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/*
+* 시계열 조회 인덱스 유무별 응답 시간 (H2 MariaDB Mode, 2000 종목 x 30일)
+* 실행 계획 확인은 StockIndexQueryPlanTest
+*/
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class StockIndexQueryBenchmark {
+    private static final int STOCK_CNT = 2000;
+    private static final int DAY_CNT = 30;
+    private static final LocalDate LAST_DATE = LocalDate.of(2024, 6, 28);
+
+    @Param({"false", "true"})
+    public boolean indexed;
+
+    private JdbcTemplate jdbcTemplate;
+
+    @Setup
+    public void setup() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:bench_" + System.nanoTime() + ";MODE=MariaDB;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE stock (id BIGINT AUTO_INCREMENT PRIMARY KEY, symbol VARCHAR(255), name VARCHAR(255))");
+        jdbcTemplate.execute("CREATE TABLE stock_index ("
+                + "id BIGINT AUTO_INCREMENT PRIMARY KEY, "
+                + "last_sale DECIMAL(19,4), market_cap BIGINT, net_change DECIMAL(19,4), percent_change DECIMAL(19,4), "
+                + "as_of_date DATE, stock_id BIGINT, "
+                + "created_at TIMESTAMP(6) NOT NULL, updated_at TIMESTAMP(6))");
+        seed();
+        if (indexed) {
+            jdbcTemplate.execute("ALTER TABLE stock ADD CONSTRAINT uk_stock_symbol UNIQUE (symbol)");
+            jdbcTemplate.execute("ALTER TABLE stock_index ADD CONSTRAINT uk_stock_index_stock_date UNIQUE (stock_id, as_of_date)");
+            jdbcTemplate.execute("CREATE INDEX idx_stock_index_date_market_cap ON stock_index (as_of_date, market_cap)");
+        }
+    }
+
+    @Benchmark
+    public List<Map<String, Object>> findByStockAndAsOfDate() {
+        return jdbcTemplate.queryForList("SELECT * FROM stock_index WHERE stock_id = 1234 AND as_of_date = DATE '2024-06-28'");
+    }
+
+    @Benchmark
+    public List<Map<String, Object>> findTop10ByAsOfDateOrderByMarketCapDesc() {
+        return jdbcTemplate.queryForList("SELECT * FROM stock_index WHERE as_of_date = DATE '2024-06-28' ORDER BY market_cap DESC LIMIT 10");
+    }
+
+    @Benchmark
+    public List<Map<String, Object>> findBySymbol() {
+        return jdbcTemplate.queryForList("SELECT * FROM stock WHERE symbol = 'SYM1234'");
+    }
+
+    private void seed() {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> stockArgs = new ArrayList<>();
+        for (int i = 1; i <= STOCK_CNT; i++) {
+            stockArgs.add(new Object[]{"SYM" + i, "Stock " + i});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO stock (symbol, name) VALUES (?, ?)", stockArgs);
+
+        List<Object[]> indexArgs = new ArrayList<>();
+        for (int day = 0; day < DAY_CNT; day++) {
+            Date asOfDate = Date.valueOf(LAST_DATE.minusDays(day));
+            for (int i = 1; i <= STOCK_CNT; i++) {
+                indexArgs.add(new Object[]{"12.34", 1_000_000L * i + day, "0.12", "0.98", asOfDate, (long) i, now, now});
+            }
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO stock_index (last_sale, market_cap, net_change, percent_change, as_of_date, stock_id, created_at, updated_at) "
+                + "VALUES (?, ?, ?, ?, ?, ?, ?, ?)", indexArgs);
+    }
+}
@@ -0,0 +1,109 @@
+package com.hklim.finingserver.domain.ui.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.hklim.finingserver.domain.stock.dto.StockCacheDto;
+import com.hklim.finingserver.domain.stock.dto.StockIndexPointDto;
+import com.hklim.finingserver.domain.stock.entity.StockIndexRollup;
+import com.hklim.finingserver.domain.stock.repository.StockIndexRepository;
+import com.hklim.finingserver.domain.stock.repository.StockIndexRollupRepository;
+import com.hklim.finingserver.domain.stock.service.StockIndexSeriesService;
+import com.hklim.finingserver.domain.stock.service.StockService;
+import com.hklim.finingserver.domain.ui.dto.StockDetailUiDataResponseDto;
+import com.hklim.finingserver.global.entity.ResolutionType;
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/*
+* 종목 상세 화면 DTO 변환 (Repository 조회 결과 -> 응답 DTO -> JSON), 최대 페이지 500 건 기준
+* Repository / StockService 는 Mockito 로 대체 (조회 비용 제외, 호출 오버헤드는 DTO 변환 대비 무시 가능)
+*/
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class UiServiceBenchmark {
+    private static final int PAGE_SIZE = 500;
+    private static final LocalDate TO = LocalDate.of(2024, 6, 3);
+
+    private UiService uiService;
+    private ObjectMapper objectMapper;
+    private StockDetailUiDataResponseDto dailyResponse;
+
+    @Setup
+    public void setup() {
+        StockService stockService = Mockito.mock(StockService.class);
+        Mockito.when(stockService.findBySymbol("AAPL")).thenReturn(StockCacheDto.builder()
+                .id(1L).symbol("AAPL").name("Apple Inc. Common Stock").sector("Technology").country("United States")
+                .industry("Computer Manufacturing").ipoYear("1980").build());
+
+        StockIndexRepository stockIndexRepository = Mockito.mock(StockIndexRepository.class);
+        Mockito.when(stockIndexRepository.findIndexPoints(Mockito.anyLong(), Mockito.any(), Mockito.any(), Mockito.any()))
+                .thenReturn(createPoints());
+        StockIndexRollupRepository stockIndexRollupRepository = Mockito.mock(StockIndexRollupRepository.class);
+        Mockito.when(stockIndexRollupRepository.findRollups(Mockito.anyLong(), Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any()))
+                .thenReturn(createRollups());
+
+        StockIndexSeriesService stockIndexSeriesService = new StockIndexSeriesService(stockIndexRepository, stockIndexRollupRepository, PAGE_SIZE);
+        uiService = new UiService(null, stockService, null, null, null, null, stockIndexSeriesService, null);
+        objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        dailyResponse = stockDetailDaily();
+    }
+
+    @Benchmark
+    public StockDetailUiDataResponseDto stockDetailDaily() {
+        return uiService.getStockDetailData("AAPL", TO.minusYears(3), TO, ResolutionType.DAILY, null, PAGE_SIZE);
+    }
+
+    @Benchmark
+    public StockDetailUiDataResponseDto stockDetailWeekly() {
+        return uiService.getStockDetailData("AAPL", TO.minusYears(10), TO, ResolutionType.WEEKLY, null, PAGE_SIZE);
+    }
+
+    @Benchmark
+    public byte[] stockDetailDailyJson() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(dailyResponse);
+    }
+
+    // 조회 결과는 size + 1 건 (다음 페이지 존재)
+    private List<StockIndexPointDto> createPoints() {
+        List<StockIndexPointDto> points = new ArrayList<>(PAGE_SIZE + 1);
+        for (int i = 0; i <= PAGE_SIZE; i++) {
+            BigDecimal lastSale = new BigDecimal("190.1200").add(BigDecimal.valueOf(i % 17, 2));
+            points.add(new StockIndexPointDto(TO.minusDays(i), lastSale, 2_950_000_000_000L + i,
+                    new BigDecimal("1.2300"), new BigDecimal("0.6500")));
+        }
+        return points;
+    }
+
+    private List<StockIndexRollup> createRollups() {
+        List<StockIndexRollup> rollups = new ArrayList<>(PAGE_SIZE + 1);
+        LocalDate periodStart = ResolutionType.WEEKLY.bucketStart(TO);
+        for (int i = 0; i <= PAGE_SIZE; i++) {
+            BigDecimal lastSale = new BigDecimal("190.1200").add(BigDecimal.valueOf(i % 17, 2));
+            rollups.add(StockIndexRollup.builder()
+                    .resolution(ResolutionType.WEEKLY)
+                    .periodStart(periodStart.minusWeeks(i))
+                    .lastDate(periodStart.minusWeeks(i).plusDays(4))
+                    .openSale(lastSale.subtract(BigDecimal.ONE))
+                    .lastSale(lastSale)
+                    .minSale(lastSale.subtract(BigDecimal.TEN))
+                    .maxSale(lastSale.add(BigDecimal.TEN))
+                    .avgSale(lastSale)
+                    .marketCap(2_950_000_000_000L + i)
+                    .netChange(new BigDecimal("3.4500"))
+                    .rowCnt(5)
+                    .build());
+        }
+        return rollups;
+    }
+}
@@ -0,0 +1,60 @@
+package com.hklim.finingserver.global.batch;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hklim.finingserver.benchmark.BenchmarkPayloads;
+import com.hklim.finingserver.domain.stock.dto.StockDataResponseDto;
+import com.hklim.finingserver.domain.stock.entity.Stock;
+import com.hklim.finingserver.domain.stock.repository.StockRepository;
+import com.hklim.finingserver.domain.stock.service.StockSymbolResolver;
+import com.hklim.finingserver.global.utils.NumericParseUtils;
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/*
+* 크롤링 Row -> StockIndex 변환, op = 녹화된 1 페이지 (1000 Row)
+* marketCap : 시가총액 문자열 변환 (구 convertMarketCapStrToLong), process : 수치 변환 + Symbol 조회 + Entity 생성
+*/
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class StockIndexMappingBenchmark {
+    private List<StockDataResponseDto.Data.Table.Row> rows;
+    private StockIndexItemProcessor processor;
+
+    @Setup
+    public void setup() throws IOException {
+        ObjectMapper objectMapper = new ObjectMapper().configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+        rows = objectMapper.readValue(BenchmarkPayloads.read(BenchmarkPayloads.STOCK_PAGE), StockDataResponseDto.class)
+                .getData().getTable().getRows();
+
+        StockRepository stockRepository = Mockito.mock(StockRepository.class);
+        Mockito.when(stockRepository.findAll()).thenReturn(rows.stream()
+                .map(row -> Stock.builder().symbol(row.getSymbol()).name(row.getName()).build())
+                .toList());
+        StockSymbolResolver stockSymbolResolver = new StockSymbolResolver(stockRepository);
+        processor = new StockIndexItemProcessor(stockSymbolResolver, LocalDate.of(2024, 6, 3));
+        // Symbol Map 최초 로딩은 측정에서 제외
+        stockSymbolResolver.resolve(rows.get(0).getSymbol());
+    }
+
+    @Benchmark
+    public void marketCap(Blackhole blackhole) {
+        for (StockDataResponseDto.Data.Table.Row row : rows) {
+            blackhole.consume(NumericParseUtils.toLong(row.getMarketCap()));
+        }
+    }
+
+    @Benchmark
+    public void process(Blackhole blackhole) {
+        for (StockDataResponseDto.Data.Table.Row row : rows) {
+            blackhole.consume(processor.process(row));
+        }
+    }
+}
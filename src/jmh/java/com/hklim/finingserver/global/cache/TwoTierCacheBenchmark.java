@@ -0,0 +1,34 @@
+package com.hklim.finingserver.global.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hklim.finingserver.domain.stock.dto.StockCacheDto;
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/*
+* 2단계 캐시 L1 (Caffeine) hit 조회, Redis 는 mock (L1 hit 경로에서는 호출되지 않음)
+*/
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class TwoTierCacheBenchmark {
+    private TwoTierCache<StockCacheDto> cache;
+
+    @Setup
+    public void setup() {
+        StockCacheDto stock = StockCacheDto.builder().id(1L).symbol("AAPL").name("Apple Inc.").build();
+        cache = new TwoTierCache<>("stock:symbol", StockCacheDto.class, symbol -> stock,
+                Mockito.mock(StringRedisTemplate.class, Mockito.RETURNS_DEEP_STUBS), new ObjectMapper(),
+                1000, Duration.ofMinutes(10), Duration.ofHours(1));
+        cache.get("AAPL");
+    }
+
+    @Benchmark
+    public StockCacheDto l1Hit() {
+        return cache.get("AAPL");
+    }
+}
@@ -0,0 +1,46 @@
+package com.hklim.finingserver.global.utils;
+
+import com.hklim.finingserver.benchmark.BenchmarkPayloads;
+import com.hklim.finingserver.domain.indicators.dto.BondDataResponseDto;
+import com.hklim.finingserver.domain.indicators.dto.StockIndicatorsDataResponseDto;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/*
+* 크롤링 응답 JSON -> DTO 변환 (네트워크 제외)
+* stockPage : 종목 1페이지 (1000 Row) Streaming 변환, op = 1 페이지
+*/
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CrawlerUtilsBenchmark {
+    private byte[] stockPage;
+    private byte[] bond;
+    private byte[] stockIndicators;
+
+    @Setup
+    public void setup() {
+        stockPage = BenchmarkPayloads.read(BenchmarkPayloads.STOCK_PAGE);
+        bond = BenchmarkPayloads.read(BenchmarkPayloads.BOND);
+        stockIndicators = BenchmarkPayloads.read(BenchmarkPayloads.STOCK_INDICATORS);
+    }
+
+    @Benchmark
+    public int stockPage(Blackhole blackhole) throws IOException {
+        return CrawlerUtils.readStockPage(new ByteArrayInputStream(stockPage), blackhole::consume);
+    }
+
+    @Benchmark
+    public BondDataResponseDto bondData() throws IOException {
+        return CrawlerUtils.readBondData(new ByteArrayInputStream(bond));
+    }
+
+    @Benchmark
+    public StockIndicatorsDataResponseDto stockIndicatorData() throws IOException {
+        return CrawlerUtils.readStockIndicatorData(new ByteArrayInputStream(stockIndicators));
+    }
+}
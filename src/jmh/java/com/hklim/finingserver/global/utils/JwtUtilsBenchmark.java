@@ -0,0 +1,52 @@
+package com.hklim.finingserver.global.utils;
+
+import com.hklim.finingserver.domain.auth.dto.JwtUserInfo;
+import com.hklim.finingserver.domain.member.entity.RoleType;
+import com.hklim.finingserver.global.security.jwt.LogoutTokenRegistry;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+
+/*
+* 토큰 발급 / 검증, 로그아웃 토큰은 로컬 Filter 에서 걸러지는 경우 (Redis 조회 없음)
+* validateToken : 검증 캐시 hit, validateTokenUncached : 매번 서명 검증
+*/
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtUtilsBenchmark {
+    private JwtUtils jwtUtils;
+    private JwtUserInfo userInfo;
+    private String token;
+
+    @Setup
+    public void setup() {
+        LogoutTokenRegistry logoutTokenRegistry = Mockito.mock(LogoutTokenRegistry.class);
+        Mockito.when(logoutTokenRegistry.isReady()).thenReturn(true);
+        Mockito.when(logoutTokenRegistry.mightBeLogoutToken(Mockito.anyString())).thenReturn(false);
+        String secretKey = Base64.getEncoder().encodeToString(Keys.secretKeyFor(SignatureAlgorithm.HS256).getEncoded());
+        jwtUtils = new JwtUtils(secretKey, "3600", "86400", 10000, Mockito.mock(RedisUtils.class), logoutTokenRegistry);
+        userInfo = JwtUserInfo.builder().memberId(1L).email("bench@fining.com").role(RoleType.USER).build();
+        token = jwtUtils.createAccessToken(userInfo);
+    }
+
+    @Benchmark
+    public String createAccessToken() {
+        return jwtUtils.createAccessToken(userInfo);
+    }
+
+    @Benchmark
+    public boolean validateToken() {
+        return jwtUtils.validateToken(token);
+    }
+
+    @Benchmark
+    public boolean validateTokenUncached() {
+        jwtUtils.evictVerifiedToken(token);
+        return jwtUtils.validateToken(token);
+    }
+}
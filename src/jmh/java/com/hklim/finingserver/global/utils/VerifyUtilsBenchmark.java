@@ -0,0 +1,30 @@
+package com.hklim.finingserver.global.utils;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/*
+* 회원가입 / 로그인 입력 형식 검증 (통과하는 입력 기준)
+*/
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class VerifyUtilsBenchmark {
+    private final VerifyUtils verifyUtils = new VerifyUtils();
+
+    @Benchmark
+    public boolean emailFormat() {
+        return verifyUtils.isAvailableEmailFormat("bench.user_01@fining.co.kr");
+    }
+
+    @Benchmark
+    public boolean phoneNumberFormat() {
+        return verifyUtils.isAvailablePhoneNumberFormat("010-1234-5678");
+    }
+
+    @Benchmark
+    public boolean passwordFormat() {
+        return verifyUtils.isAvailablePasswordFormat("Fining!2024");
+    }
+}
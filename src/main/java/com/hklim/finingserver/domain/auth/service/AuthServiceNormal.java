@@ -9,6 +9,7 @@ import com.hklim.finingserver.domain.portfolio.service.PortfolioService;
 import com.hklim.finingserver.global.entity.RedisKeyType;
 import com.hklim.finingserver.global.exception.ApplicationErrorException;
 import com.hklim.finingserver.global.exception.ApplicationErrorType;
+import com.hklim.finingserver.global.security.jwt.LogoutTokenRegistry;
 import com.hklim.finingserver.global.utils.*;
 import io.lettuce.core.RedisException;
 import jakarta.servlet.http.Cookie;
@@ -54,6 +55,7 @@ public class AuthServiceNormal implements AuthService {
 
     private final MemberRepository memberRepository;
     private final JwtUtils jwtUtils;
+    private final LogoutTokenRegistry logoutTokenRegistry;
     private final AuthUtils authUtils;
     private final RedisUtils redisUtils;
     private final CookieUtils cookieUtils;
@@ -122,6 +124,8 @@ public class AuthServiceNormal implements AuthService {
         log.info("[LOGOUT PROCESS] Set accessToken to logout token list, START");
         try {
             redisUtils.setDataExpire(RedisKeyType.LOGOUT_TOKEN.getSeparator()+accessToken, String.valueOf(true), Long.parseLong(logoutExpTime));
+            jwtUtils.evictVerifiedToken(accessToken);
+            logoutTokenRegistry.register(accessToken);
         } catch (RedisException e) {
             throw new ApplicationErrorException(ApplicationErrorType.FAIL_JWT_LOGOUT, "[LOGOUT PROCESS] Logout failed. Please try again.");
         } finally {
@@ -194,6 +198,8 @@ public class AuthServiceNormal implements AuthService {
 
         try {
             redisUtils.setDataExpire(RedisKeyType.LOGOUT_TOKEN.getSeparator()+accessToken, String.valueOf(true), Long.parseLong(logoutExpTime));
+            jwtUtils.evictVerifiedToken(accessToken);
+            logoutTokenRegistry.register(accessToken);
         } catch (RedisException e) {
             throw new ApplicationErrorException(ApplicationErrorType.FAIL_WITHDRAWAL_MEMBER, "[WITHDRAWAL-MEMBER] Fail to resist redis, Unavailable token. Please try again.");
         } finally {
@@ -242,7 +248,6 @@ public class AuthServiceNormal implements AuthService {
         String email = inquiryPwInfo.getEmail();
         String name = inquiryPwInfo.getName();
         String phoneNumber = inquiryPwInfo.getPhoneNumber();
-        log.info("{}, {}, {}", email, name, phoneNumber);
         Member member = memberRepository.findByEmailAndNameAndPhoneNumber(email, name, phoneNumber).orElseThrow(
                 () -> new ApplicationErrorException(ApplicationErrorType.NOT_FOUND_MEMBER));
 
@@ -5,29 +5,26 @@ import com.hklim.finingserver.domain.auth.dto.EmailAuthenticationRequestDto;
 import com.hklim.finingserver.global.entity.RedisKeyType;
 import com.hklim.finingserver.global.exception.ApplicationErrorException;
 import com.hklim.finingserver.global.exception.ApplicationErrorType;
+import com.hklim.finingserver.global.mail.MailDispatcher;
+import com.hklim.finingserver.global.mail.MailRequest;
 import com.hklim.finingserver.global.utils.AuthUtils;
 import com.hklim.finingserver.global.utils.RedisUtils;
-import jakarta.mail.MessagingException;
-import jakarta.mail.internet.MimeMessage;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.mail.javamail.JavaMailSender;
-import org.springframework.mail.javamail.MimeMessageHelper;
 import org.springframework.stereotype.Service;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class MailService {
-    private final JavaMailSender javaMailSender;
+    private final MailDispatcher mailDispatcher;
     private final RedisUtils redisUtils;
     private final AuthUtils authUtils;
     @Value("${spring.data.redis.expiration_time.auth_code}")
     String authCodeExpTime;
 
-    @Transactional
     public void sendEmail(EmailAuthCodeRequestDto request) {
         log.info("[SEND EMAIL AUTH-CODE PROCESS] START");
         String authKey = authUtils.createAuthCode();
@@ -55,21 +52,18 @@ public class MailService {
         log.info("[AUTHENTICATE EMAIL PROCESS] Email authenticate END, SUCCESS! {email : {}", email + "}");
     }
 
+    /*
+    * 발송은 MailDispatcher Worker 에서 처리, 요청 Thread 는 Queue 적재 후 반환
+    */
     private void sendAuthEmail(String email, String authKey) {
         String subject = "[FINING] 이메일 인증을 위한 인증번호입니다.";
         String text = "메일 인증을 위한 인증번호는 " + authKey + " 입니다. <br/>";
-        try {
-            log.info("[SEND EMAIL AUTH-CODE PROCESS] Send email START {email : {}",email + "}");
-            MimeMessage mimeMessage = javaMailSender.createMimeMessage();
-            MimeMessageHelper helper = new MimeMessageHelper(mimeMessage, true, "utf-8");
-            helper.setTo(email);
-            helper.setSubject(subject);
-            helper.setText(text, true);
-            javaMailSender.send(mimeMessage);
-            log.info("[SEND EMAIL AUTH-CODE PROCESS] Send email END {email : {}",email +"}");
-        } catch (MessagingException e) {
-            throw new ApplicationErrorException(ApplicationErrorType.AUTHCODE_SEND_ERROR, e);
-        }
+        log.info("[SEND EMAIL AUTH-CODE PROCESS] Enqueue email {email : {}", email + "}");
+        mailDispatcher.enqueue(MailRequest.builder()
+                .to(email)
+                .subject(subject)
+                .text(text)
+                .build());
     }
 
     private void saveAuthCode(String email, String authKey) {
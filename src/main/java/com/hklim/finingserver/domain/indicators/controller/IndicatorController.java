@@ -2,28 +2,45 @@ package com.hklim.finingserver.domain.indicators.controller;
 
 import com.hklim.finingserver.domain.indicators.service.BondIndicatorsService;
 import com.hklim.finingserver.domain.indicators.service.StockIndicatorsService;
+import com.hklim.finingserver.domain.ui.service.MarketSnapshotService;
 import com.hklim.finingserver.global.dto.ResponseDto;
+import com.hklim.finingserver.global.dto.RollupRebuildResultDto;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.time.LocalDate;
+
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("/api/v1/indicator")
 public class IndicatorController {
     private final BondIndicatorsService bondIndicatorsService;
     private final StockIndicatorsService stockIndicatorService;
+    private final MarketSnapshotService marketSnapshotService;
     @PostMapping("/scrap/bond")
     public ResponseEntity<ResponseDto<String>> scrapBondIndicatorsData() {
         bondIndicatorsService.insertData();
+        marketSnapshotService.refresh();
         return ResponseDto.ok("채권 지수 데이터 크롤링 성공!");
     }
 
     @PostMapping("/scrap/stock")
     public ResponseEntity<ResponseDto<String>> scrapStockIndicatorsData() {
         stockIndicatorService.insertData();
+        marketSnapshotService.refresh();
         return ResponseDto.ok("주가 지수 데이터 크롤링 성공!");
     }
+
+    // 주간 / 월간 집계 재생성 (backfill)
+    @PostMapping("/scrap/rollup")
+    public ResponseEntity<ResponseDto<RollupRebuildResultDto>> rebuildIndicatorsIndexRollup(
+            @RequestParam(value = "from") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(value = "to") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return ResponseDto.ok(stockIndicatorService.rebuildIndexRollup(from, to));
+    }
 }
@@ -0,0 +1,34 @@
+package com.hklim.finingserver.domain.indicators.dto;
+
+import com.hklim.finingserver.domain.indicators.entity.Indicators;
+import com.hklim.finingserver.domain.indicators.entity.IndicatorsType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/*
+* 캐시용 Indicators 기준 정보 (연관관계 제외), 엔티티가 필요하면 id 로 참조 조회
+*/
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class IndicatorsCacheDto {
+    private Long id;
+    private String name;
+    private String symbol;
+    private IndicatorsType indicatorsType;
+
+    public static IndicatorsCacheDto from(Indicators indicators) {
+        if (indicators == null) {
+            return null;
+        }
+        return IndicatorsCacheDto.builder()
+                .id(indicators.getId())
+                .name(indicators.getName())
+                .symbol(indicators.getSymbol())
+                .indicatorsType(indicators.getIndicatorsType())
+                .build();
+    }
+}
@@ -0,0 +1,19 @@
+package com.hklim.finingserver.domain.indicators.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/*
+* 시계열 조회용 IndicatorsIndex projection
+*/
+@Getter
+@AllArgsConstructor
+public class IndicatorsIndexPointDto {
+    private LocalDate asOfDate;
+    private BigDecimal price;
+    private BigDecimal netChange;
+    private BigDecimal percentChange;
+}
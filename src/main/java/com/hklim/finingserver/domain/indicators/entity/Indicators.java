@@ -6,6 +6,8 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.OneToMany;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import jakarta.validation.constraints.NotNull;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -16,6 +18,7 @@ import java.util.List;
 
 
 @Entity
+@Table(name = "indicators", uniqueConstraints = @UniqueConstraint(name = "uk_indicators_symbol", columnNames = "symbol"))
 @Getter
 @AllArgsConstructor
 @NoArgsConstructor
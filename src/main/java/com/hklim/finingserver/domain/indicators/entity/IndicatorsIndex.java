@@ -7,17 +7,24 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+import java.math.BigDecimal;
 import java.time.LocalDate;
 
 @Entity
+@Table(name = "indicators_index",
+        uniqueConstraints = @UniqueConstraint(name = "uk_indicators_index_indicators_date", columnNames = {"indicators_id", "as_of_date"}),
+        indexes = @Index(name = "idx_indicators_index_date_type", columnList = "as_of_date, indicators_type"))
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
 public class IndicatorsIndex extends BaseEntity {
-    private String netChange;
-    private String percentChange;
-    private String price;
+    @Column(precision = 19, scale = 4)
+    private BigDecimal netChange;
+    @Column(precision = 19, scale = 4)
+    private BigDecimal percentChange;
+    @Column(precision = 19, scale = 4)
+    private BigDecimal price;
     private LocalDate asOfDate;
     @Enumerated(EnumType.STRING)
     private IndicatorsType indicatorsType;
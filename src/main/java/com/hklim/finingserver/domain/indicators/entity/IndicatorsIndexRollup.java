@@ -0,0 +1,47 @@
+package com.hklim.finingserver.domain.indicators.entity;
+
+import com.hklim.finingserver.global.entity.BaseEntity;
+import com.hklim.finingserver.global.entity.ResolutionType;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/*
+* IndicatorsIndex 주간 / 월간 집계, 일별 데이터 insert 후 해당 기간만 갱신 (IndicatorsIndexRollupBulkRepository)
+*/
+@Entity
+@Table(name = "indicators_index_rollup",
+        uniqueConstraints = @UniqueConstraint(name = "uk_indicators_index_rollup_period", columnNames = {"indicators_id", "resolution", "period_start"}))
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class IndicatorsIndexRollup extends BaseEntity {
+    @Enumerated(EnumType.STRING)
+    @Column(length = 10)
+    private ResolutionType resolution;
+    private LocalDate periodStart;
+    // 기간 내 마지막 데이터 날짜
+    private LocalDate lastDate;
+    @Column(precision = 19, scale = 4)
+    private BigDecimal lastPrice;
+    @Column(precision = 19, scale = 4)
+    private BigDecimal minPrice;
+    @Column(precision = 19, scale = 4)
+    private BigDecimal maxPrice;
+    @Column(precision = 19, scale = 4)
+    private BigDecimal avgPrice;
+    // 기간 내 일별 등락 합계 (직전 기간 종가 대비)
+    @Column(precision = 19, scale = 4)
+    private BigDecimal netChange;
+    private Integer rowCnt;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "indicators_id")
+    private Indicators indicators;
+}
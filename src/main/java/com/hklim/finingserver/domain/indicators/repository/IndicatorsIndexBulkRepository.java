@@ -0,0 +1,68 @@
+package com.hklim.finingserver.domain.indicators.repository;
+
+import com.hklim.finingserver.domain.indicators.entity.IndicatorsIndex;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/*
+* IndicatorsIndex JDBC Batch Insert, (indicators_id, as_of_date) unique key 기준 upsert
+*/
+@Slf4j
+@Repository
+public class IndicatorsIndexBulkRepository {
+    private static final String INSERT_SQL = "INSERT INTO indicators_index "
+            + "(net_change, percent_change, price, as_of_date, indicators_type, indicators_id, created_at, updated_at) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?) "
+            + "ON DUPLICATE KEY UPDATE net_change = VALUES(net_change), percent_change = VALUES(percent_change), "
+            + "price = VALUES(price), updated_at = VALUES(updated_at)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate chunkTransactionTemplate;
+    private final int chunkSize;
+
+    public IndicatorsIndexBulkRepository(JdbcTemplate jdbcTemplate,
+                                         PlatformTransactionManager transactionManager,
+                                         @Value("${service.batch.insert-chunk-size:1000}") int chunkSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.chunkTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkTransactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.chunkSize = chunkSize;
+    }
+
+    public int saveAll(List<IndicatorsIndex> indicatorsIndexList) {
+        int insertCnt = 0;
+        for (int from = 0; from < indicatorsIndexList.size(); from += chunkSize) {
+            List<IndicatorsIndex> chunk = indicatorsIndexList.subList(from, Math.min(from + chunkSize, indicatorsIndexList.size()));
+            insertCnt += chunkTransactionTemplate.execute(status -> insertBatch(chunk));
+            log.debug("[INDICATORS-INDEX-BULK-INSERT] Commit chunk. Inserted cnt : {}/{}", insertCnt, indicatorsIndexList.size());
+        }
+        return insertCnt;
+    }
+
+    public int insertBatch(List<IndicatorsIndex> indicatorsIndexList) {
+        if (indicatorsIndexList.isEmpty()) {
+            return 0;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(INSERT_SQL, indicatorsIndexList, indicatorsIndexList.size(), (ps, indicatorsIndex) -> {
+            ps.setBigDecimal(1, indicatorsIndex.getNetChange());
+            ps.setBigDecimal(2, indicatorsIndex.getPercentChange());
+            ps.setBigDecimal(3, indicatorsIndex.getPrice());
+            ps.setObject(4, indicatorsIndex.getAsOfDate());
+            ps.setString(5, indicatorsIndex.getIndicatorsType() == null ? null : indicatorsIndex.getIndicatorsType().name());
+            ps.setLong(6, indicatorsIndex.getIndicators().getId());
+            ps.setTimestamp(7, now);
+            ps.setTimestamp(8, now);
+        });
+        return indicatorsIndexList.size();
+    }
+}
@@ -1,9 +1,12 @@
 package com.hklim.finingserver.domain.indicators.repository;
 
-import com.hklim.finingserver.domain.indicators.entity.Indicators;
+import com.hklim.finingserver.domain.indicators.dto.IndicatorsIndexPointDto;
 import com.hklim.finingserver.domain.indicators.entity.IndicatorsIndex;
 import com.hklim.finingserver.domain.indicators.entity.IndicatorsType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDate;
 import java.util.List;
@@ -13,5 +16,16 @@ public interface IndicatorsIndexRepository extends JpaRepository<IndicatorsIndex
 
     List<IndicatorsIndex> findAllByAsOfDate(LocalDate now);
 
-    List<IndicatorsIndex> findAllByIndicatorsOrderByAsOfDateDesc(Indicators indicators);
+    /*
+    * [from, toExclusive) 구간 최신순, uk_indicators_index_indicators_date (indicators_id, as_of_date) 인덱스 범위 조회
+    */
+    @Query("SELECT new com.hklim.finingserver.domain.indicators.dto.IndicatorsIndexPointDto("
+            + "ii.asOfDate, ii.price, ii.netChange, ii.percentChange) "
+            + "FROM IndicatorsIndex ii "
+            + "WHERE ii.indicators.id = :indicatorsId AND ii.asOfDate >= :from AND ii.asOfDate < :toExclusive "
+            + "ORDER BY ii.asOfDate DESC")
+    List<IndicatorsIndexPointDto> findIndexPoints(@Param("indicatorsId") Long indicatorsId,
+                                                  @Param("from") LocalDate from,
+                                                  @Param("toExclusive") LocalDate toExclusive,
+                                                  Pageable pageable);
 }
@@ -0,0 +1,78 @@
+package com.hklim.finingserver.domain.indicators.repository;
+
+import com.hklim.finingserver.domain.indicators.entity.IndicatorsType;
+import com.hklim.finingserver.global.entity.ResolutionType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/*
+* IndicatorsIndex 주간 / 월간 집계 갱신
+* asOfDate 에 데이터가 저장된 지수만 대상으로, asOfDate 가 속한 기간의 일별 데이터만 다시 집계하여 upsert
+* 같은 날짜로 재실행해도 결과가 같음 (기간 재집계), rebuild 는 기간 내 모든 지표 재집계 (backfill)
+*/
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class IndicatorsIndexRollupBulkRepository {
+    private static final ResolutionType[] ROLLUP_RESOLUTIONS = {ResolutionType.WEEKLY, ResolutionType.MONTHLY};
+    private static final String ROLLUP_SQL = "INSERT INTO indicators_index_rollup "
+            + "(indicators_id, resolution, period_start, last_date, last_price, min_price, max_price, avg_price, net_change, row_cnt, created_at, updated_at) "
+            + "SELECT agg.indicators_id, ?, ?, agg.last_date, last_row.price, agg.min_price, agg.max_price, agg.avg_price, agg.net_change, agg.row_cnt, ?, ? "
+            + "FROM (SELECT ii.indicators_id, MAX(ii.as_of_date) AS last_date, MIN(ii.price) AS min_price, MAX(ii.price) AS max_price, "
+            + "ROUND(AVG(ii.price), 4) AS avg_price, SUM(ii.net_change) AS net_change, COUNT(*) AS row_cnt "
+            + "FROM indicators_index ii "
+            + "WHERE ii.as_of_date >= ? AND ii.as_of_date < ? %s"
+            + "GROUP BY ii.indicators_id) agg "
+            + "JOIN indicators_index last_row ON last_row.indicators_id = agg.indicators_id AND last_row.as_of_date = agg.last_date "
+            + "ON DUPLICATE KEY UPDATE last_date = VALUES(last_date), last_price = VALUES(last_price), min_price = VALUES(min_price), "
+            + "max_price = VALUES(max_price), avg_price = VALUES(avg_price), net_change = VALUES(net_change), "
+            + "row_cnt = VALUES(row_cnt), updated_at = VALUES(updated_at)";
+    private static final String DAILY_ROLLUP_SQL = String.format(ROLLUP_SQL,
+            "AND ii.indicators_id IN (SELECT t.indicators_id FROM indicators_index t WHERE t.as_of_date = ? AND t.indicators_type = ?) ");
+    private static final String REBUILD_SQL = String.format(ROLLUP_SQL, "");
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /*
+    * asOfDate 가 속한 주간, 월간 기간 갱신, upsert 행 수 반환
+    */
+    public int rollup(LocalDate asOfDate, IndicatorsType indicatorsType) {
+        int rollupCnt = 0;
+        for (ResolutionType resolution : ROLLUP_RESOLUTIONS) {
+            rollupCnt += rollupPeriod(resolution, asOfDate, indicatorsType);
+        }
+        log.info("[INDICATORS-INDEX-ROLLUP] Rollup indicators index. Date : {}, IndicatorsType : {}, Rollup cnt : {}", asOfDate, indicatorsType, rollupCnt);
+        return rollupCnt;
+    }
+
+    /*
+    * from ~ to 가 걸친 모든 주간, 월간 기간을 전체 지표 대상으로 재집계 (backfill), 재집계한 기간 수 반환
+    */
+    public int rebuild(LocalDate from, LocalDate to) {
+        int periodCnt = 0;
+        for (ResolutionType resolution : ROLLUP_RESOLUTIONS) {
+            for (LocalDate periodStart = resolution.bucketStart(from); !periodStart.isAfter(to); periodStart = periodStart.plus(1, resolution.getUnit())) {
+                LocalDate periodEnd = periodStart.plus(1, resolution.getUnit());
+                Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+                jdbcTemplate.update(REBUILD_SQL, resolution.name(), periodStart, now, now, periodStart, periodEnd);
+                periodCnt++;
+            }
+        }
+        log.info("[INDICATORS-INDEX-ROLLUP] Rebuild indicators index rollup. From : {}, To : {}, Period cnt : {}", from, to, periodCnt);
+        return periodCnt;
+    }
+
+    private int rollupPeriod(ResolutionType resolution, LocalDate asOfDate, IndicatorsType indicatorsType) {
+        LocalDate periodStart = resolution.bucketStart(asOfDate);
+        LocalDate periodEnd = periodStart.plus(1, resolution.getUnit());
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        return jdbcTemplate.update(DAILY_ROLLUP_SQL, resolution.name(), periodStart, now, now,
+                periodStart, periodEnd, asOfDate, indicatorsType.name());
+    }
+}
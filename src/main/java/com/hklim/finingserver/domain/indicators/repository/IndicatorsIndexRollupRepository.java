@@ -0,0 +1,27 @@
+package com.hklim.finingserver.domain.indicators.repository;
+
+import com.hklim.finingserver.domain.indicators.entity.IndicatorsIndexRollup;
+import com.hklim.finingserver.global.entity.ResolutionType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface IndicatorsIndexRollupRepository extends JpaRepository<IndicatorsIndexRollup, Long> {
+
+    /*
+    * [from, toExclusive) 기간 시작일 기준 최신순
+    */
+    @Query("SELECT r FROM IndicatorsIndexRollup r "
+            + "WHERE r.indicators.id = :indicatorsId AND r.resolution = :resolution "
+            + "AND r.periodStart >= :from AND r.periodStart < :toExclusive "
+            + "ORDER BY r.periodStart DESC")
+    List<IndicatorsIndexRollup> findRollups(@Param("indicatorsId") Long indicatorsId,
+                                            @Param("resolution") ResolutionType resolution,
+                                            @Param("from") LocalDate from,
+                                            @Param("toExclusive") LocalDate toExclusive,
+                                            Pageable pageable);
+}
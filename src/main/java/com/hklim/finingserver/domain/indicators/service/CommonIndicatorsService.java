@@ -1,11 +1,15 @@
 package com.hklim.finingserver.domain.indicators.service;
 
-import com.hklim.finingserver.domain.indicators.entity.Indicators;
+import com.hklim.finingserver.domain.indicators.dto.IndicatorsCacheDto;
 import com.hklim.finingserver.domain.indicators.entity.IndicatorsIndex;
 import com.hklim.finingserver.domain.indicators.entity.IndicatorsType;
 import com.hklim.finingserver.domain.indicators.repository.IndicatorsIndexRepository;
+import com.hklim.finingserver.domain.indicators.repository.IndicatorsIndexRollupBulkRepository;
 import com.hklim.finingserver.domain.indicators.repository.IndicatorsRepository;
 import com.hklim.finingserver.domain.ui.dto.MainUiDataResponseDto;
+import com.hklim.finingserver.global.dto.RollupRebuildResultDto;
+import com.hklim.finingserver.global.exception.ApplicationErrorException;
+import com.hklim.finingserver.global.exception.ApplicationErrorType;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -20,6 +24,8 @@ import java.util.List;
 public abstract class CommonIndicatorsService {
     private final IndicatorsIndexRepository indicatorsIndexRepository;
     private final IndicatorsRepository indicatorsRepository;
+    private final IndicatorsIndexRollupBulkRepository indicatorsIndexRollupBulkRepository;
+    private final IndicatorsCache indicatorsCache;
 
     /*
     * 날짜, 지수 종류 둘다 확인 필요
@@ -43,14 +49,46 @@ public abstract class CommonIndicatorsService {
         return indicatorDataList;
     }
 
-    public Indicators findBySymbol(String symbol){
-        log.info("[FIND-INDICATORS-DATA] Find Indicators data By Symbol, Symbol : {}", symbol);
-        return indicatorsRepository.findBySymbol(symbol);
+    /*
+    * 기준 정보 캐시 조회 (L1 로컬 -> L2 Redis -> DB)
+    */
+    public IndicatorsCacheDto findBySymbol(String symbol){
+        log.debug("[FIND-INDICATORS-DATA] Find Indicators data By Symbol, Symbol : {}", symbol);
+        return indicatorsCache.findBySymbol(symbol);
+    }
+
+    /*
+    * 신규 지표 저장 후 호출, 조회 결과 없음으로 캐시된 symbol 삭제
+    */
+    protected void evictIndicators(String symbol) {
+        indicatorsCache.invalidate(symbol);
     }
 
-    public List<IndicatorsIndex> getAllIndexOfIndicators(Indicators indicators) {
-        List<IndicatorsIndex> indicatorsIndexList = indicatorsIndexRepository.findAllByIndicatorsOrderByAsOfDateDesc(indicators);
-        log.info("[FIND-STOCK-INDEX-ALL] Find Stock Index Cnt : {}, Symbol : {}",indicatorsIndexList.size(), indicators.getSymbol());
-        return indicatorsIndexList;
+    /*
+    * 일별 데이터 insert 후 주간 / 월간 집계 갱신, 실패해도 일별 데이터는 유지 (다음 insert 또는 재집계 시 복구)
+    */
+    protected void rollupIndex(LocalDate asOfDate, IndicatorsType indicatorsType) {
+        try {
+            indicatorsIndexRollupBulkRepository.rollup(asOfDate, indicatorsType);
+        } catch (Exception e) {
+            log.error("[INDICATORS-INDEX-ROLLUP] Fail to rollup indicators index. Date : {}, IndicatorsType : {}", asOfDate, indicatorsType, e);
+        }
+    }
+
+    /*
+    * from ~ to 가 걸친 주간 / 월간 집계 재생성 (backfill, 전체 지표)
+    */
+    public RollupRebuildResultDto rebuildIndexRollup(LocalDate from, LocalDate to) {
+        if (from.isAfter(to)) {
+            throw new ApplicationErrorException(ApplicationErrorType.INVALID_DATA_ARGUMENT, "[INDICATORS-INDEX-ROLLUP] from date is after to date. ");
+        }
+        long start = System.currentTimeMillis();
+        int periodCnt = indicatorsIndexRollupBulkRepository.rebuild(from, to);
+        return RollupRebuildResultDto.builder()
+                .from(from)
+                .to(to)
+                .periodCnt(periodCnt)
+                .elapsedMillis(System.currentTimeMillis() - start)
+                .build();
     }
 }
@@ -0,0 +1,28 @@
+package com.hklim.finingserver.domain.indicators.service;
+
+import com.hklim.finingserver.domain.indicators.dto.IndicatorsCacheDto;
+import com.hklim.finingserver.domain.indicators.repository.IndicatorsRepository;
+import com.hklim.finingserver.global.cache.TwoTierCache;
+import com.hklim.finingserver.global.cache.TwoTierCacheManager;
+import org.springframework.stereotype.Component;
+
+/*
+* Indicators 기준 정보 캐시 (symbol), 신규 지표 저장 시 해당 symbol invalidate
+*/
+@Component
+public class IndicatorsCache {
+    private final TwoTierCache<IndicatorsCacheDto> bySymbol;
+
+    public IndicatorsCache(TwoTierCacheManager cacheManager, IndicatorsRepository indicatorsRepository) {
+        this.bySymbol = cacheManager.create("indicators:symbol", IndicatorsCacheDto.class,
+                symbol -> IndicatorsCacheDto.from(indicatorsRepository.findBySymbol(symbol)));
+    }
+
+    public IndicatorsCacheDto findBySymbol(String symbol) {
+        return bySymbol.get(symbol);
+    }
+
+    public void invalidate(String symbol) {
+        bySymbol.invalidate(symbol);
+    }
+}
@@ -0,0 +1,72 @@
+package com.hklim.finingserver.domain.indicators.service;
+
+import com.hklim.finingserver.domain.indicators.dto.IndicatorsIndexPointDto;
+import com.hklim.finingserver.domain.indicators.entity.IndicatorsIndexRollup;
+import com.hklim.finingserver.domain.indicators.repository.IndicatorsIndexRepository;
+import com.hklim.finingserver.domain.indicators.repository.IndicatorsIndexRollupRepository;
+import com.hklim.finingserver.domain.ui.dto.IndicatorsDetailUiDataResponseDto;
+import com.hklim.finingserver.global.dto.TimeSeriesPage;
+import com.hklim.finingserver.global.entity.ResolutionType;
+import com.hklim.finingserver.global.utils.TimeSeriesUtils;
+import com.hklim.finingserver.global.utils.TimeSeriesUtils.SeriesSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+
+/*
+* 지표 시계열 조회 (기간, 조회 단위, Keyset 페이지)
+* 일별은 IndicatorsIndex, 주간 / 월간은 미리 집계된 IndicatorsIndexRollup 조회
+*/
+@Service
+public class IndicatorsIndexSeriesService {
+    private final IndicatorsIndexRepository indicatorsIndexRepository;
+    private final IndicatorsIndexRollupRepository indicatorsIndexRollupRepository;
+    private final int maxSize;
+
+    public IndicatorsIndexSeriesService(IndicatorsIndexRepository indicatorsIndexRepository,
+                                        IndicatorsIndexRollupRepository indicatorsIndexRollupRepository,
+                                        @Value("${service.ui.series.max-size:500}") int maxSize) {
+        this.indicatorsIndexRepository = indicatorsIndexRepository;
+        this.indicatorsIndexRollupRepository = indicatorsIndexRollupRepository;
+        this.maxSize = maxSize;
+    }
+
+    /*
+    * from, to : 조회 기간 (포함), cursor : 이전 페이지의 nextCursor (해당 날짜 미만 조회)
+    */
+    public TimeSeriesPage<IndicatorsDetailUiDataResponseDto.IndicatorsIndexData> getIndexSeries(
+            Long indicatorsId, LocalDate from, LocalDate to, ResolutionType resolution, LocalDate cursor, int size) {
+        return TimeSeriesUtils.getSeries(from, to, resolution, cursor, size, maxSize,
+                SeriesSource.of((lower, upper, pageable) -> indicatorsIndexRepository.findIndexPoints(indicatorsId, lower, upper, pageable),
+                        IndicatorsIndexPointDto::getAsOfDate, this::toDailyIndexData),
+                SeriesSource.of((lower, upper, pageable) -> indicatorsIndexRollupRepository.findRollups(indicatorsId, resolution, lower, upper, pageable),
+                        IndicatorsIndexRollup::getPeriodStart, this::toRollupIndexData));
+    }
+
+    private IndicatorsDetailUiDataResponseDto.IndicatorsIndexData toDailyIndexData(IndicatorsIndexPointDto point) {
+        return IndicatorsDetailUiDataResponseDto.IndicatorsIndexData.builder()
+                .periodStart(point.getAsOfDate())
+                .minPrice(point.getPrice())
+                .maxPrice(point.getPrice())
+                .avgPrice(point.getPrice())
+                .netChange(point.getNetChange())
+                .percentChange(point.getPercentChange())
+                .price(point.getPrice())
+                .asOfDate(point.getAsOfDate())
+                .build();
+    }
+
+    private IndicatorsDetailUiDataResponseDto.IndicatorsIndexData toRollupIndexData(IndicatorsIndexRollup rollup) {
+        return IndicatorsDetailUiDataResponseDto.IndicatorsIndexData.builder()
+                .periodStart(rollup.getPeriodStart())
+                .minPrice(rollup.getMinPrice())
+                .maxPrice(rollup.getMaxPrice())
+                .avgPrice(rollup.getAvgPrice())
+                .netChange(rollup.getNetChange())
+                .percentChange(TimeSeriesUtils.toPercentChange(rollup.getLastPrice(), rollup.getNetChange()))
+                .price(rollup.getLastPrice())
+                .asOfDate(rollup.getLastDate())
+                .build();
+    }
+}
@@ -1,14 +1,18 @@
 package com.hklim.finingserver.domain.indicators.service;
 
 import com.hklim.finingserver.domain.indicators.dto.StockIndicatorsDataResponseDto;
+import com.hklim.finingserver.domain.indicators.dto.IndicatorsCacheDto;
 import com.hklim.finingserver.domain.indicators.entity.Indicators;
 import com.hklim.finingserver.domain.indicators.entity.IndicatorsIndex;
 import com.hklim.finingserver.domain.indicators.entity.IndicatorsType;
+import com.hklim.finingserver.domain.indicators.repository.IndicatorsIndexBulkRepository;
 import com.hklim.finingserver.domain.indicators.repository.IndicatorsIndexRepository;
+import com.hklim.finingserver.domain.indicators.repository.IndicatorsIndexRollupBulkRepository;
 import com.hklim.finingserver.domain.indicators.repository.IndicatorsRepository;
 import com.hklim.finingserver.global.exception.ApplicationErrorException;
 import com.hklim.finingserver.global.exception.ApplicationErrorType;
 import com.hklim.finingserver.global.utils.CrawlerUtils;
+import com.hklim.finingserver.global.utils.NumericParseUtils;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.annotation.Primary;
 import org.springframework.stereotype.Service;
@@ -23,12 +27,16 @@ import java.util.List;
 public class StockIndicatorsService extends CommonIndicatorsService implements IndicatorsService {
     private final IndicatorsRepository indicatorsRepository;
     private final IndicatorsIndexRepository indicatorsIndexRepository;
+    private final IndicatorsIndexBulkRepository indicatorsIndexBulkRepository;
     private final CrawlerUtils crawlerUtils;
 
-    public StockIndicatorsService(IndicatorsIndexRepository indicatorsIndexRepository, IndicatorsRepository indicatorsRepository, CrawlerUtils crawlerUtils) {
-        super(indicatorsIndexRepository, indicatorsRepository);
+    public StockIndicatorsService(IndicatorsIndexRepository indicatorsIndexRepository, IndicatorsRepository indicatorsRepository,
+                                  IndicatorsIndexBulkRepository indicatorsIndexBulkRepository, IndicatorsIndexRollupBulkRepository indicatorsIndexRollupBulkRepository,
+                                  IndicatorsCache indicatorsCache, CrawlerUtils crawlerUtils) {
+        super(indicatorsIndexRepository, indicatorsRepository, indicatorsIndexRollupBulkRepository, indicatorsCache);
         this.indicatorsRepository = indicatorsRepository;
         this.indicatorsIndexRepository = indicatorsIndexRepository;
+        this.indicatorsIndexBulkRepository = indicatorsIndexBulkRepository;
         this.crawlerUtils = crawlerUtils;
     }
 
@@ -43,23 +51,25 @@ public class StockIndicatorsService extends CommonIndicatorsService implements I
         try {
             log.info("[INDICATOR-CRAWLING] Stock Indicator Data Insert. ");
 
-            indicatorsIndexRepository.saveAll(indicatorsIndexList);
+            indicatorsIndexBulkRepository.saveAll(indicatorsIndexList);
         } catch (Exception e) {
             throw new ApplicationErrorException(ApplicationErrorType.FAIL_CRAWLING_SAVE, e);
         }
+        rollupIndex(LocalDate.now(), IndicatorsType.STOCK);
     }
     private void toEntityList(List<IndicatorsIndex> indicatorsIndexList, List<StockIndicatorsDataResponseDto.Data> dataList) {
         try {
             dataList.forEach(data -> {
-                Indicators indicators = indicatorsRepository.findBySymbol(data.getSymbol());
+                IndicatorsCacheDto indicators = findBySymbol(data.getSymbol());
                 if (indicators == null) {
                     log.info("[INDICATOR-CRAWLING] New Indicator Data Insert. Symbol : {}", data.getSymbol());
                     Indicators newIndicators = indicatorsRepository.save(new Indicators(data.getIndicatorsName(), data.getSymbol(), IndicatorsType.STOCK));
-                    indicatorsIndexList.add(new IndicatorsIndex(data.getNetChange(), data.getPercentChange(), data.getPrice(),
+                    evictIndicators(newIndicators.getSymbol());
+                    indicatorsIndexList.add(new IndicatorsIndex(NumericParseUtils.toDecimal(data.getNetChange()), NumericParseUtils.toDecimal(data.getPercentChange()), NumericParseUtils.toDecimal(data.getPrice()),
                             LocalDate.now(), newIndicators.getIndicatorsType(), newIndicators));
                 } else {
-                    indicatorsIndexList.add(new IndicatorsIndex(data.getNetChange(), data.getPercentChange(), data.getPrice(),
-                            LocalDate.now(), indicators.getIndicatorsType(), indicators));
+                    indicatorsIndexList.add(new IndicatorsIndex(NumericParseUtils.toDecimal(data.getNetChange()), NumericParseUtils.toDecimal(data.getPercentChange()), NumericParseUtils.toDecimal(data.getPrice()),
+                            LocalDate.now(), indicators.getIndicatorsType(), indicatorsRepository.getReferenceById(indicators.getId())));
                 }
             });
         } catch (Exception e) {
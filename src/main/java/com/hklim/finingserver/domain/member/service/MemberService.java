@@ -6,6 +6,7 @@ import com.hklim.finingserver.domain.member.entity.Member;
 import com.hklim.finingserver.domain.member.repository.MemberRepository;
 import com.hklim.finingserver.global.exception.ApplicationErrorException;
 import com.hklim.finingserver.global.exception.ApplicationErrorType;
+import com.hklim.finingserver.global.security.jwt.MemberStatusCache;
 import com.hklim.finingserver.global.utils.AuthUtils;
 import com.hklim.finingserver.global.utils.VerifyUtils;
 import lombok.RequiredArgsConstructor;
@@ -20,6 +21,7 @@ public class MemberService {
     private final MemberRepository memberRepository;
     private final AuthUtils authUtils;
     private final VerifyUtils verifyUtils;
+    private final MemberStatusCache memberStatusCache;
 
     public Member findMemberById(Long id) {
         Member member = memberRepository.findById(id).orElseThrow(() ->
@@ -36,6 +38,8 @@ public class MemberService {
 
     public void saveMember(Member member) {
         memberRepository.save(member);
+        // 탈퇴, 권한 변경 등 회원 상태 변경 반영 (transaction 안이면 commit 후)
+        memberStatusCache.invalidate(member.getId());
     }
 
     public void updateMember(UserDetails user, UpdateMemberRequestDto updateMemberInfo) {
@@ -3,9 +3,12 @@ package com.hklim.finingserver.domain.portfolio.repository;
 import com.hklim.finingserver.domain.member.entity.Member;
 import com.hklim.finingserver.domain.portfolio.entity.Portfolio;
 import com.hklim.finingserver.domain.stock.entity.Stock;
+import com.hklim.finingserver.domain.ui.dto.UiStockDataResponseDto;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 import java.util.Optional;
@@ -18,7 +21,22 @@ public interface PortfolioRepository extends JpaRepository<Portfolio, Long> {
 
     List<Portfolio> findAllByMember(Member member);
 
-    Page<Portfolio> findAllByMember(Member member, PageRequest pageRequest);
-
     void deleteAllByMember(Member member);
+
+    /*
+    * 포트폴리오 종목 + 종목별 최신 StockIndex 를 한번의 쿼리로 조회
+    * 지수 데이터가 없는 종목도 포함 (가격 정보 null)
+    */
+    String PORTFOLIO_STOCK_DATA_SELECT = "SELECT new com.hklim.finingserver.domain.ui.dto.UiStockDataResponseDto("
+            + "s.id, s.symbol, s.name, si.lastSale, si.marketCap, si.netChange, si.percentChange) "
+            + "FROM Portfolio p JOIN p.stock s LEFT JOIN StockIndex si ON si.stock = s "
+            + "WHERE p.member.id = :memberId "
+            + "AND (si.id IS NULL OR si.asOfDate = (SELECT MAX(latest.asOfDate) FROM StockIndex latest WHERE latest.stock = s)) ";
+
+    @Query(PORTFOLIO_STOCK_DATA_SELECT + "ORDER BY p.id")
+    List<UiStockDataResponseDto> findPortfolioStockDataByMemberId(@Param("memberId") Long memberId);
+
+    @Query(value = PORTFOLIO_STOCK_DATA_SELECT + "ORDER BY p.id",
+            countQuery = "SELECT COUNT(p) FROM Portfolio p WHERE p.member.id = :memberId")
+    Page<UiStockDataResponseDto> findPortfolioStockDataByMemberId(@Param("memberId") Long memberId, Pageable pageable);
 }
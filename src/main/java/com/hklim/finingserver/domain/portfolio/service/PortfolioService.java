@@ -7,6 +7,7 @@ import com.hklim.finingserver.domain.portfolio.dto.AddPortfolioDto;
 import com.hklim.finingserver.domain.portfolio.dto.CancelPortfolioDto;
 import com.hklim.finingserver.domain.portfolio.entity.Portfolio;
 import com.hklim.finingserver.domain.portfolio.repository.PortfolioRepository;
+import com.hklim.finingserver.domain.stock.dto.StockCacheDto;
 import com.hklim.finingserver.domain.stock.entity.Stock;
 import com.hklim.finingserver.domain.stock.entity.StockIndex;
 import com.hklim.finingserver.domain.stock.repository.StockIndexRepository;
@@ -16,6 +17,7 @@ import com.hklim.finingserver.domain.ui.dto.MainUiDataResponseDto;
 import com.hklim.finingserver.domain.ui.dto.UiStockDataResponseDto;
 import com.hklim.finingserver.global.exception.ApplicationErrorException;
 import com.hklim.finingserver.global.exception.ApplicationErrorType;
+import com.hklim.finingserver.global.logging.LogSampling;
 import jakarta.annotation.Nullable;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -24,7 +26,6 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDate;
-import java.util.ArrayList;
 import java.util.List;
 
 @Service
@@ -36,31 +37,33 @@ public class PortfolioService {
     private final StockService stockService;
 
     public void addPortfolio(String username, AddPortfolioDto.Request addPortfolioData) {
-        Stock stock = stockService.findBySymbol(addPortfolioData.getStockSymbol());
-        if (stock == null) {
+        StockCacheDto stockData = stockService.findBySymbol(addPortfolioData.getStockSymbol());
+        if (stockData == null) {
             throw new ApplicationErrorException(ApplicationErrorType.NOT_FOUND_STOCK);
         }
+        Stock stock = stockService.getStockReference(stockData.getId());
         Member member = memberService.findMemberById(Long.parseLong(username));
 
         if (portfolioRepository.existsByMemberAndStock(member, stock)){
             log.info("[ADD-PORTFOLIO] Already registered in the portfolio. ");
-            throw new ApplicationErrorException(ApplicationErrorType.FAIL_TO_SAVE_DATA, "[ADD-PORTFOLIO] This Stock is already registered in Portfolio. Symbol : " + stock.getSymbol());
+            throw new ApplicationErrorException(ApplicationErrorType.FAIL_TO_SAVE_DATA, "[ADD-PORTFOLIO] This Stock is already registered in Portfolio. Symbol : " + stockData.getSymbol());
         }
-        log.info("[ADD-PORTFOLIO] Insert Portfolio. member : {}, stock : {}", member.getEmail(), stock.getSymbol());
+        log.info("[ADD-PORTFOLIO] Insert Portfolio. member : {}, stock : {}", member.getEmail(), stockData.getSymbol());
         portfolioRepository.save(new Portfolio(member, stock));
     }
 
     public void cancelPortfolio(String username, CancelPortfolioDto.Request cancelPortfolioData) {
-        Stock stock = stockService.findBySymbol(cancelPortfolioData.getStockSymbol());
-        if (stock == null) {
+        StockCacheDto stockData = stockService.findBySymbol(cancelPortfolioData.getStockSymbol());
+        if (stockData == null) {
             throw new ApplicationErrorException(ApplicationErrorType.NOT_FOUND_STOCK);
         }
+        Stock stock = stockService.getStockReference(stockData.getId());
         Member member = memberService.findMemberById(Long.parseLong(username));
         Portfolio portfolio = portfolioRepository.findByMemberAndStock(member,stock).orElseThrow(() ->
-                new ApplicationErrorException(ApplicationErrorType.NOT_FOUND_PORTFOLIO,  "[ADD-PORTFOLIO] Fail to cancel Portfolio registration. stock is not found in Portfolio. Symbol : " + stock.getSymbol()));
+                new ApplicationErrorException(ApplicationErrorType.NOT_FOUND_PORTFOLIO,  "[ADD-PORTFOLIO] Fail to cancel Portfolio registration. stock is not found in Portfolio. Symbol : " + stockData.getSymbol()));
 
         try {
-            log.info("[CANCEL-PORTFOLIO] Cancel Portfolio registration. member : {}, stock : {}", member.getEmail(), stock.getSymbol());
+            log.info("[CANCEL-PORTFOLIO] Cancel Portfolio registration. member : {}, stock : {}", member.getEmail(), stockData.getSymbol());
             portfolioRepository.delete(portfolio);
         } catch (Exception e) {
             log.info("[CANCEL-PORTFOLIO] Fail to cancel Portfolio registration. Error message : {}", e.getMessage());
@@ -68,26 +71,18 @@ public class PortfolioService {
     }
 
     public List<UiStockDataResponseDto> getPortfolioStocks(String username) {
-        List<UiStockDataResponseDto> portfolioDataList = new ArrayList<>();
-        Member member = memberService.findMemberById(Long.parseLong(username));
-
-        log.info("[FIND-PORTFOLIO-INFO] Find personal portfolio data.");
-        List<Portfolio> portfolios = findAllByMember(member);
-        portfolios.forEach(portfolio ->
-                portfolioDataList.add(stockService.getPortfolioStockData(portfolio))
-                );
-        return portfolioDataList;
+        log.info(LogSampling.SAMPLED, "[FIND-PORTFOLIO-INFO] Find personal portfolio data.");
+        return portfolioRepository.findPortfolioStockDataByMemberId(Long.parseLong(username));
     }
 
     public List<Portfolio> findAllByMember(Member member) {
         return portfolioRepository.findAllByMember(member);
     }
 
-    public Page<Portfolio> getPortfolioStocksPagination(Member member, int pageNum) {
-        log.info("[FIND-PORTFOLIO-INFO] Find personal pagination portfolio data.");
+    public Page<UiStockDataResponseDto> getPortfolioStockDataPagination(Member member, int pageNum) {
+        log.info(LogSampling.SAMPLED, "[FIND-PORTFOLIO-INFO] Find personal pagination portfolio stock data.");
         PageRequest pageRequest = PageRequest.of(pageNum-1, 10);
-        Page<Portfolio> portfolios = portfolioRepository.findAllByMember(member, pageRequest);
-        return portfolios;
+        return portfolioRepository.findPortfolioStockDataByMemberId(member.getId(), pageRequest);
     }
 
     public void withdrawalMember(Member member) {
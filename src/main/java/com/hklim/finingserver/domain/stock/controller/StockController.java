@@ -2,16 +2,22 @@ package com.hklim.finingserver.domain.stock.controller;
 
 import com.hklim.finingserver.domain.stock.dto.InsertStockDataRequestDto;
 import com.hklim.finingserver.domain.stock.dto.SearchStockDataResponseDto;
+import com.hklim.finingserver.domain.stock.dto.StockCrawlingResultDto;
+import com.hklim.finingserver.domain.stock.dto.StockImportResultDto;
 import com.hklim.finingserver.domain.stock.service.StockService;
+import com.hklim.finingserver.domain.ui.service.MarketSnapshotService;
 import com.hklim.finingserver.global.dto.ResponseDto;
+import com.hklim.finingserver.global.dto.RollupRebuildResultDto;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.security.KeyManagementException;
 import java.security.KeyStoreException;
 import java.security.NoSuchAlgorithmException;
+import java.time.LocalDate;
 
 @RestController
 @RequestMapping("/api/v1/stock")
@@ -19,22 +25,33 @@ import java.security.NoSuchAlgorithmException;
 public class StockController {
 
     private final StockService stockService;
+    private final MarketSnapshotService marketSnapshotService;
 
     // 파일로 주식정보를 입력하는 api
     @PostMapping("/scrap/info")
-    public ResponseEntity<ResponseDto<String>> insertStockDataFromCSV(@RequestBody InsertStockDataRequestDto insertStockDataInfo) {
-        stockService.insertStockDataFromCSV(insertStockDataInfo);
-        return ResponseDto.ok("주식 데이터 파일 크롤링 성공");
+    public ResponseEntity<ResponseDto<StockImportResultDto>> insertStockDataFromCSV(@RequestBody InsertStockDataRequestDto insertStockDataInfo) {
+        return ResponseDto.ok(stockService.insertStockDataFromCSV(insertStockDataInfo));
     }
 
     @PostMapping("/scrap/index")
-    public ResponseEntity<ResponseDto<String>> scrapStockIndex() {
-        stockService.insertTotalData();
-            return ResponseDto.ok("주식 데이터 크롤링 성공");
+    public ResponseEntity<ResponseDto<StockCrawlingResultDto>> scrapStockIndex() {
+        StockCrawlingResultDto result = stockService.insertTotalData();
+        marketSnapshotService.refresh();
+        return ResponseDto.ok(result);
+    }
+
+    // 주간 / 월간 집계 재생성 (backfill)
+    @PostMapping("/scrap/rollup")
+    public ResponseEntity<ResponseDto<RollupRebuildResultDto>> rebuildStockIndexRollup(
+            @RequestParam(value = "from") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(value = "to") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return ResponseDto.ok(stockService.rebuildIndexRollup(from, to));
     }
 
     @GetMapping("/search")
-    public ResponseEntity<ResponseDto<SearchStockDataResponseDto>> searchStockData(@RequestParam(value = "keyword") String keyword) {
-        return ResponseDto.ok(stockService.searchStockData(keyword));
+    public ResponseEntity<ResponseDto<SearchStockDataResponseDto>> searchStockData(@RequestParam(value = "keyword") String keyword,
+                                                                              @RequestParam(value = "pageNum", defaultValue = "1") int pageNum,
+                                                                              @RequestParam(value = "size", defaultValue = "20") int size) {
+        return ResponseDto.ok(stockService.searchStockData(keyword, pageNum, size));
     }
 }
@@ -1,5 +1,6 @@
 package com.hklim.finingserver.domain.stock.dto;
 
+import com.hklim.finingserver.global.dto.PageInfo;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -14,6 +15,7 @@ import java.util.List;
 public class SearchStockDataResponseDto {
     private int searchCnt;
     private List<StockData> stockDataList;
+    private PageInfo pageInfo;
 
     @AllArgsConstructor
     @NoArgsConstructor
@@ -0,0 +1,39 @@
+package com.hklim.finingserver.domain.stock.dto;
+
+import com.hklim.finingserver.domain.stock.entity.Stock;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/*
+* 캐시용 Stock 기준 정보 (연관관계 제외), 엔티티가 필요하면 id 로 참조 조회
+*/
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class StockCacheDto {
+    private Long id;
+    private String symbol;
+    private String name;
+    private String sector;
+    private String country;
+    private String industry;
+    private String ipoYear;
+
+    public static StockCacheDto from(Stock stock) {
+        if (stock == null) {
+            return null;
+        }
+        return StockCacheDto.builder()
+                .id(stock.getId())
+                .symbol(stock.getSymbol())
+                .name(stock.getName())
+                .sector(stock.getSector())
+                .country(stock.getCountry())
+                .industry(stock.getIndustry())
+                .ipoYear(stock.getIpoYear())
+                .build();
+    }
+}
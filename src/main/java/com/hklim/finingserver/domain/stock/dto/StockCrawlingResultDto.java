@@ -0,0 +1,21 @@
+package com.hklim.finingserver.domain.stock.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class StockCrawlingResultDto {
+    private LocalDate asOfDate;
+    private int crawlingCnt;
+    private int insertCnt;
+    private int unknownSymbolCnt;
+    private List<String> unknownSymbols;
+}
@@ -2,6 +2,7 @@ package com.hklim.finingserver.domain.stock.dto;
 
 import com.hklim.finingserver.domain.stock.entity.Stock;
 import com.hklim.finingserver.domain.stock.entity.StockIndex;
+import com.hklim.finingserver.global.utils.NumericParseUtils;
 import com.opencsv.bean.CsvBindByName;
 import jakarta.validation.constraints.NotNull;
 import lombok.AllArgsConstructor;
@@ -48,10 +49,10 @@ public class StockDataFromCSVDto {
 
     public StockIndex toStockIndexEntity(Stock stock) {
         return StockIndex.builder()
-                .lastSale(this.lastSale)
-                .marketCap(Long.parseLong(this.marketCap))
-                .netChange(this.netChange)
-                .percentChange(this.change)
+                .lastSale(NumericParseUtils.toDecimal(this.lastSale))
+                .marketCap(NumericParseUtils.toLong(this.marketCap))
+                .netChange(NumericParseUtils.toDecimal(this.netChange))
+                .percentChange(NumericParseUtils.toDecimal(this.change))
                 .stock(stock)
                 .build();
     }
@@ -2,10 +2,14 @@ package com.hklim.finingserver.domain.stock.dto;
 
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.hklim.finingserver.domain.stock.entity.Stock;
+import com.hklim.finingserver.domain.stock.entity.StockIndex;
+import com.hklim.finingserver.global.utils.NumericParseUtils;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+import java.time.LocalDate;
 import java.util.List;
 
 @Getter
@@ -50,6 +54,17 @@ public class StockDataResponseDto {
                 private String pctchange;
                 @JsonProperty("marketCap")
                 private String marketCap;
+
+                public StockIndex toStockIndexEntity(Stock stock, LocalDate asOfDate) {
+                    return StockIndex.builder()
+                            .lastSale(NumericParseUtils.toDecimal(this.lastsale))
+                            .marketCap(NumericParseUtils.toLong(this.marketCap))
+                            .netChange(NumericParseUtils.toDecimal(this.netchange))
+                            .percentChange(NumericParseUtils.toDecimal(this.pctchange))
+                            .asOfDate(asOfDate)
+                            .stock(stock)
+                            .build();
+                }
             }
         }
 
@@ -0,0 +1,19 @@
+package com.hklim.finingserver.domain.stock.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class StockImportResultDto {
+    private int readCnt;
+    private int insertStockCnt;
+    private int updateStockCnt;
+    private int skipCnt;
+    private int chunkCnt;
+    private long elapsedMillis;
+}
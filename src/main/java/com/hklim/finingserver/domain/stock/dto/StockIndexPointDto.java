@@ -0,0 +1,20 @@
+package com.hklim.finingserver.domain.stock.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/*
+* 시계열 조회용 StockIndex projection
+*/
+@Getter
+@AllArgsConstructor
+public class StockIndexPointDto {
+    private LocalDate asOfDate;
+    private BigDecimal lastSale;
+    private Long marketCap;
+    private BigDecimal netChange;
+    private BigDecimal percentChange;
+}
@@ -5,6 +5,8 @@ import com.hklim.finingserver.domain.portfolio.entity.Portfolio;
 import com.hklim.finingserver.global.entity.BaseEntity;
 import jakarta.persistence.Entity;
 import jakarta.persistence.OneToMany;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import jakarta.validation.constraints.NotNull;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -15,6 +17,7 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
+@Table(name = "stock", uniqueConstraints = @UniqueConstraint(name = "uk_stock_symbol", columnNames = "symbol"))
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
@@ -1,28 +1,39 @@
 package com.hklim.finingserver.domain.stock.entity;
 
 import com.hklim.finingserver.global.entity.BaseEntity;
+import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import jakarta.validation.constraints.NotNull;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+import java.math.BigDecimal;
 import java.time.LocalDate;
 
 @Entity
+@Table(name = "stock_index",
+        uniqueConstraints = @UniqueConstraint(name = "uk_stock_index_stock_date", columnNames = {"stock_id", "as_of_date"}),
+        indexes = @Index(name = "idx_stock_index_date_market_cap", columnList = "as_of_date, market_cap"))
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
 public class StockIndex extends BaseEntity {
 
-    private String lastSale;
+    @Column(precision = 19, scale = 4)
+    private BigDecimal lastSale;
     private Long marketCap;
-    private String netChange;
-    private String percentChange;
+    @Column(precision = 19, scale = 4)
+    private BigDecimal netChange;
+    @Column(precision = 19, scale = 4)
+    private BigDecimal percentChange;
     private LocalDate asOfDate;
 
     @ManyToOne
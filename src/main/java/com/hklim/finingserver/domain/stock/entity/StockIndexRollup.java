@@ -0,0 +1,53 @@
+package com.hklim.finingserver.domain.stock.entity;
+
+import com.hklim.finingserver.global.entity.BaseEntity;
+import com.hklim.finingserver.global.entity.ResolutionType;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/*
+* StockIndex 주간 / 월간 집계, 일별 데이터 insert 후 해당 기간만 갱신 (StockIndexRollupBulkRepository)
+*/
+@Entity
+@Table(name = "stock_index_rollup",
+        uniqueConstraints = @UniqueConstraint(name = "uk_stock_index_rollup_period", columnNames = {"stock_id", "resolution", "period_start"}),
+        indexes = @Index(name = "idx_stock_index_rollup_period_rank", columnList = "resolution, period_start, market_cap_rank"))
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class StockIndexRollup extends BaseEntity {
+    @Enumerated(EnumType.STRING)
+    @Column(length = 10)
+    private ResolutionType resolution;
+    private LocalDate periodStart;
+    // 기간 내 마지막 데이터 날짜
+    private LocalDate lastDate;
+    @Column(precision = 19, scale = 4)
+    private BigDecimal openSale;
+    @Column(precision = 19, scale = 4)
+    private BigDecimal lastSale;
+    @Column(precision = 19, scale = 4)
+    private BigDecimal minSale;
+    @Column(precision = 19, scale = 4)
+    private BigDecimal maxSale;
+    @Column(precision = 19, scale = 4)
+    private BigDecimal avgSale;
+    // 기간 내 마지막 시가총액, 같은 기간 전체 종목 중 순위
+    private Long marketCap;
+    private Integer marketCapRank;
+    // 기간 내 일별 등락 합계 (직전 기간 종가 대비)
+    @Column(precision = 19, scale = 4)
+    private BigDecimal netChange;
+    private Integer rowCnt;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "stock_id")
+    private Stock stock;
+}
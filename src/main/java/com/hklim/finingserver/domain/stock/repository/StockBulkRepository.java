@@ -0,0 +1,64 @@
+package com.hklim.finingserver.domain.stock.repository;
+
+import com.hklim.finingserver.domain.stock.entity.Stock;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/*
+* Stock JDBC Batch Upsert, symbol unique key 기준 (재등록 시 종목 정보 갱신)
+* 현재 트랜잭션에 참여, chunk 단위 commit 은 호출 측에서 관리
+*/
+@Repository
+@RequiredArgsConstructor
+public class StockBulkRepository {
+    private static final String UPSERT_SQL = "INSERT INTO stock "
+            + "(symbol, name, sector, country, industry, ipo_year, created_at, updated_at) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?) "
+            + "ON DUPLICATE KEY UPDATE name = VALUES(name), sector = VALUES(sector), country = VALUES(country), "
+            + "industry = VALUES(industry), ipo_year = VALUES(ipo_year), updated_at = VALUES(updated_at)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public int upsertBatch(List<Stock> stockList) {
+        if (stockList.isEmpty()) {
+            return 0;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(UPSERT_SQL, stockList, stockList.size(), (ps, stock) -> {
+            ps.setString(1, stock.getSymbol());
+            ps.setString(2, stock.getName());
+            ps.setString(3, stock.getSector());
+            ps.setString(4, stock.getCountry());
+            ps.setString(5, stock.getIndustry());
+            ps.setString(6, stock.getIpoYear());
+            ps.setTimestamp(7, now);
+            ps.setTimestamp(8, now);
+        });
+        return stockList.size();
+    }
+
+    /*
+    * symbol -> stock id
+    */
+    public Map<String, Long> findIdsBySymbols(Collection<String> symbols) {
+        Map<String, Long> idMap = new HashMap<>(symbols.size() * 2);
+        if (symbols.isEmpty()) {
+            return idMap;
+        }
+        String sql = "SELECT id, symbol FROM stock WHERE symbol IN ("
+                + String.join(", ", Collections.nCopies(symbols.size(), "?")) + ")";
+        jdbcTemplate.query(sql, rs -> {
+            idMap.put(rs.getString("symbol"), rs.getLong("id"));
+        }, symbols.toArray());
+        return idMap;
+    }
+}
@@ -0,0 +1,81 @@
+package com.hklim.finingserver.domain.stock.repository;
+
+import com.hklim.finingserver.domain.stock.entity.StockIndex;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/*
+* StockIndex JDBC Batch Insert
+* BaseEntity 의 IDENTITY 전략으로 Hibernate batch insert 불가 -> JdbcTemplate batchUpdate 로 chunk 단위 insert
+* (stock_id, as_of_date) unique key 기준 upsert 로 재실행 시에도 중복 저장되지 않음
+*/
+@Slf4j
+@Repository
+public class StockIndexBulkRepository {
+    private static final String INSERT_SQL = "INSERT INTO stock_index "
+            + "(last_sale, market_cap, net_change, percent_change, as_of_date, stock_id, created_at, updated_at) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?) "
+            + "ON DUPLICATE KEY UPDATE last_sale = VALUES(last_sale), market_cap = VALUES(market_cap), "
+            + "net_change = VALUES(net_change), percent_change = VALUES(percent_change), updated_at = VALUES(updated_at)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate chunkTransactionTemplate;
+    private final int chunkSize;
+
+    public StockIndexBulkRepository(JdbcTemplate jdbcTemplate,
+                                    PlatformTransactionManager transactionManager,
+                                    @Value("${service.batch.insert-chunk-size:1000}") int chunkSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.chunkTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkTransactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.chunkSize = chunkSize;
+    }
+
+    /*
+    * chunk 단위로 나누어 chunk 마다 commit
+    */
+    public int saveAll(List<StockIndex> stockIndexList) {
+        int insertCnt = 0;
+        for (int from = 0; from < stockIndexList.size(); from += chunkSize) {
+            List<StockIndex> chunk = stockIndexList.subList(from, Math.min(from + chunkSize, stockIndexList.size()));
+            insertCnt += chunkTransactionTemplate.execute(status -> insertBatch(chunk));
+            log.debug("[STOCK-INDEX-BULK-INSERT] Commit chunk. Inserted cnt : {}/{}", insertCnt, stockIndexList.size());
+        }
+        return insertCnt;
+    }
+
+    /*
+    * 현재 트랜잭션에 참여하여 한번의 batch 로 insert
+    */
+    public int insertBatch(List<StockIndex> stockIndexList) {
+        if (stockIndexList.isEmpty()) {
+            return 0;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(INSERT_SQL, stockIndexList, stockIndexList.size(), (ps, stockIndex) -> {
+            ps.setBigDecimal(1, stockIndex.getLastSale());
+            if (stockIndex.getMarketCap() == null) {
+                ps.setNull(2, Types.BIGINT);
+            } else {
+                ps.setLong(2, stockIndex.getMarketCap());
+            }
+            ps.setBigDecimal(3, stockIndex.getNetChange());
+            ps.setBigDecimal(4, stockIndex.getPercentChange());
+            ps.setObject(5, stockIndex.getAsOfDate());
+            ps.setLong(6, stockIndex.getStock().getId());
+            ps.setTimestamp(7, now);
+            ps.setTimestamp(8, now);
+        });
+        return stockIndexList.size();
+    }
+}
@@ -1,8 +1,11 @@
 package com.hklim.finingserver.domain.stock.repository;
 
-import com.hklim.finingserver.domain.stock.entity.Stock;
+import com.hklim.finingserver.domain.stock.dto.StockIndexPointDto;
 import com.hklim.finingserver.domain.stock.entity.StockIndex;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDate;
 import java.util.List;
@@ -12,9 +15,18 @@ public interface StockIndexRepository extends JpaRepository<StockIndex, Long> {
 
     boolean existsByAsOfDate(LocalDate asOfDate);
 
-    StockIndex findByStockAndAsOfDate(Stock stock, LocalDate today);
-
     List<StockIndex> findTop10ByAsOfDateOrderByMarketCapDesc(LocalDate now);
 
-    List<StockIndex> findAllByStockOrderByAsOfDateDesc(Stock stock);
+    /*
+    * [from, toExclusive) 구간 최신순, uk_stock_index_stock_date (stock_id, as_of_date) 인덱스 범위 조회
+    */
+    @Query("SELECT new com.hklim.finingserver.domain.stock.dto.StockIndexPointDto("
+            + "si.asOfDate, si.lastSale, si.marketCap, si.netChange, si.percentChange) "
+            + "FROM StockIndex si "
+            + "WHERE si.stock.id = :stockId AND si.asOfDate >= :from AND si.asOfDate < :toExclusive "
+            + "ORDER BY si.asOfDate DESC")
+    List<StockIndexPointDto> findIndexPoints(@Param("stockId") Long stockId,
+                                             @Param("from") LocalDate from,
+                                             @Param("toExclusive") LocalDate toExclusive,
+                                             Pageable pageable);
 }
@@ -0,0 +1,134 @@
+package com.hklim.finingserver.domain.stock.repository;
+
+import com.hklim.finingserver.global.entity.ResolutionType;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/*
+* StockIndex 주간 / 월간 집계 갱신
+* rollup : asOfDate 에 데이터가 저장된 종목만 대상으로, asOfDate 가 속한 기간의 일별 데이터만 다시 집계하여 upsert
+* rebuild : 기간 내 모든 종목 재집계 (backfill)
+* 기간 재집계 후 같은 기간 전체 종목의 시가총액 순위 갱신, 기간 단위로 commit
+*/
+@Slf4j
+@Repository
+public class StockIndexRollupBulkRepository {
+    private static final ResolutionType[] ROLLUP_RESOLUTIONS = {ResolutionType.WEEKLY, ResolutionType.MONTHLY};
+    private static final String ROLLUP_SQL = "INSERT INTO stock_index_rollup "
+            + "(stock_id, resolution, period_start, last_date, open_sale, last_sale, min_sale, max_sale, avg_sale, "
+            + "market_cap, net_change, row_cnt, created_at, updated_at) "
+            + "SELECT agg.stock_id, ?, ?, agg.last_date, first_row.last_sale, last_row.last_sale, agg.min_sale, agg.max_sale, agg.avg_sale, "
+            + "last_row.market_cap, agg.net_change, agg.row_cnt, ?, ? "
+            + "FROM (SELECT si.stock_id, MIN(si.as_of_date) AS first_date, MAX(si.as_of_date) AS last_date, "
+            + "MIN(si.last_sale) AS min_sale, MAX(si.last_sale) AS max_sale, ROUND(AVG(si.last_sale), 4) AS avg_sale, "
+            + "SUM(si.net_change) AS net_change, COUNT(*) AS row_cnt "
+            + "FROM stock_index si "
+            + "WHERE si.as_of_date >= ? AND si.as_of_date < ? %s"
+            + "GROUP BY si.stock_id) agg "
+            + "JOIN stock_index first_row ON first_row.stock_id = agg.stock_id AND first_row.as_of_date = agg.first_date "
+            + "JOIN stock_index last_row ON last_row.stock_id = agg.stock_id AND last_row.as_of_date = agg.last_date "
+            + "ON DUPLICATE KEY UPDATE last_date = VALUES(last_date), open_sale = VALUES(open_sale), last_sale = VALUES(last_sale), "
+            + "min_sale = VALUES(min_sale), max_sale = VALUES(max_sale), avg_sale = VALUES(avg_sale), market_cap = VALUES(market_cap), "
+            + "net_change = VALUES(net_change), row_cnt = VALUES(row_cnt), updated_at = VALUES(updated_at)";
+    private static final String DAILY_ROLLUP_SQL = String.format(ROLLUP_SQL,
+            "AND si.stock_id IN (SELECT t.stock_id FROM stock_index t WHERE t.as_of_date = ?) ");
+    private static final String REBUILD_SQL = String.format(ROLLUP_SQL, "");
+    private static final String RANK_SELECT_SQL = "SELECT id, market_cap, market_cap_rank FROM stock_index_rollup "
+            + "WHERE resolution = ? AND period_start = ? AND market_cap IS NOT NULL ORDER BY market_cap DESC";
+    private static final String RANK_RESET_SQL = "UPDATE stock_index_rollup SET market_cap_rank = NULL "
+            + "WHERE resolution = ? AND period_start = ? AND market_cap IS NULL AND market_cap_rank IS NOT NULL";
+    private static final String RANK_UPDATE_SQL = "UPDATE stock_index_rollup SET market_cap_rank = ? WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate periodTransactionTemplate;
+
+    public StockIndexRollupBulkRepository(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.periodTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.periodTransactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /*
+    * asOfDate 가 속한 주간, 월간 기간 갱신, upsert 행 수 반환
+    */
+    public int rollup(LocalDate asOfDate) {
+        int rollupCnt = 0;
+        for (ResolutionType resolution : ROLLUP_RESOLUTIONS) {
+            LocalDate periodStart = resolution.bucketStart(asOfDate);
+            rollupCnt += periodTransactionTemplate.execute(status -> rollupPeriod(resolution, periodStart, asOfDate));
+        }
+        log.info("[STOCK-INDEX-ROLLUP] Rollup stock index. Date : {}, Rollup cnt : {}", asOfDate, rollupCnt);
+        return rollupCnt;
+    }
+
+    /*
+    * from ~ to 가 걸친 모든 주간, 월간 기간 재집계, 재집계한 기간 수 반환
+    */
+    public int rebuild(LocalDate from, LocalDate to) {
+        int periodCnt = 0;
+        for (ResolutionType resolution : ROLLUP_RESOLUTIONS) {
+            for (LocalDate periodStart = resolution.bucketStart(from); !periodStart.isAfter(to); periodStart = periodStart.plus(1, resolution.getUnit())) {
+                LocalDate target = periodStart;
+                int rollupCnt = periodTransactionTemplate.execute(status -> rollupPeriod(resolution, target, null));
+                log.debug("[STOCK-INDEX-ROLLUP] Rebuild {} period : {}, Rollup cnt : {}", resolution, target, rollupCnt);
+                periodCnt++;
+            }
+        }
+        log.info("[STOCK-INDEX-ROLLUP] Rebuild stock index rollup. From : {}, To : {}, Period cnt : {}", from, to, periodCnt);
+        return periodCnt;
+    }
+
+    private int rollupPeriod(ResolutionType resolution, LocalDate periodStart, LocalDate asOfDate) {
+        LocalDate periodEnd = periodStart.plus(1, resolution.getUnit());
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        int rollupCnt = asOfDate == null
+                ? jdbcTemplate.update(REBUILD_SQL, resolution.name(), periodStart, now, now, periodStart, periodEnd)
+                : jdbcTemplate.update(DAILY_ROLLUP_SQL, resolution.name(), periodStart, now, now, periodStart, periodEnd, asOfDate);
+        updateMarketCapRank(resolution, periodStart);
+        return rollupCnt;
+    }
+
+    /*
+    * 시가총액 내림차순 순위, 같은 시가총액은 같은 순위, 순위가 바뀐 행만 update
+    */
+    private void updateMarketCapRank(ResolutionType resolution, LocalDate periodStart) {
+        List<Object[]> rankParams = new ArrayList<>();
+        jdbcTemplate.query(RANK_SELECT_SQL, new RowCallbackHandler() {
+            private int rowCnt;
+            private int rank;
+            private long prevMarketCap = Long.MIN_VALUE;
+
+            @Override
+            public void processRow(ResultSet rs) throws SQLException {
+                rowCnt++;
+                long marketCap = rs.getLong("market_cap");
+                if (marketCap != prevMarketCap) {
+                    rank = rowCnt;
+                    prevMarketCap = marketCap;
+                }
+                int currentRank = rs.getInt("market_cap_rank");
+                if (rs.wasNull() || currentRank != rank) {
+                    rankParams.add(new Object[]{rank, rs.getLong("id")});
+                }
+            }
+        }, resolution.name(), periodStart);
+        jdbcTemplate.update(RANK_RESET_SQL, resolution.name(), periodStart);
+        if (!rankParams.isEmpty()) {
+            jdbcTemplate.batchUpdate(RANK_UPDATE_SQL, rankParams);
+        }
+        log.debug("[STOCK-INDEX-ROLLUP] Update {} market cap rank. Period : {}, Changed cnt : {}", resolution, periodStart, rankParams.size());
+    }
+}
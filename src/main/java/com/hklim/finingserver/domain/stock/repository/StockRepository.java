@@ -10,6 +10,4 @@ import java.util.Optional;
 public interface StockRepository extends JpaRepository<Stock, Long> {
 
     Stock findBySymbol(String symbol);
-
-    List<Stock> findByNameContainingOrSymbolContaining(String keyword, String keyword1);
 }
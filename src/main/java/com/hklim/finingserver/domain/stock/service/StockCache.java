@@ -0,0 +1,28 @@
+package com.hklim.finingserver.domain.stock.service;
+
+import com.hklim.finingserver.domain.stock.dto.StockCacheDto;
+import com.hklim.finingserver.domain.stock.repository.StockRepository;
+import com.hklim.finingserver.global.cache.TwoTierCache;
+import com.hklim.finingserver.global.cache.TwoTierCacheManager;
+import org.springframework.stereotype.Component;
+
+/*
+* Stock 기준 정보 캐시 (symbol), CSV 등록 등 Stock 변경 시 invalidateAll
+*/
+@Component
+public class StockCache {
+    private final TwoTierCache<StockCacheDto> bySymbol;
+
+    public StockCache(TwoTierCacheManager cacheManager, StockRepository stockRepository) {
+        this.bySymbol = cacheManager.create("stock:symbol", StockCacheDto.class,
+                symbol -> StockCacheDto.from(stockRepository.findBySymbol(symbol)));
+    }
+
+    public StockCacheDto findBySymbol(String symbol) {
+        return bySymbol.get(symbol);
+    }
+
+    public void invalidateAll() {
+        bySymbol.invalidateAll();
+    }
+}
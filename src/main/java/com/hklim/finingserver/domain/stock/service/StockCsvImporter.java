@@ -0,0 +1,123 @@
+package com.hklim.finingserver.domain.stock.service;
+
+import com.hklim.finingserver.domain.stock.dto.StockDataFromCSVDto;
+import com.hklim.finingserver.domain.stock.dto.StockImportResultDto;
+import com.hklim.finingserver.domain.stock.entity.Stock;
+import com.hklim.finingserver.domain.stock.entity.StockIndex;
+import com.hklim.finingserver.domain.stock.repository.StockBulkRepository;
+import com.hklim.finingserver.domain.stock.repository.StockIndexBulkRepository;
+import com.hklim.finingserver.domain.stock.repository.StockRepository;
+import com.hklim.finingserver.global.utils.FileUtils;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/*
+* 종목 CSV 파일 Streaming 등록
+* chunk 단위로 읽어 Stock symbol 기준 upsert, 신규 종목만 초기 StockIndex insert, chunk 마다 commit
+*/
+@Slf4j
+@Component
+public class StockCsvImporter {
+    private final FileUtils fileUtils;
+    private final StockRepository stockRepository;
+    private final StockBulkRepository stockBulkRepository;
+    private final StockIndexBulkRepository stockIndexBulkRepository;
+    private final TransactionTemplate chunkTransactionTemplate;
+    private final int chunkSize;
+
+    public StockCsvImporter(FileUtils fileUtils,
+                            StockRepository stockRepository,
+                            StockBulkRepository stockBulkRepository,
+                            StockIndexBulkRepository stockIndexBulkRepository,
+                            PlatformTransactionManager transactionManager,
+                            @Value("${service.stock.csv.chunk-size:1000}") int chunkSize) {
+        this.fileUtils = fileUtils;
+        this.stockRepository = stockRepository;
+        this.stockBulkRepository = stockBulkRepository;
+        this.stockIndexBulkRepository = stockIndexBulkRepository;
+        this.chunkTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkTransactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.chunkSize = chunkSize;
+    }
+
+    public StockImportResultDto importFile(String fileFullPath) {
+        long start = System.currentTimeMillis();
+        ImportProgress progress = new ImportProgress();
+        int readCnt = fileUtils.readCSVFileInChunks(fileFullPath, chunkSize, chunk -> {
+            ImportProgress chunkProgress = chunkTransactionTemplate.execute(status -> importChunk(chunk));
+            progress.add(chunkProgress);
+            log.info("[INSERT-STOCK-DATA] Commit chunk {}. Insert stock cnt : {}, Update stock cnt : {}, Skip cnt : {}",
+                    progress.chunkCnt, progress.insertCnt, progress.updateCnt, progress.skipCnt);
+        });
+        return StockImportResultDto.builder()
+                .readCnt(readCnt)
+                .insertStockCnt(progress.insertCnt)
+                .updateStockCnt(progress.updateCnt)
+                .skipCnt(progress.skipCnt)
+                .chunkCnt(progress.chunkCnt)
+                .elapsedMillis(System.currentTimeMillis() - start)
+                .build();
+    }
+
+    private ImportProgress importChunk(List<StockDataFromCSVDto> chunk) {
+        ImportProgress chunkProgress = new ImportProgress();
+        chunkProgress.chunkCnt = 1;
+
+        // 같은 chunk 안의 중복 symbol 은 마지막 행 기준
+        Map<String, StockDataFromCSVDto> stockDataMap = new LinkedHashMap<>();
+        int blankSymbolCnt = 0;
+        for (StockDataFromCSVDto stockData : chunk) {
+            if (stockData.getSymbol() == null || stockData.getSymbol().isBlank()) {
+                blankSymbolCnt++;
+                continue;
+            }
+            stockDataMap.put(stockData.getSymbol(), stockData);
+        }
+        int duplicateSymbolCnt = chunk.size() - blankSymbolCnt - stockDataMap.size();
+        chunkProgress.skipCnt = blankSymbolCnt + duplicateSymbolCnt;
+
+        Map<String, Long> existingIdMap = stockBulkRepository.findIdsBySymbols(stockDataMap.keySet());
+        List<Stock> stockList = stockDataMap.values().stream().map(StockDataFromCSVDto::toStockEntity).toList();
+        stockBulkRepository.upsertBatch(stockList);
+
+        List<String> newSymbols = stockDataMap.keySet().stream()
+                .filter(symbol -> !existingIdMap.containsKey(symbol))
+                .toList();
+        Map<String, Long> newIdMap = stockBulkRepository.findIdsBySymbols(newSymbols);
+        List<StockIndex> stockIndexList = new ArrayList<>(newSymbols.size());
+        newSymbols.forEach(symbol -> {
+            Long stockId = newIdMap.get(symbol);
+            if (stockId != null) {
+                stockIndexList.add(stockDataMap.get(symbol).toStockIndexEntity(stockRepository.getReferenceById(stockId)));
+            }
+        });
+        stockIndexBulkRepository.insertBatch(stockIndexList);
+
+        chunkProgress.insertCnt = newSymbols.size();
+        chunkProgress.updateCnt = existingIdMap.size();
+        return chunkProgress;
+    }
+
+    private static class ImportProgress {
+        private int insertCnt;
+        private int updateCnt;
+        private int skipCnt;
+        private int chunkCnt;
+
+        void add(ImportProgress other) {
+            insertCnt += other.insertCnt;
+            updateCnt += other.updateCnt;
+            skipCnt += other.skipCnt;
+            chunkCnt += other.chunkCnt;
+        }
+    }
+}
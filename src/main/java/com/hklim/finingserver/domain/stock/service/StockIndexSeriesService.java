@@ -0,0 +1,75 @@
+package com.hklim.finingserver.domain.stock.service;
+
+import com.hklim.finingserver.domain.stock.dto.StockIndexPointDto;
+import com.hklim.finingserver.domain.stock.entity.StockIndexRollup;
+import com.hklim.finingserver.domain.stock.repository.StockIndexRepository;
+import com.hklim.finingserver.domain.stock.repository.StockIndexRollupRepository;
+import com.hklim.finingserver.domain.ui.dto.StockDetailUiDataResponseDto;
+import com.hklim.finingserver.global.dto.TimeSeriesPage;
+import com.hklim.finingserver.global.entity.ResolutionType;
+import com.hklim.finingserver.global.utils.TimeSeriesUtils;
+import com.hklim.finingserver.global.utils.TimeSeriesUtils.SeriesSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+
+/*
+* 종목 지수 시계열 조회 (기간, 조회 단위, Keyset 페이지)
+* 최신순으로 size 건 (주간 / 월간은 size 개 기간) 조회, cursor 이전 데이터는 nextCursor 로 이어서 조회
+* 일별은 StockIndex, 주간 / 월간은 미리 집계된 StockIndexRollup 조회
+*/
+@Service
+public class StockIndexSeriesService {
+    private final StockIndexRepository stockIndexRepository;
+    private final StockIndexRollupRepository stockIndexRollupRepository;
+    private final int maxSize;
+
+    public StockIndexSeriesService(StockIndexRepository stockIndexRepository,
+                                   StockIndexRollupRepository stockIndexRollupRepository,
+                                   @Value("${service.ui.series.max-size:500}") int maxSize) {
+        this.stockIndexRepository = stockIndexRepository;
+        this.stockIndexRollupRepository = stockIndexRollupRepository;
+        this.maxSize = maxSize;
+    }
+
+    /*
+    * from, to : 조회 기간 (포함), cursor : 이전 페이지의 nextCursor (해당 날짜 미만 조회)
+    */
+    public TimeSeriesPage<StockDetailUiDataResponseDto.StockDetailIndexData> getIndexSeries(
+            Long stockId, LocalDate from, LocalDate to, ResolutionType resolution, LocalDate cursor, int size) {
+        return TimeSeriesUtils.getSeries(from, to, resolution, cursor, size, maxSize,
+                SeriesSource.of((lower, upper, pageable) -> stockIndexRepository.findIndexPoints(stockId, lower, upper, pageable),
+                        StockIndexPointDto::getAsOfDate, this::toDailyIndexData),
+                SeriesSource.of((lower, upper, pageable) -> stockIndexRollupRepository.findRollups(stockId, resolution, lower, upper, pageable),
+                        StockIndexRollup::getPeriodStart, this::toRollupIndexData));
+    }
+
+    private StockDetailUiDataResponseDto.StockDetailIndexData toDailyIndexData(StockIndexPointDto point) {
+        return StockDetailUiDataResponseDto.StockDetailIndexData.builder()
+                .periodStart(point.getAsOfDate())
+                .openPrice(point.getLastSale())
+                .highPrice(point.getLastSale())
+                .lowPrice(point.getLastSale())
+                .lastSale(point.getLastSale())
+                .marketCap(point.getMarketCap())
+                .netChange(point.getNetChange())
+                .percentChange(point.getPercentChange())
+                .asOfDate(point.getAsOfDate())
+                .build();
+    }
+
+    private StockDetailUiDataResponseDto.StockDetailIndexData toRollupIndexData(StockIndexRollup rollup) {
+        return StockDetailUiDataResponseDto.StockDetailIndexData.builder()
+                .periodStart(rollup.getPeriodStart())
+                .openPrice(rollup.getOpenSale())
+                .highPrice(rollup.getMaxSale())
+                .lowPrice(rollup.getMinSale())
+                .lastSale(rollup.getLastSale())
+                .marketCap(rollup.getMarketCap())
+                .netChange(rollup.getNetChange())
+                .percentChange(TimeSeriesUtils.toPercentChange(rollup.getLastSale(), rollup.getNetChange()))
+                .asOfDate(rollup.getLastDate())
+                .build();
+    }
+}
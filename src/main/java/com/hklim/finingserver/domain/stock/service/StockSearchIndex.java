@@ -0,0 +1,261 @@
+package com.hklim.finingserver.domain.stock.service;
+
+import com.hklim.finingserver.domain.stock.dto.SearchStockDataResponseDto;
+import com.hklim.finingserver.domain.stock.entity.Stock;
+import com.hklim.finingserver.domain.stock.repository.StockRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/*
+* 종목 검색 In-memory Index (symbol, name 부분 일치, 대소문자 무시)
+* 1~3 글자 n-gram 역색인으로 후보를 찾고 정렬 (symbol 일치 > symbol 접두 > name 접두 > 부분 일치)
+* 전체 Stock 을 한번에 읽어 구성, CSV 등록 등 Stock 변경 시 invalidate
+*/
+@Slf4j
+@Component
+public class StockSearchIndex {
+    private static final int MAX_GRAM_LENGTH = 3;
+    private static final int[] EMPTY = new int[0];
+
+    private final StockRepository stockRepository;
+    private final int maxSize;
+
+    private final ReentrantLock loadLock = new ReentrantLock();
+    // invalidate 시 증가, 구성 중 invalidate 되면 구성 결과를 저장하지 않음
+    private final AtomicLong generation = new AtomicLong();
+    private volatile Index index;
+
+    public StockSearchIndex(StockRepository stockRepository,
+                            @Value("${service.stock.search.max-size:50}") int maxSize) {
+        this.stockRepository = stockRepository;
+        this.maxSize = maxSize;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        try {
+            getIndex();
+        } catch (Exception e) {
+            log.warn("[STOCK-SEARCH-INDEX] Fail to warm up search index. Load on first search. errMsg : {}", e.getMessage());
+        }
+    }
+
+    /*
+    * pageNum : 1 부터 시작, size : 최대 service.stock.search.max-size
+    */
+    public Page<SearchStockDataResponseDto.StockData> search(String keyword, int pageNum, int size) {
+        PageRequest pageRequest = PageRequest.of(Math.max(pageNum, 1) - 1, Math.max(1, Math.min(size, maxSize)));
+        String normalized = keyword == null ? "" : normalize(keyword.trim());
+        if (normalized.isEmpty()) {
+            return new PageImpl<>(List.of(), pageRequest, 0);
+        }
+
+        Index loaded = getIndex();
+        List<Match> matches = new ArrayList<>();
+        for (int entryIdx : loaded.findCandidates(normalized)) {
+            Entry entry = loaded.entries[entryIdx];
+            int rank = entry.rank(normalized);
+            if (rank >= 0) {
+                matches.add(new Match(entry, rank));
+            }
+        }
+        matches.sort(Comparator.comparingInt((Match match) -> match.rank)
+                .thenComparingInt(match -> match.entry.symbol.length())
+                .thenComparing(match -> match.entry.symbol));
+
+        int from = (int) Math.min(pageRequest.getOffset(), matches.size());
+        int to = Math.min(from + pageRequest.getPageSize(), matches.size());
+        List<SearchStockDataResponseDto.StockData> content = new ArrayList<>(to - from);
+        for (Match match : matches.subList(from, to)) {
+            content.add(SearchStockDataResponseDto.StockData.builder()
+                    .symbol(match.entry.symbol)
+                    .name(match.entry.name)
+                    .build());
+        }
+        return new PageImpl<>(content, pageRequest, matches.size());
+    }
+
+    public void invalidate() {
+        log.info("[STOCK-SEARCH-INDEX] Invalidate search index. ");
+        generation.incrementAndGet();
+        index = null;
+    }
+
+    private Index getIndex() {
+        Index loaded = index;
+        if (loaded == null) {
+            // DB 조회 중 대기하는 virtual thread 가 carrier thread 를 점유하지 않도록 synchronized 대신 Lock 사용
+            loadLock.lock();
+            try {
+                loaded = index;
+                if (loaded == null) {
+                    long loadGeneration = generation.get();
+                    loaded = Index.build(stockRepository.findAll());
+                    if (generation.get() == loadGeneration) {
+                        index = loaded;
+                    }
+                    log.info("[STOCK-SEARCH-INDEX] Load search index. Stock cnt : {}, Gram cnt : {}", loaded.entries.length, loaded.gramIndex.size());
+                }
+            } finally {
+                loadLock.unlock();
+            }
+        }
+        return loaded;
+    }
+
+    private static String normalize(String value) {
+        return value == null ? "" : value.toLowerCase(Locale.ROOT);
+    }
+
+    private static class Index {
+        private final Entry[] entries;
+        // n-gram -> entry index 오름차순 목록
+        private final Map<String, int[]> gramIndex;
+
+        private Index(Entry[] entries, Map<String, int[]> gramIndex) {
+            this.entries = entries;
+            this.gramIndex = gramIndex;
+        }
+
+        static Index build(List<Stock> stockList) {
+            Entry[] entries = stockList.stream()
+                    .filter(stock -> stock.getSymbol() != null)
+                    .map(Entry::new)
+                    .sorted(Comparator.comparing(entry -> entry.symbol))
+                    .toArray(Entry[]::new);
+
+            Map<String, List<Integer>> postings = new HashMap<>();
+            Set<String> grams = new HashSet<>();
+            for (int i = 0; i < entries.length; i++) {
+                grams.clear();
+                addGrams(grams, entries[i].lowerSymbol);
+                addGrams(grams, entries[i].lowerName);
+                for (String gram : grams) {
+                    postings.computeIfAbsent(gram, key -> new ArrayList<>()).add(i);
+                }
+            }
+            Map<String, int[]> gramIndex = new HashMap<>(postings.size() * 2);
+            postings.forEach((gram, entryIdxList) -> gramIndex.put(gram, entryIdxList.stream().mapToInt(Integer::intValue).toArray()));
+            return new Index(entries, gramIndex);
+        }
+
+        private static void addGrams(Set<String> grams, String value) {
+            for (int n = 1; n <= MAX_GRAM_LENGTH; n++) {
+                for (int i = 0; i + n <= value.length(); i++) {
+                    grams.add(value.substring(i, i + n));
+                }
+            }
+        }
+
+        /*
+        * 3 글자 이하는 posting 그대로, 그 이상은 keyword 의 3-gram posting 교집합 (이후 rank 에서 실제 포함 여부 확인)
+        */
+        int[] findCandidates(String keyword) {
+            if (keyword.length() <= MAX_GRAM_LENGTH) {
+                return gramIndex.getOrDefault(keyword, EMPTY);
+            }
+            Set<String> keywordGrams = new HashSet<>();
+            for (int i = 0; i + MAX_GRAM_LENGTH <= keyword.length(); i++) {
+                keywordGrams.add(keyword.substring(i, i + MAX_GRAM_LENGTH));
+            }
+            List<int[]> postingList = new ArrayList<>(keywordGrams.size());
+            for (String gram : keywordGrams) {
+                int[] posting = gramIndex.get(gram);
+                if (posting == null) {
+                    return EMPTY;
+                }
+                postingList.add(posting);
+            }
+            postingList.sort(Comparator.comparingInt(posting -> posting.length));
+
+            int[] candidates = postingList.get(0);
+            for (int i = 1; i < postingList.size() && candidates.length > 0; i++) {
+                candidates = intersect(candidates, postingList.get(i));
+            }
+            return candidates;
+        }
+
+        private static int[] intersect(int[] left, int[] right) {
+            int[] result = new int[Math.min(left.length, right.length)];
+            int cnt = 0;
+            int l = 0;
+            int r = 0;
+            while (l < left.length && r < right.length) {
+                if (left[l] == right[r]) {
+                    result[cnt++] = left[l];
+                    l++;
+                    r++;
+                } else if (left[l] < right[r]) {
+                    l++;
+                } else {
+                    r++;
+                }
+            }
+            return Arrays.copyOf(result, cnt);
+        }
+    }
+
+    private static class Entry {
+        private final String symbol;
+        private final String name;
+        private final String lowerSymbol;
+        private final String lowerName;
+
+        Entry(Stock stock) {
+            this.symbol = stock.getSymbol();
+            this.name = stock.getName();
+            this.lowerSymbol = normalize(stock.getSymbol());
+            this.lowerName = normalize(stock.getName());
+        }
+
+        /*
+        * 0 : symbol 일치, 1 : symbol 접두, 2 : name 접두, 3 : symbol 부분 일치, 4 : name 부분 일치, -1 : 불일치
+        */
+        int rank(String keyword) {
+            if (lowerSymbol.equals(keyword)) {
+                return 0;
+            }
+            if (lowerSymbol.startsWith(keyword)) {
+                return 1;
+            }
+            if (lowerName.startsWith(keyword)) {
+                return 2;
+            }
+            if (lowerSymbol.contains(keyword)) {
+                return 3;
+            }
+            if (lowerName.contains(keyword)) {
+                return 4;
+            }
+            return -1;
+        }
+    }
+
+    private static class Match {
+        private final Entry entry;
+        private final int rank;
+
+        Match(Entry entry, int rank) {
+            this.entry = entry;
+            this.rank = rank;
+        }
+    }
+}
@@ -1,24 +1,28 @@
 package com.hklim.finingserver.domain.stock.service;
 
-import com.hklim.finingserver.domain.portfolio.entity.Portfolio;
 import com.hklim.finingserver.domain.stock.dto.InsertStockDataRequestDto;
 import com.hklim.finingserver.domain.stock.dto.SearchStockDataResponseDto;
-import com.hklim.finingserver.domain.stock.dto.StockDataFromCSVDto;
+import com.hklim.finingserver.domain.stock.dto.StockCacheDto;
+import com.hklim.finingserver.domain.stock.dto.StockCrawlingResultDto;
 import com.hklim.finingserver.domain.stock.dto.StockDataResponseDto;
+import com.hklim.finingserver.domain.stock.dto.StockImportResultDto;
 import com.hklim.finingserver.domain.stock.entity.Stock;
 import com.hklim.finingserver.domain.stock.entity.StockIndex;
+import com.hklim.finingserver.domain.stock.repository.StockIndexBulkRepository;
 import com.hklim.finingserver.domain.stock.repository.StockIndexRepository;
+import com.hklim.finingserver.domain.stock.repository.StockIndexRollupBulkRepository;
 import com.hklim.finingserver.domain.stock.repository.StockRepository;
 import com.hklim.finingserver.domain.ui.dto.MainUiDataResponseDto;
 import com.hklim.finingserver.domain.ui.dto.UiStockDataResponseDto;
+import com.hklim.finingserver.global.dto.RollupRebuildResultDto;
 import com.hklim.finingserver.global.exception.ApplicationErrorException;
 import com.hklim.finingserver.global.exception.ApplicationErrorType;
+import com.hklim.finingserver.global.utils.CommonUtils;
 import com.hklim.finingserver.global.utils.CrawlerUtils;
-import com.hklim.finingserver.global.utils.FileUtils;
-import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
 import org.springframework.stereotype.Service;
 
 import java.nio.file.Paths;
@@ -30,32 +34,52 @@ import java.util.List;
 @Service
 @RequiredArgsConstructor
 public class StockService {
-    private final FileUtils fileUtils;
+    private static final int DEFAULT_SEARCH_SIZE = 20;
+
+    private final StockCsvImporter stockCsvImporter;
     private final CrawlerUtils crawlerUtils;
     private final StockRepository stockRepository;
     private final StockIndexRepository stockIndexRepository;
+    private final StockIndexBulkRepository stockIndexBulkRepository;
+    private final StockIndexRollupBulkRepository stockIndexRollupBulkRepository;
+    private final StockSymbolResolver stockSymbolResolver;
+    private final StockSearchIndex stockSearchIndex;
+    private final StockCache stockCache;
+    private final CommonUtils commonUtils;
 
     @Value("${service.stock.max-count}")
     int maxCnt;
 
-    @Transactional
-    public void insertStockDataFromCSV(InsertStockDataRequestDto insertStockDataInfo) {
+    /*
+    * CSV 파일을 chunk 단위로 읽어 종목 upsert, 완료 후 Symbol Resolver, 검색 Index, 기준 정보 캐시 갱신
+    * chunk 마다 commit 되므로 중간 chunk 실패 시에도 이전 chunk 반영분을 위해 갱신 후 실패 전달
+    */
+    public StockImportResultDto insertStockDataFromCSV(InsertStockDataRequestDto insertStockDataInfo) {
         String fileFullPath = Paths.get(insertStockDataInfo.getFilePath(), insertStockDataInfo.getFileName()).toString();
-        List<StockDataFromCSVDto> stockDataList = fileUtils.toDtoFromCSVFile(fileFullPath);
-        if (stockDataList.isEmpty()) {
-            log.info("[INSERT-STOCK-DATA] Extract Stock Data Count is Zero. ");
-        } else {
-            log.info("[INSERT-STOCK-DATA] START. ");
-            for (StockDataFromCSVDto stockData : stockDataList) {
-                Stock stock = stockRepository.save(stockData.toStockEntity());
-                stockIndexRepository.save(stockData.toStockIndexEntity(stock));
-            }
-            log.info("[INSERT-STOCK-DATA] END. Insert Data Count : {}", stockDataList.size());
+        log.info("[INSERT-STOCK-DATA] START. ");
+        StockImportResultDto result;
+        try {
+            result = stockCsvImporter.importFile(fileFullPath);
+        } catch (RuntimeException e) {
+            log.info("[INSERT-STOCK-DATA] Fail to import stock file. Invalidate stock data cache. error msg : {}", e.getMessage());
+            invalidateStockData();
+            throw e;
         }
+        log.info("[INSERT-STOCK-DATA] END. Read cnt : {}, Insert stock cnt : {}, Update stock cnt : {}, Elapsed : {}ms",
+                result.getReadCnt(), result.getInsertStockCnt(), result.getUpdateStockCnt(), result.getElapsedMillis());
+        if (result.getInsertStockCnt() + result.getUpdateStockCnt() > 0) {
+            invalidateStockData();
+        }
+        return result;
+    }
+
+    private void invalidateStockData() {
+        stockSymbolResolver.invalidate();
+        stockSearchIndex.invalidate();
+        stockCache.invalidateAll();
     }
 
-    @Transactional
-    public void insertTotalData() {
+    public StockCrawlingResultDto insertTotalData() {
         List<StockIndex> stockIndexList = new ArrayList<>();
 
         LocalDate asOfDate = LocalDate.now();
@@ -67,63 +91,85 @@ public class StockService {
             throw new ApplicationErrorException(ApplicationErrorType.FAIL_CRAWLING_SAVE, "[STOCK-CRAWLING] Today's Stock Indicator data has already been inserted. Please try again tomorrow. ");
         }
 
-        for (int i=0; i<(maxCnt/1000); i++) {
-            StockDataResponseDto resData = crawlerUtils.getTotalStockInfo(i);
-            int statusCode = resData.getStatus().getRCode();
-            int totalRecords = resData.getData().getTotalRecords();
-            if (totalRecords/1000 < i) {
-                break;
-            }
-
-            List<StockDataResponseDto.Data.Table.Row> rows = resData.getData().getTable().getRows();
-            log.info("[STOCK-CRAWLING] Response Status Code : {}", statusCode);
-            log.info("[STOCK-CRAWLING] Crawling Data Total cnt : {}", totalRecords);
-            log.info("[STOCK-CRAWLING] Crawling Data cnt : {}", rows.size());
-
-            convertCrawlingDataToStockIndexList(stockIndexList, rows);
-            log.info("[STOCK-CRAWLING] Insert Stock Index. Insert data cnt : {}", stockIndexList.size());
+        List<String> unknownSymbols = new ArrayList<>();
+        int crawlingCnt = crawlerUtils.crawlTotalStockRows(maxCnt,
+                stockData -> convertCrawlingDataToStockIndex(stockIndexList, unknownSymbols, stockData, asOfDate));
+        log.info("[STOCK-CRAWLING] Insert Stock Index. Insert data cnt : {}", stockIndexList.size());
+        if (!unknownSymbols.isEmpty()) {
+            log.info("[STOCK-CRAWLING] Unknown symbol cnt : {}, symbols : {}", unknownSymbols.size(), unknownSymbols);
         }
         try {
-            stockIndexRepository.saveAll(stockIndexList);
-            log.info("[STOCK-CRAWLING] Finally insert stock index data cnt : {}" , stockIndexList.size());
+            int insertCnt = stockIndexBulkRepository.saveAll(stockIndexList);
+            log.info("[STOCK-CRAWLING] Finally insert stock index data cnt : {}" , insertCnt);
         } catch (Exception e) {
             log.info("[STOCK-CRAWLING] Fail to insert Stock Index. errMsg : {}", (Object) e.getStackTrace());
             throw new ApplicationErrorException(ApplicationErrorType.FAIL_TO_SAVE_DATA);
         }
+        rollupIndex(asOfDate);
+        return StockCrawlingResultDto.builder()
+                .asOfDate(asOfDate)
+                .crawlingCnt(crawlingCnt)
+                .insertCnt(stockIndexList.size())
+                .unknownSymbolCnt(unknownSymbols.size())
+                .unknownSymbols(unknownSymbols)
+                .build();
     }
 
-    public Stock findBySymbol(String symbol){
-        log.debug("[FIND-STOCK-DATA] Find Stock data By Symbol, Symbol : {}", symbol);
-        return stockRepository.findBySymbol(symbol);
+    /*
+    * 일별 데이터 insert 후 주간 / 월간 집계 갱신, 실패해도 일별 데이터는 유지 (rebuild 로 복구)
+    */
+    private void rollupIndex(LocalDate asOfDate) {
+        try {
+            stockIndexRollupBulkRepository.rollup(asOfDate);
+        } catch (Exception e) {
+            log.error("[STOCK-INDEX-ROLLUP] Fail to rollup stock index. Date : {}", asOfDate, e);
+        }
     }
 
-    public UiStockDataResponseDto getPortfolioStockData(Portfolio portfolio) {
-        Stock stock = portfolio.getStock();
-        StockIndex stockIndex = stockIndexRepository.findByStockAndAsOfDate(stock, LocalDate.now());
-        return UiStockDataResponseDto.builder()
-                .stockId(stock.getId())
-                .symbol(stock.getSymbol())
-                .name(stock.getName())
-                .lastSale(stockIndex.getLastSale())
-                .marketCap(stockIndex.getMarketCap())
-                .netChange(stockIndex.getNetChange())
-                .percentChange(stockIndex.getPercentChange())
+    /*
+    * from ~ to 가 걸친 주간 / 월간 집계 재생성 (backfill)
+    */
+    public RollupRebuildResultDto rebuildIndexRollup(LocalDate from, LocalDate to) {
+        if (from.isAfter(to)) {
+            throw new ApplicationErrorException(ApplicationErrorType.INVALID_DATA_ARGUMENT, "[STOCK-INDEX-ROLLUP] from date is after to date. ");
+        }
+        long start = System.currentTimeMillis();
+        int periodCnt = stockIndexRollupBulkRepository.rebuild(from, to);
+        return RollupRebuildResultDto.builder()
+                .from(from)
+                .to(to)
+                .periodCnt(periodCnt)
+                .elapsedMillis(System.currentTimeMillis() - start)
                 .build();
     }
 
+    /*
+    * 기준 정보 캐시 조회 (L1 로컬 -> L2 Redis -> DB)
+    */
+    public StockCacheDto findBySymbol(String symbol){
+        log.debug("[FIND-STOCK-DATA] Find Stock data By Symbol, Symbol : {}", symbol);
+        return stockCache.findBySymbol(symbol);
+    }
+
+    /*
+    * 연관관계 저장 / 조회 조건용 Stock 참조 (DB 조회 없음)
+    */
+    public Stock getStockReference(Long stockId) {
+        return stockRepository.getReferenceById(stockId);
+    }
+
     public List<UiStockDataResponseDto> getTopTenStocksOfToday() {
         List<StockIndex> stockIndexList = stockIndexRepository.findTop10ByAsOfDateOrderByMarketCapDesc(LocalDate.now());
         return convertStockIndexToMainStockData(stockIndexList);
     }
 
-    private void convertCrawlingDataToStockIndexList(List<StockIndex> stockIndexList, List<StockDataResponseDto.Data.Table.Row> stockDataList) {
-        stockDataList.forEach(
-                stockData -> {
-                    Stock stock = findBySymbol(stockData.getSymbol());
-                    if (stock != null) {
-                        stockIndexList.add(new StockIndex(stockData.getLastsale(), convertMarketCapStrToLong(stockData.getMarketCap()), stockData.getNetchange(), stockData.getPctchange(), LocalDate.now(), stock));
-                    }
-                });
+    private void convertCrawlingDataToStockIndex(List<StockIndex> stockIndexList, List<String> unknownSymbols, StockDataResponseDto.Data.Table.Row stockData, LocalDate asOfDate) {
+        Stock stock = stockSymbolResolver.resolve(stockData.getSymbol());
+        if (stock != null) {
+            stockIndexList.add(stockData.toStockIndexEntity(stock, asOfDate));
+        } else {
+            unknownSymbols.add(stockData.getSymbol());
+        }
     }
 
     private List<UiStockDataResponseDto> convertStockIndexToMainStockData(List<StockIndex> stockIndexList) {
@@ -135,38 +181,21 @@ public class StockService {
         return mainStockDataList;
     }
 
-    private Long convertMarketCapStrToLong(String strMarketCap) {
-        return strMarketCap==null || strMarketCap.equals("NA") ? 0L : Long.parseLong(strMarketCap.replace(",", ""));
-    }
-
-    public List<StockIndex> getAllIndexOfStock(Stock stock) {
-        List<StockIndex> stockIndexList = stockIndexRepository.findAllByStockOrderByAsOfDateDesc(stock);
-        log.info("[FIND-STOCK-INDEX-ALL] Find Stock Index Cnt : {}, Symbol : {}",stockIndexList.size(), stock.getSymbol());
-        return stockIndexList;
-    }
-
     public SearchStockDataResponseDto searchStockData(String keyword) {
-        log.info("[SEARCH-STOCK] Searching stock data by keyword");
-        List<Stock> stockList = stockRepository.findByNameContainingOrSymbolContaining(keyword, keyword);
-        return convertToSearchStockDataResponse(stockList);
+        return searchStockData(keyword, 1, DEFAULT_SEARCH_SIZE);
     }
 
-    private SearchStockDataResponseDto convertToSearchStockDataResponse(List<Stock> stockList) {
-        log.info("[SEARCH-STOCK] Converting to response stock data");
-        int searchDataCnt = stockList.size();
-        log.info("[SEARCH-STOCK] Search data cnt : {}", searchDataCnt);
-        List<SearchStockDataResponseDto.StockData> resStockData = new ArrayList<>();
-            stockList.forEach(stock -> {
-                resStockData.add(
-                        SearchStockDataResponseDto.StockData.builder()
-                                .name(stock.getName())
-                                .symbol(stock.getSymbol())
-                                .build());
-            });
-
+    /*
+    * In-memory 검색 Index 에서 조회 (DB LIKE 검색 미사용)
+    */
+    public SearchStockDataResponseDto searchStockData(String keyword, int pageNum, int size) {
+        log.debug("[SEARCH-STOCK] Searching stock data by keyword");
+        Page<SearchStockDataResponseDto.StockData> searchResult = stockSearchIndex.search(keyword, pageNum, size);
+        log.debug("[SEARCH-STOCK] Search data cnt : {}", searchResult.getTotalElements());
         return SearchStockDataResponseDto.builder()
-                .searchCnt(searchDataCnt)
-                .stockDataList(resStockData)
+                .searchCnt((int) searchResult.getTotalElements())
+                .stockDataList(searchResult.getContent())
+                .pageInfo(commonUtils.convertToPageInfo(searchResult))
                 .build();
     }
 }
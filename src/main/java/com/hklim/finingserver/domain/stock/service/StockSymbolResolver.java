@@ -0,0 +1,71 @@
+package com.hklim.finingserver.domain.stock.service;
+
+import com.hklim.finingserver.domain.stock.entity.Stock;
+import com.hklim.finingserver.domain.stock.repository.StockRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/*
+* 크롤링 데이터 Symbol -> Stock 매핑
+* 전체 Stock 을 한번에 읽어 메모리에서 조회, CSV 등록 등 Stock 변경 시 invalidate
+*/
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StockSymbolResolver {
+    private final StockRepository stockRepository;
+
+    private final ReentrantLock loadLock = new ReentrantLock();
+    // invalidate 시 증가, 로딩 중 invalidate 되면 로딩 결과를 저장하지 않음
+    private final AtomicLong generation = new AtomicLong();
+    private volatile Map<String, Stock> symbolMap;
+
+    public Stock resolve(String symbol) {
+        if (symbol == null) {
+            return null;
+        }
+        return getSymbolMap().get(symbol);
+    }
+
+    public void invalidate() {
+        log.info("[STOCK-SYMBOL-RESOLVER] Invalidate symbol map. ");
+        generation.incrementAndGet();
+        symbolMap = null;
+    }
+
+    private Map<String, Stock> getSymbolMap() {
+        Map<String, Stock> loaded = symbolMap;
+        if (loaded == null) {
+            // 로딩을 기다리는 thread 가 virtual thread 면 Lock 대기 중 carrier 반납 (synchronized 는 pinning)
+            loadLock.lock();
+            try {
+                loaded = symbolMap;
+                if (loaded == null) {
+                    long loadGeneration = generation.get();
+                    loaded = load();
+                    if (generation.get() == loadGeneration) {
+                        symbolMap = loaded;
+                    }
+                }
+            } finally {
+                loadLock.unlock();
+            }
+        }
+        return loaded;
+    }
+
+    private Map<String, Stock> load() {
+        List<Stock> stockList = stockRepository.findAll();
+        Map<String, Stock> loaded = new HashMap<>(stockList.size() * 2);
+        stockList.forEach(stock -> loaded.put(stock.getSymbol(), stock));
+        log.info("[STOCK-SYMBOL-RESOLVER] Load symbol map. Stock cnt : {}", loaded.size());
+        return loaded;
+    }
+}
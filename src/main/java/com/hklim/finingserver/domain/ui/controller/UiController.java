@@ -3,30 +3,52 @@ package com.hklim.finingserver.domain.ui.controller;
 import com.hklim.finingserver.domain.ui.dto.*;
 import com.hklim.finingserver.domain.ui.service.UiService;
 import com.hklim.finingserver.global.dto.ResponseDto;
+import com.hklim.finingserver.global.entity.ResolutionType;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDate;
+
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("/api/v1/ui")
 public class UiController {
     private final UiService uiService;
     @GetMapping("/main")
-    public ResponseEntity<ResponseDto<MainUiDataResponseDto>> getMainUiData(@AuthenticationPrincipal UserDetails user) {
+    public ResponseEntity<?> getMainUiData(@AuthenticationPrincipal UserDetails user) {
+        if (user == null) {
+            return ResponseEntity.ok()
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(uiService.getMainSnapshotBody());
+        }
         return ResponseDto.ok(uiService.getMainUiData(user));
     }
 
     @GetMapping("/stock/{symbol}")
-    public ResponseEntity<ResponseDto<StockDetailUiDataResponseDto>> getStockDetailUiData(@PathVariable(value = "symbol") String symbol) {
-        return ResponseDto.ok(uiService.getStockDetailData(symbol));
+    public ResponseEntity<ResponseDto<StockDetailUiDataResponseDto>> getStockDetailUiData(
+            @PathVariable(value = "symbol") String symbol,
+            @RequestParam(value = "from", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(value = "to", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(value = "resolution", defaultValue = "DAILY") ResolutionType resolution,
+            @RequestParam(value = "cursor", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate cursor,
+            @RequestParam(value = "size", defaultValue = "100") int size) {
+        return ResponseDto.ok(uiService.getStockDetailData(symbol, from, to, resolution, cursor, size));
     }
 
     @GetMapping("/indicators/{symbol}")
-    public ResponseEntity<ResponseDto<IndicatorsDetailUiDataResponseDto>> getIndicatorsDetailUiData(@PathVariable(value = "symbol") String symbol) {
-        return ResponseDto.ok(uiService.getIndicatorDetailData(symbol));
+    public ResponseEntity<ResponseDto<IndicatorsDetailUiDataResponseDto>> getIndicatorsDetailUiData(
+            @PathVariable(value = "symbol") String symbol,
+            @RequestParam(value = "from", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(value = "to", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(value = "resolution", defaultValue = "DAILY") ResolutionType resolution,
+            @RequestParam(value = "cursor", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate cursor,
+            @RequestParam(value = "size", defaultValue = "100") int size) {
+        return ResponseDto.ok(uiService.getIndicatorDetailData(symbol, from, to, resolution, cursor, size));
     }
     @GetMapping("/my/profile")
     public ResponseEntity<ResponseDto<MyProfileUiDataResponseDto>> getMyProfileUiData(@AuthenticationPrincipal UserDetails user) {
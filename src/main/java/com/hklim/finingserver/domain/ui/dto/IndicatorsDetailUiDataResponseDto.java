@@ -1,6 +1,7 @@
 package com.hklim.finingserver.domain.ui.dto;
 
 import com.hklim.finingserver.domain.indicators.entity.IndicatorsType;
+import com.hklim.finingserver.global.entity.ResolutionType;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import lombok.AllArgsConstructor;
@@ -8,6 +9,7 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.List;
 
@@ -20,6 +22,10 @@ public class IndicatorsDetailUiDataResponseDto {
     private String symbol;
     @Enumerated(EnumType.STRING)
     private IndicatorsType indicatorsType;
+    private ResolutionType resolution;
+    private LocalDate from;
+    private LocalDate to;
+    private LocalDate nextCursor;
     private List<IndicatorsIndexData> indicatorsIndexDataList;
 
     @Getter
@@ -27,9 +33,14 @@ public class IndicatorsDetailUiDataResponseDto {
     @NoArgsConstructor
     @Builder
     public static class IndicatorsIndexData {
-        private String netChange;
-        private String percentChange;
-        private String price;
+        // 주간 / 월간 : 기간 시작일, price 는 기간 마지막 가격
+        private LocalDate periodStart;
+        private BigDecimal minPrice;
+        private BigDecimal maxPrice;
+        private BigDecimal avgPrice;
+        private BigDecimal netChange;
+        private BigDecimal percentChange;
+        private BigDecimal price;
         private LocalDate asOfDate;
     }
 }
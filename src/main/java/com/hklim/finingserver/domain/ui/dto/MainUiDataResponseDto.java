@@ -5,6 +5,7 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.List;
 
@@ -25,8 +26,8 @@ public class MainUiDataResponseDto {
         private String name;
         private String symbol;
         private String indicatorType;
-        private String netChange;
-        private String percentChange;
-        private String price;
+        private BigDecimal netChange;
+        private BigDecimal percentChange;
+        private BigDecimal price;
     }
 }
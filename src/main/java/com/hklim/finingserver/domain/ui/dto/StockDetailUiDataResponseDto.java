@@ -1,10 +1,12 @@
 package com.hklim.finingserver.domain.ui.dto;
 
+import com.hklim.finingserver.global.entity.ResolutionType;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.List;
 
@@ -20,15 +22,24 @@ public class StockDetailUiDataResponseDto {
     private String country;
     private String industry;
     private String ipoYear;
+    private ResolutionType resolution;
+    private LocalDate from;
+    private LocalDate to;
+    private LocalDate nextCursor;
     private List<StockDetailIndexData> indexList;
 
     @Getter
     @Builder
     public static class StockDetailIndexData {
-        private String lastSale;
+        // 주간 / 월간 : 기간 시작일, lastSale 은 기간 종가
+        private LocalDate periodStart;
+        private BigDecimal openPrice;
+        private BigDecimal highPrice;
+        private BigDecimal lowPrice;
+        private BigDecimal lastSale;
         private Long marketCap;
-        private String netChange;
-        private String percentChange;
+        private BigDecimal netChange;
+        private BigDecimal percentChange;
         private LocalDate asOfDate;
     }
 
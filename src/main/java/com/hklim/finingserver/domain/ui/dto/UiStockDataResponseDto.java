@@ -5,6 +5,8 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+import java.math.BigDecimal;
+
 @AllArgsConstructor
 @NoArgsConstructor
 @Getter
@@ -13,8 +15,8 @@ public class UiStockDataResponseDto {
     private Long stockId;
     private String symbol;
     private String name;
-    private String lastSale;
+    private BigDecimal lastSale;
     private Long marketCap;
-    private String netChange;
-    private String percentChange;
+    private BigDecimal netChange;
+    private BigDecimal percentChange;
 }
@@ -0,0 +1,154 @@
+package com.hklim.finingserver.domain.ui.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hklim.finingserver.domain.indicators.service.CommonIndicatorsService;
+import com.hklim.finingserver.domain.stock.service.StockService;
+import com.hklim.finingserver.domain.ui.dto.MainUiDataResponseDto;
+import com.hklim.finingserver.global.dto.ResponseDto;
+import com.hklim.finingserver.global.entity.RedisKeyType;
+import com.hklim.finingserver.global.exception.ApplicationErrorException;
+import com.hklim.finingserver.global.exception.ApplicationErrorType;
+import com.hklim.finingserver.global.utils.RedisUtils;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/*
+* 메인 화면 일별 Snapshot (Top 10 주식 + 지수 정보)
+* 하루 한번 크롤링 이후에만 변경되므로 Batch 종료 시 미리 생성하여 Redis / 메모리에 직렬화된 응답으로 보관
+* 조회 순서 : 메모리 -> Redis -> DB (같은 날짜는 동시에 한번만 생성), Redis 장애 시 DB 기준으로 생성
+*/
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MarketSnapshotService {
+    private static final TypeReference<ResponseDto<MainUiDataResponseDto>> SNAPSHOT_TYPE = new TypeReference<>() {};
+
+    private final StockService stockService;
+    private final CommonIndicatorsService indicatorService;
+    private final RedisUtils redisUtils;
+    private final ObjectMapper objectMapper;
+
+    private final ConcurrentHashMap<LocalDate, CompletableFuture<MainSnapshot>> inFlight = new ConcurrentHashMap<>();
+    private volatile MainSnapshot localSnapshot;
+
+    @Value("${service.ui.snapshot.redis-ttl-seconds:93600}")
+    long redisTtlSeconds;
+
+    // 다른 서버에서 갱신한 Snapshot 을 반영하기 위해 메모리 Snapshot 은 짧게 유지 후 Redis 재확인
+    @Value("${service.ui.snapshot.local-ttl-seconds:60}")
+    long localTtlSeconds;
+
+    public MainSnapshot getMainSnapshot() {
+        LocalDate today = LocalDate.now();
+        MainSnapshot snapshot = localSnapshot;
+        if (snapshot != null && snapshot.isValid(today, localTtlSeconds)) {
+            return snapshot;
+        }
+        return loadSingleFlight(today, false);
+    }
+
+    /*
+    * Batch 종료 후 DB 기준으로 Snapshot 재생성
+    */
+    public MainSnapshot refresh() {
+        LocalDate today = LocalDate.now();
+        log.info("[MAIN-SNAPSHOT] Refresh main snapshot. Date : {}", today);
+        return loadSingleFlight(today, true);
+    }
+
+    private MainSnapshot loadSingleFlight(LocalDate date, boolean rebuild) {
+        CompletableFuture<MainSnapshot> future = new CompletableFuture<>();
+        CompletableFuture<MainSnapshot> running = inFlight.putIfAbsent(date, future);
+        if (running != null && !rebuild) {
+            try {
+                return running.join();
+            } catch (CompletionException e) {
+                throw e.getCause() instanceof RuntimeException re ? re : e;
+            }
+        }
+        try {
+            MainSnapshot snapshot = localSnapshot;
+            if (rebuild || snapshot == null || !snapshot.isValid(date, localTtlSeconds)) {
+                snapshot = rebuild ? build(date) : loadFromRedisOrBuild(date);
+            }
+            localSnapshot = snapshot;
+            future.complete(snapshot);
+            return snapshot;
+        } catch (RuntimeException e) {
+            future.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(date, future);
+        }
+    }
+
+    private MainSnapshot loadFromRedisOrBuild(LocalDate date) {
+        String cached = null;
+        try {
+            cached = redisUtils.getData(RedisKeyType.MAIN_SNAPSHOT.getSeparator() + date);
+        } catch (DataAccessException | ApplicationErrorException e) {
+            log.info("[MAIN-SNAPSHOT] Fail to get snapshot in Redis. Build from DB. error msg : {}", e.getMessage());
+        }
+        if (cached != null) {
+            try {
+                ResponseDto<MainUiDataResponseDto> response = objectMapper.readValue(cached, SNAPSHOT_TYPE);
+                log.debug("[MAIN-SNAPSHOT] Load main snapshot from Redis. Date : {}", date);
+                return new MainSnapshot(date, response.getData(), cached.getBytes(StandardCharsets.UTF_8), System.nanoTime());
+            } catch (JsonProcessingException e) {
+                log.info("[MAIN-SNAPSHOT] Fail to read snapshot in Redis. Build from DB. error msg : {}", e.getMessage());
+            }
+        }
+        return build(date);
+    }
+
+    private MainSnapshot build(LocalDate date) {
+        log.info("[MAIN-SNAPSHOT] Build main snapshot from DB. Date : {}", date);
+        MainUiDataResponseDto data = MainUiDataResponseDto.builder()
+                .portfolioList(new ArrayList<>())
+                .stockList(stockService.getTopTenStocksOfToday())
+                .indicatorDataList(indicatorService.getIndicatorOfToday())
+                .asOfDate(date)
+                .build();
+        String json;
+        try {
+            json = objectMapper.writeValueAsString(new ResponseDto<>(data));
+        } catch (JsonProcessingException e) {
+            throw new ApplicationErrorException(ApplicationErrorType.INTERNAL_ERROR, e, "[MAIN-SNAPSHOT] Fail to serialize main snapshot. ");
+        }
+        try {
+            redisUtils.setDataExpire(RedisKeyType.MAIN_SNAPSHOT.getSeparator() + date, json, redisTtlSeconds);
+        } catch (DataAccessException | ApplicationErrorException e) {
+            log.info("[MAIN-SNAPSHOT] Fail to save snapshot in Redis. error msg : {}", e.getMessage());
+        }
+        return new MainSnapshot(date, data, json.getBytes(StandardCharsets.UTF_8), System.nanoTime());
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class MainSnapshot {
+        private final LocalDate asOfDate;
+        private final MainUiDataResponseDto data;
+        // 직렬화된 ResponseDto 응답 (익명 사용자에게 그대로 전송)
+        private final byte[] body;
+        private final long loadedAtNanos;
+
+        boolean isValid(LocalDate today, long ttlSeconds) {
+            return asOfDate.equals(today) && System.nanoTime() - loadedAtNanos < TimeUnit.SECONDS.toNanos(ttlSeconds);
+        }
+    }
+}
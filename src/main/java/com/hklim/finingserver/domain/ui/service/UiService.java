@@ -1,19 +1,21 @@
 package com.hklim.finingserver.domain.ui.service;
 
-import com.hklim.finingserver.domain.indicators.entity.Indicators;
-import com.hklim.finingserver.domain.indicators.entity.IndicatorsIndex;
+import com.hklim.finingserver.domain.indicators.dto.IndicatorsCacheDto;
 import com.hklim.finingserver.domain.indicators.service.CommonIndicatorsService;
+import com.hklim.finingserver.domain.indicators.service.IndicatorsIndexSeriesService;
 import com.hklim.finingserver.domain.member.entity.Member;
 import com.hklim.finingserver.domain.member.service.MemberService;
-import com.hklim.finingserver.domain.portfolio.entity.Portfolio;
 import com.hklim.finingserver.domain.portfolio.service.PortfolioService;
-import com.hklim.finingserver.domain.stock.entity.Stock;
-import com.hklim.finingserver.domain.stock.entity.StockIndex;
+import com.hklim.finingserver.domain.stock.dto.StockCacheDto;
+import com.hklim.finingserver.domain.stock.service.StockIndexSeriesService;
 import com.hklim.finingserver.domain.stock.service.StockService;
 import com.hklim.finingserver.domain.ui.dto.*;
 import com.hklim.finingserver.global.dto.PageInfo;
+import com.hklim.finingserver.global.dto.TimeSeriesPage;
+import com.hklim.finingserver.global.entity.ResolutionType;
 import com.hklim.finingserver.global.exception.ApplicationErrorException;
 import com.hklim.finingserver.global.exception.ApplicationErrorType;
+import com.hklim.finingserver.global.logging.LogSampling;
 import com.hklim.finingserver.global.utils.CommonUtils;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -34,6 +36,9 @@ public class UiService {
     private final CommonIndicatorsService indicatorService;
     private final MemberService memberService;
     private final CommonUtils commonUtils;
+    private final MarketSnapshotService marketSnapshotService;
+    private final StockIndexSeriesService stockIndexSeriesService;
+    private final IndicatorsIndexSeriesService indicatorsIndexSeriesService;
 
 
     public MainUiDataResponseDto getMainUiData(UserDetails user) {
@@ -42,27 +47,41 @@ public class UiService {
             // 포트폴리오 데이터 가져오기
             resPortfolioDataList = portfolioService.getPortfolioStocks(user.getUsername());
         }
-        // 오늘 주식 Top 10 정보
-        List<UiStockDataResponseDto> resStockDataList = stockService.getTopTenStocksOfToday();
-        // 오늘 지수정보
-        List<MainUiDataResponseDto.IndicatorData> resIndicatorDateList = indicatorService.getIndicatorOfToday();
+        // 오늘 주식 Top 10, 지수정보 (일별 Snapshot)
+        MarketSnapshotService.MainSnapshot snapshot = marketSnapshotService.getMainSnapshot();
         return MainUiDataResponseDto.builder()
                 .portfolioList(resPortfolioDataList)
-                .stockList(resStockDataList)
-                .indicatorDataList(resIndicatorDateList)
-                .asOfDate(LocalDate.now())
+                .stockList(snapshot.getData().getStockList())
+                .indicatorDataList(snapshot.getData().getIndicatorDataList())
+                .asOfDate(snapshot.getAsOfDate())
                 .build();
     }
 
-    public StockDetailUiDataResponseDto getStockDetailData(String symbol) {
-        log.info("[STOCK-DETAIL-UI-DATA] Find Stock Detail UI Data, Symbol : {}", symbol);
-        Stock stock = stockService.findBySymbol(symbol);
+    /*
+    * 비로그인 사용자 메인 화면, 직렬화된 Snapshot 응답 그대로 반환
+    */
+    public byte[] getMainSnapshotBody() {
+        return marketSnapshotService.getMainSnapshot().getBody();
+    }
+
+    /*
+    * from, to 기본값 : 최근 1년, 기간 / 조회 단위 / cursor 기준으로 size 건만 조회
+    */
+    public StockDetailUiDataResponseDto getStockDetailData(String symbol, LocalDate from, LocalDate to,
+                                                           ResolutionType resolution, LocalDate cursor, int size) {
+        log.info(LogSampling.SAMPLED, "[STOCK-DETAIL-UI-DATA] Find Stock Detail UI Data, Symbol : {}", symbol);
+        StockCacheDto stock = stockService.findBySymbol(symbol);
         if (stock == null) {
             throw new ApplicationErrorException(ApplicationErrorType.NOT_FOUND_STOCK,"[STOCK-DETAIL-UI-DATA] Not Found Stock Data, Symbol : {"+symbol+"}");
         }
+        LocalDate toDate = to == null ? LocalDate.now() : to;
+        LocalDate fromDate = from == null ? toDate.minusYears(1) : from;
+        if (fromDate.isAfter(toDate)) {
+            throw new ApplicationErrorException(ApplicationErrorType.INVALID_DATA_ARGUMENT, "[STOCK-DETAIL-UI-DATA] from date is after to date. ");
+        }
 
-        List<StockIndex> stockIdxList = stockService.getAllIndexOfStock(stock);
-        List<StockDetailUiDataResponseDto.StockDetailIndexData> resStockDetailList = convertToUiStockIdxList(stockIdxList);
+        TimeSeriesPage<StockDetailUiDataResponseDto.StockDetailIndexData> indexPage =
+                stockIndexSeriesService.getIndexSeries(stock.getId(), fromDate, toDate, resolution, cursor, size);
 
         return StockDetailUiDataResponseDto.builder()
                 .id(stock.getId())
@@ -72,23 +91,42 @@ public class UiService {
                 .country(stock.getCountry())
                 .industry(stock.getIndustry())
                 .ipoYear(stock.getIpoYear())
-                .indexList(resStockDetailList)
+                .resolution(resolution)
+                .from(fromDate)
+                .to(toDate)
+                .nextCursor(indexPage.getNextCursor())
+                .indexList(indexPage.getContent())
                 .build();
     }
-    public IndicatorsDetailUiDataResponseDto getIndicatorDetailData(String symbol) {
-        log.info("[INDICATORS-DETAIL-UI-DATA] Find Indicators Detail UI Data, Symbol : {}", symbol);
-        Indicators indicators = indicatorService.findBySymbol(symbol);
+
+    /*
+    * 주간 / 월간은 집계 테이블 (indicators_index_rollup) 조회
+    */
+    public IndicatorsDetailUiDataResponseDto getIndicatorDetailData(String symbol, LocalDate from, LocalDate to,
+                                                                    ResolutionType resolution, LocalDate cursor, int size) {
+        log.info(LogSampling.SAMPLED, "[INDICATORS-DETAIL-UI-DATA] Find Indicators Detail UI Data, Symbol : {}", symbol);
+        IndicatorsCacheDto indicators = indicatorService.findBySymbol(symbol);
         if (indicators == null) {
             throw new ApplicationErrorException(ApplicationErrorType.NOT_FOUND_INDICATORS, "[INDICATORS-DETAIL-UI-DATA] Not Found Indicators Data, Symbol : {"+symbol+"}");
         }
-        List<IndicatorsIndex> indicatorsIndexList = indicatorService.getAllIndexOfIndicators(indicators);
-        List<IndicatorsDetailUiDataResponseDto.IndicatorsIndexData> resIndicatorsIndexList = convertToUiIndicatorsIdxList(indicatorsIndexList);
+        LocalDate toDate = to == null ? LocalDate.now() : to;
+        LocalDate fromDate = from == null ? toDate.minusYears(1) : from;
+        if (fromDate.isAfter(toDate)) {
+            throw new ApplicationErrorException(ApplicationErrorType.INVALID_DATA_ARGUMENT, "[INDICATORS-DETAIL-UI-DATA] from date is after to date. ");
+        }
+
+        TimeSeriesPage<IndicatorsDetailUiDataResponseDto.IndicatorsIndexData> indexPage =
+                indicatorsIndexSeriesService.getIndexSeries(indicators.getId(), fromDate, toDate, resolution, cursor, size);
 
         return IndicatorsDetailUiDataResponseDto.builder()
                 .name(indicators.getName())
                 .symbol(indicators.getSymbol())
                 .indicatorsType(indicators.getIndicatorsType())
-                .indicatorsIndexDataList(resIndicatorsIndexList)
+                .resolution(resolution)
+                .from(fromDate)
+                .to(toDate)
+                .nextCursor(indexPage.getNextCursor())
+                .indicatorsIndexDataList(indexPage.getContent())
                 .build();
     }
 
@@ -108,58 +146,13 @@ public class UiService {
 
     public MyPortfolioUiDataResponseDto getMyPortfolioUiData(UserDetails user, int pageNum) {
         Member member = memberService.findMemberById(Long.valueOf(user.getUsername()));
-        Page<Portfolio> portfolioList = portfolioService.getPortfolioStocksPagination(member, pageNum);
+        Page<UiStockDataResponseDto> portfolioList = portfolioService.getPortfolioStockDataPagination(member, pageNum);
         PageInfo pageInfo = commonUtils.convertToPageInfo(portfolioList);
-        List<UiStockDataResponseDto> resPortfolioList = convertPortfolioToUiStockData(portfolioList.getContent());
+        List<UiStockDataResponseDto> resPortfolioList = portfolioList.getContent();
 
         return MyPortfolioUiDataResponseDto.builder()
                 .pageInfo(pageInfo)
                 .portfolioData(resPortfolioList)
                 .build();
     }
-
-    private List<IndicatorsDetailUiDataResponseDto.IndicatorsIndexData> convertToUiIndicatorsIdxList(List<IndicatorsIndex> indicatorsIdxList) {
-        List<IndicatorsDetailUiDataResponseDto.IndicatorsIndexData> resIndicatorsIndexDataList = new ArrayList<>();
-        indicatorsIdxList.forEach(indicatorsIndex -> {
-            resIndicatorsIndexDataList.add(IndicatorsDetailUiDataResponseDto.IndicatorsIndexData.builder()
-                    .netChange(indicatorsIndex.getNetChange())
-                    .percentChange(indicatorsIndex.getPercentChange())
-                    .price(indicatorsIndex.getPrice())
-                    .asOfDate(indicatorsIndex.getAsOfDate())
-                    .build());
-        });
-        return resIndicatorsIndexDataList;
-    }
-
-    private List<StockDetailUiDataResponseDto.StockDetailIndexData> convertToUiStockIdxList(List<StockIndex> stockIdxList) {
-        log.info("[CONVERT-UI-DATA] Convert to UI Stock Index List");
-        List<StockDetailUiDataResponseDto.StockDetailIndexData> detailIndexDataList = new ArrayList<>();
-        stockIdxList.forEach(stockData -> {
-            detailIndexDataList.add(StockDetailUiDataResponseDto.StockDetailIndexData.builder()
-                    .lastSale(stockData.getLastSale())
-                    .marketCap(stockData.getMarketCap())
-                    .netChange(stockData.getNetChange())
-                    .percentChange(stockData.getPercentChange())
-                    .asOfDate(stockData.getAsOfDate())
-                    .build());
-        });
-        return detailIndexDataList;
-    }
-
-    private List<UiStockDataResponseDto> convertPortfolioToUiStockData(List<Portfolio> portfolioList) {
-        List<UiStockDataResponseDto> resPortfolioList = new ArrayList<>();
-        portfolioList.forEach(portfolio -> {
-            UiStockDataResponseDto stock = stockService.getPortfolioStockData(portfolio);
-            resPortfolioList.add(UiStockDataResponseDto.builder()
-                    .stockId(stock.getStockId())
-                    .symbol(stock.getSymbol())
-                    .name(stock.getName())
-                    .lastSale(stock.getLastSale())
-                    .marketCap(stock.getMarketCap())
-                    .netChange(stock.getNetChange())
-                    .percentChange(stock.getPercentChange())
-                    .build());
-        });
-        return resPortfolioList;
-    }
 }
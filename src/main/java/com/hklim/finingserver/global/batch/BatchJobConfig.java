@@ -2,51 +2,193 @@ package com.hklim.finingserver.global.batch;
 
 import com.hklim.finingserver.domain.indicators.service.BondIndicatorsService;
 import com.hklim.finingserver.domain.indicators.service.StockIndicatorsService;
-import com.hklim.finingserver.domain.stock.service.StockService;
+import com.hklim.finingserver.domain.stock.dto.StockDataResponseDto;
+import com.hklim.finingserver.domain.stock.entity.StockIndex;
+import com.hklim.finingserver.domain.stock.repository.StockIndexBulkRepository;
+import com.hklim.finingserver.domain.stock.repository.StockIndexRepository;
+import com.hklim.finingserver.domain.stock.repository.StockIndexRollupBulkRepository;
+import com.hklim.finingserver.domain.stock.service.StockSymbolResolver;
+import com.hklim.finingserver.domain.ui.service.MarketSnapshotService;
+import com.hklim.finingserver.global.utils.CrawlerUtils;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import org.springframework.batch.core.Job;
 import org.springframework.batch.core.Step;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.core.job.builder.FlowBuilder;
 import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.job.flow.Flow;
+import org.springframework.batch.core.job.flow.support.SimpleFlow;
 import org.springframework.batch.core.repository.JobRepository;
 import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.core.step.skip.LimitCheckingItemSkipPolicy;
+import org.springframework.batch.core.step.skip.SkipPolicy;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.transaction.PlatformTransactionManager;
 
+import java.time.LocalDateTime;
+import java.util.Map;
+
 @Configuration
 @RequiredArgsConstructor
 public class BatchJobConfig {
-    private final StockService stockService;
+    private final CrawlerUtils crawlerUtils;
+    private final StockIndexRepository stockIndexRepository;
+    private final StockIndexBulkRepository stockIndexBulkRepository;
+    private final StockIndexRollupBulkRepository stockIndexRollupBulkRepository;
+    private final StockSymbolResolver stockSymbolResolver;
     private final StockIndicatorsService stockIndicatorsService;
     private final BondIndicatorsService bondIndicatorsService;
+    private final MarketSnapshotService marketSnapshotService;
+    private final MeterRegistry meterRegistry;
 
-    @Bean(name = "stockCrawlingJob")
-    public Job stockCrawlingJob(JobRepository jobRepository, PlatformTransactionManager platformTransactionManager) {
-        return new JobBuilder("stockCrawlingJob", jobRepository)
-                .start(stockCrawlingStep(jobRepository, platformTransactionManager))
-                .build();
-    }
+    @Value("${service.stock.max-count}")
+    int maxCnt;
+
+    @Value("${service.batch.stock.commit-interval:500}")
+    int stockCommitInterval;
+
+    @Value("${service.batch.stock.skip-limit:100}")
+    int stockSkipLimit;
+
+    @Value("${service.batch.stock.retry-limit:3}")
+    int stockRetryLimit;
 
-    @Bean(name = "indicatorsCrawlingJob")
-    public Job indicatorsCrawlingJob(JobRepository jobRepository, PlatformTransactionManager platformTransactionManager) {
-        return new JobBuilder("indicatorsCrawlingJob", jobRepository)
+    @Value("${service.batch.pool-size:4}")
+    int batchPoolSize;
+
+    @Value("${service.batch.stock.grid-size:0}")
+    int stockGridSize;
+
+    /*
+    * 주식 / 주식 지표 / 채권 지표 크롤링을 Flow 단위로 동시에 실행
+    * 주식 크롤링은 페이지 범위별 partition 으로 나누어 batchTaskExecutor 에서 병렬 처리
+    * 주식 Flow 는 크롤링 후 주간 / 월간 집계 Step 실행 (지표는 insertData 에서 저장 후 집계)
+    */
+    @Bean(name = "dailyCrawlingJob")
+    public Job dailyCrawlingJob(JobRepository jobRepository, PlatformTransactionManager platformTransactionManager) {
+        Flow stockFlow = new FlowBuilder<SimpleFlow>("stockCrawlingFlow")
+                .start(stockIndexDuplicateCheckStep(jobRepository, platformTransactionManager))
+                .next(stockCrawlingPartitionStep(jobRepository, platformTransactionManager))
+                .next(stockIndexRollupStep(jobRepository, platformTransactionManager))
+                .build();
+        Flow stockIndicatorsFlow = new FlowBuilder<SimpleFlow>("stockIndicatorsCrawlingFlow")
                 .start(stockIndicatorsCrawlingStep(jobRepository, platformTransactionManager))
-                .on("*")
-                .to(bondIndicatorsCrawlingStep(jobRepository, platformTransactionManager))
+                .build();
+        Flow bondIndicatorsFlow = new FlowBuilder<SimpleFlow>("bondIndicatorsCrawlingFlow")
+                .start(bondIndicatorsCrawlingStep(jobRepository, platformTransactionManager))
+                .build();
+        Flow splitFlow = new FlowBuilder<SimpleFlow>("dailyCrawlingSplitFlow")
+                .split(batchFlowExecutor())
+                .add(stockFlow, stockIndicatorsFlow, bondIndicatorsFlow)
+                .build();
+
+        return new JobBuilder("dailyCrawlingJob", jobRepository)
+                .listener(new MarketSnapshotRefreshListener(marketSnapshotService))
+                .start(splitFlow)
                 .end()
                 .build();
     }
 
+    @Bean
+    public BatchStepMetricsListener stepMetricsListener() {
+        return new BatchStepMetricsListener(meterRegistry);
+    }
+
+    /*
+    * Flow 병렬 실행용 (Flow 수 만큼만 thread 사용)
+    * partition worker 와 pool 을 공유하면 Flow thread 가 worker 완료를 기다리며 pool 을 점유하므로 분리
+    */
+    @Bean
+    public TaskExecutor batchFlowExecutor() {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("batch-flow-");
+        executor.setConcurrencyLimit(3);
+        return executor;
+    }
+
+    @Bean
+    public TaskExecutor batchTaskExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(batchPoolSize);
+        executor.setMaxPoolSize(batchPoolSize);
+        executor.setThreadNamePrefix("batch-worker-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.initialize();
+        return executor;
+    }
+
+    @Bean
+    public Step stockCrawlingPartitionStep(JobRepository jobRepository, PlatformTransactionManager platformTransactionManager) {
+        return new StepBuilder("stockCrawlingPartitionStep", jobRepository)
+                .listener(stepMetricsListener())
+                .listener(new UnknownSymbolReportListener("stockCrawlingStep"))
+                .partitioner("stockCrawlingStep", new StockPagePartitioner(crawlerUtils, maxCnt))
+                .step(stockCrawlingStep(jobRepository, platformTransactionManager))
+                .gridSize(stockGridSize > 0 ? stockGridSize : batchPoolSize)
+                .taskExecutor(batchTaskExecutor())
+                .build();
+    }
+
+    @Bean
+    public Step stockIndexDuplicateCheckStep(JobRepository jobRepository, PlatformTransactionManager platformTransactionManager) {
+        return new StepBuilder("stockIndexDuplicateCheckStep", jobRepository)
+                .listener(stepMetricsListener())
+                .tasklet(new StockIndexDuplicateCheckTasklet(stockIndexRepository), platformTransactionManager)
+                .build();
+    }
+
+    /*
+    * 페이지 단위 크롤링 -> Symbol 매핑 -> JDBC Batch Insert, commit-interval 마다 commit
+    * 실패 시 같은 JobParameters 로 재실행하면 partition 별로 마지막 commit 된 chunk 이후부터 재개
+    */
     @Bean
     public Step stockCrawlingStep(JobRepository jobRepository, PlatformTransactionManager platformTransactionManager) {
         return new StepBuilder("stockCrawlingStep", jobRepository)
-                .tasklet(new StockCrawlingTasklet(stockService), platformTransactionManager)
+                .listener(stepMetricsListener())
+                .<StockDataResponseDto.Data.Table.Row, StockIndex>chunk(stockCommitInterval, platformTransactionManager)
+                .reader(stockIndexItemReader(null, null, null))
+                .processor(stockIndexItemProcessor(null))
+                .writer(new StockIndexItemWriter(stockIndexBulkRepository))
+                .faultTolerant()
+                .retry(TransientDataAccessException.class)
+                .retryLimit(stockRetryLimit)
+                .skipPolicy(stockSkipPolicy(stockSkipLimit))
                 .build();
     }
 
+    /*
+    * 숫자 값은 NumericParseUtils 에서 null 로 정규화되므로 skip 대상은 writer 의 제약 조건 위반만 남음
+    * 페이지 응답 오류 (ApplicationErrorException) 는 skip 하지 않고 Step 실패 -> 재실행 시 해당 chunk 부터 재개
+    */
+    static SkipPolicy stockSkipPolicy(int skipLimit) {
+        return new LimitCheckingItemSkipPolicy(skipLimit, Map.of(DataIntegrityViolationException.class, true));
+    }
+
+    @Bean
+    @StepScope
+    public StockIndexItemReader stockIndexItemReader(@Value("#{stepExecutionContext['fromPage']}") Integer fromPage,
+                                                     @Value("#{stepExecutionContext['toPage']}") Integer toPage,
+                                                     @Value("#{stepExecutionContext['totalRecords']}") Integer totalRecords) {
+        return new StockIndexItemReader(crawlerUtils, fromPage, toPage, totalRecords);
+    }
+
+    @Bean
+    @StepScope
+    public StockIndexItemProcessor stockIndexItemProcessor(@Value("#{jobParameters['dateTime']}") String dateTime) {
+        return new StockIndexItemProcessor(stockSymbolResolver, LocalDateTime.parse(dateTime).toLocalDate());
+    }
+
     @Bean
     public Step stockIndicatorsCrawlingStep(JobRepository jobRepository, PlatformTransactionManager platformTransactionManager) {
         return new StepBuilder("stockIndicatorsCrawlingStep", jobRepository)
+                .listener(stepMetricsListener())
                 .tasklet(new StockIndicatorsCrawlingTasklet(stockIndicatorsService), platformTransactionManager)
                 .build();
     }
@@ -54,7 +196,16 @@ public class BatchJobConfig {
     @Bean
     public Step bondIndicatorsCrawlingStep(JobRepository jobRepository, PlatformTransactionManager platformTransactionManager) {
         return new StepBuilder("bondIndicatorsCrawlingStep", jobRepository)
+                .listener(stepMetricsListener())
                 .tasklet(new BondIndicatorsCrawlingTasklet(bondIndicatorsService), platformTransactionManager)
                 .build();
     }
+
+    @Bean
+    public Step stockIndexRollupStep(JobRepository jobRepository, PlatformTransactionManager platformTransactionManager) {
+        return new StepBuilder("stockIndexRollupStep", jobRepository)
+                .listener(stepMetricsListener())
+                .tasklet(new StockIndexRollupTasklet(stockIndexRollupBulkRepository), platformTransactionManager)
+                .build();
+    }
 }
@@ -29,27 +29,11 @@ public class BatchScheduler {
     private final PlatformTransactionManager platformTransactionManager;
 
     @Scheduled(cron = "0 01 06 * * ?")
-    public void stockCrawlingJob() {
+    public void dailyCrawlingJob() {
         try {
-            log.info("[BATCH-SCHEDULE] Stock crawling start, date time : {}", LocalDateTime.now());
+            log.info("[BATCH-SCHEDULE] Daily crawling start, date time : {}", LocalDateTime.now());
             jobLauncher.run(
-                    batchJobConfig.stockCrawlingJob(jobRepository, platformTransactionManager),
-                        new JobParametersBuilder().addString("dateTime", LocalDateTime.now().toString()).toJobParameters()
-            );
-
-        } catch (JobExecutionAlreadyRunningException | JobInstanceAlreadyCompleteException | JobParametersInvalidException | JobRestartException e) {
-            log.error(e.getMessage());
-        } catch (Exception e) {
-            log.error(e.getMessage());
-        }
-    }
-
-    @Scheduled(cron = "0 01 06 * * ?")
-    public void indicatorsCrawlingJob() {
-        try {
-            log.info("[BATCH-SCHEDULE] Indicators crawling start, date time : {}", LocalDateTime.now());
-            jobLauncher.run(
-                    batchJobConfig.indicatorsCrawlingJob(jobRepository, platformTransactionManager),
+                    batchJobConfig.dailyCrawlingJob(jobRepository, platformTransactionManager),
                     new JobParametersBuilder().addString("dateTime", LocalDateTime.now().toString()).toJobParameters()
             );
 
@@ -0,0 +1,62 @@
+package com.hklim.finingserver.global.batch;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.StepExecutionListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/*
+* Step 실행 시간 (batch.step.duration), 처리 건수 (batch.step.items : read, write, filter, skip) 기록
+* partition worker Step (stockCrawlingStep:partition0) 은 partition 을 제외한 Step 이름으로 합산
+*/
+@Slf4j
+@RequiredArgsConstructor
+public class BatchStepMetricsListener implements StepExecutionListener {
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    public ExitStatus afterStep(StepExecution stepExecution) {
+        String jobName = stepExecution.getJobExecution().getJobInstance().getJobName();
+        String stepName = toStepName(stepExecution.getStepName());
+        String status = stepExecution.getStatus().name();
+        LocalDateTime startTime = stepExecution.getStartTime();
+        Duration duration = startTime == null ? Duration.ZERO : Duration.between(startTime, LocalDateTime.now());
+
+        Timer.builder("batch.step.duration")
+                .description("Batch step execution time")
+                .tag("job", jobName)
+                .tag("step", stepName)
+                .tag("status", status)
+                .register(meterRegistry)
+                .record(duration);
+        countItems(jobName, stepName, "read", stepExecution.getReadCount());
+        countItems(jobName, stepName, "write", stepExecution.getWriteCount());
+        countItems(jobName, stepName, "filter", stepExecution.getFilterCount());
+        countItems(jobName, stepName, "skip", stepExecution.getSkipCount());
+        log.debug("[BATCH-STEP-METRICS] Step : {}, status : {}, duration : {}ms, read : {}, write : {}",
+                stepExecution.getStepName(), status, duration.toMillis(), stepExecution.getReadCount(), stepExecution.getWriteCount());
+        return null;
+    }
+
+    private void countItems(String jobName, String stepName, String type, long count) {
+        Counter.builder("batch.step.items")
+                .description("Batch step item count")
+                .tag("job", jobName)
+                .tag("step", stepName)
+                .tag("type", type)
+                .register(meterRegistry)
+                .increment(count);
+    }
+
+    static String toStepName(String stepName) {
+        int partitionIdx = stepName.indexOf(':');
+        return partitionIdx < 0 ? stepName : stepName.substring(0, partitionIdx);
+    }
+}
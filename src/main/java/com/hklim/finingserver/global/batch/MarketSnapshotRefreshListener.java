@@ -0,0 +1,26 @@
+package com.hklim.finingserver.global.batch;
+
+import com.hklim.finingserver.domain.ui.service.MarketSnapshotService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobExecutionListener;
+
+/*
+* 크롤링 Job 종료 후 메인 화면 Snapshot 재생성 (일부 Flow 가 실패해도 저장된 데이터 기준으로 갱신)
+*/
+@Slf4j
+@RequiredArgsConstructor
+public class MarketSnapshotRefreshListener implements JobExecutionListener {
+    private final MarketSnapshotService marketSnapshotService;
+
+    @Override
+    public void afterJob(JobExecution jobExecution) {
+        log.info("[BATCH-MAIN-SNAPSHOT] Job : {}, status : {}", jobExecution.getJobInstance().getJobName(), jobExecution.getStatus());
+        try {
+            marketSnapshotService.refresh();
+        } catch (Exception e) {
+            log.error("[BATCH-MAIN-SNAPSHOT] Fail to refresh main snapshot. error msg : {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.hklim.finingserver.global.batch;
+
+import com.hklim.finingserver.domain.stock.repository.StockIndexRepository;
+import com.hklim.finingserver.global.exception.ApplicationErrorException;
+import com.hklim.finingserver.global.exception.ApplicationErrorType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.StepContribution;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.repeat.RepeatStatus;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/*
+* 당일 주가 데이터 중복 등록 확인
+* 완료된 Step 은 재시작 시 다시 실행되지 않으므로 부분 저장 후 재시작하는 경우에는 통과
+*/
+@Slf4j
+@RequiredArgsConstructor
+public class StockIndexDuplicateCheckTasklet implements Tasklet {
+    private final StockIndexRepository stockIndexRepository;
+
+    @Override
+    public RepeatStatus execute(StepContribution contribution, ChunkContext chunkContext) {
+        String dateTime = (String) chunkContext.getStepContext().getJobParameters().get("dateTime");
+        LocalDate asOfDate = LocalDateTime.parse(dateTime).toLocalDate();
+        log.info("[BATCH-STOCK-CRAWLING] Check if today's Stock Index Data has already been inserted. Date : {}", asOfDate);
+        if (stockIndexRepository.existsByAsOfDate(asOfDate)) {
+            throw new ApplicationErrorException(ApplicationErrorType.FAIL_CRAWLING_SAVE, "[BATCH-STOCK-CRAWLING] Today's Stock Index data has already been inserted. ");
+        }
+        return RepeatStatus.FINISHED;
+    }
+}
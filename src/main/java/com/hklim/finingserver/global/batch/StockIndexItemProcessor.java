@@ -0,0 +1,64 @@
+package com.hklim.finingserver.global.batch;
+
+import com.hklim.finingserver.domain.stock.dto.StockDataResponseDto;
+import com.hklim.finingserver.domain.stock.entity.Stock;
+import com.hklim.finingserver.domain.stock.entity.StockIndex;
+import com.hklim.finingserver.domain.stock.service.StockSymbolResolver;
+import lombok.RequiredArgsConstructor;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.StepExecutionListener;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemProcessor;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/*
+* 크롤링 Row -> StockIndex 변환, 등록되지 않은 Symbol 은 filter (null 반환)
+* filter 된 Symbol 은 Step ExecutionContext (unknownSymbolCnt, unknownSymbols) 에 기록, partition 별 결과는 UnknownSymbolReportListener 에서 합산
+* Step 의 processor 로 등록하면 StepExecutionListener 로도 자동 등록됨
+*/
+@RequiredArgsConstructor
+public class StockIndexItemProcessor implements ItemProcessor<StockDataResponseDto.Data.Table.Row, StockIndex>, StepExecutionListener {
+    public static final String UNKNOWN_SYMBOL_CNT_KEY = "unknownSymbolCnt";
+    public static final String UNKNOWN_SYMBOLS_KEY = "unknownSymbols";
+
+    private final StockSymbolResolver stockSymbolResolver;
+    private final LocalDate asOfDate;
+    // skip 판별 등으로 같은 item 을 다시 처리할 수 있으므로 Set 으로 중복 제거
+    private final Set<String> unknownSymbols = new LinkedHashSet<>();
+
+    /*
+    * 재시작 시 이전 실행에서 기록한 Symbol 이어서 수집
+    */
+    @Override
+    @SuppressWarnings("unchecked")
+    public void beforeStep(StepExecution stepExecution) {
+        Object recorded = stepExecution.getExecutionContext().get(UNKNOWN_SYMBOLS_KEY);
+        if (recorded instanceof List<?> symbols) {
+            unknownSymbols.addAll((List<String>) symbols);
+        }
+    }
+
+    @Override
+    public StockIndex process(StockDataResponseDto.Data.Table.Row item) {
+        Stock stock = stockSymbolResolver.resolve(item.getSymbol());
+        if (stock == null) {
+            unknownSymbols.add(item.getSymbol());
+            return null;
+        }
+        return item.toStockIndexEntity(stock, asOfDate);
+    }
+
+    @Override
+    public ExitStatus afterStep(StepExecution stepExecution) {
+        ExecutionContext executionContext = stepExecution.getExecutionContext();
+        executionContext.putInt(UNKNOWN_SYMBOL_CNT_KEY, unknownSymbols.size());
+        executionContext.put(UNKNOWN_SYMBOLS_KEY, new ArrayList<>(unknownSymbols));
+        return null;
+    }
+}
@@ -0,0 +1,61 @@
+package com.hklim.finingserver.global.batch;
+
+import com.hklim.finingserver.domain.stock.dto.StockDataResponseDto;
+import com.hklim.finingserver.global.utils.CrawlerUtils;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.item.support.AbstractItemCountingItemStreamItemReader;
+
+import java.util.Collections;
+import java.util.List;
+
+/*
+* 주식 크롤링 페이지 단위 ItemReader, [fromPage, toPage) 범위만 읽음
+* totalRecords 이후는 요청 없이 종료 (데이터 끝), 그 이전 페이지의 빈 응답만 실패 처리
+* 현재 item 번호로 페이지/위치를 계산하므로 재시작 시 마지막 commit 된 위치의 페이지부터 다시 요청
+*/
+@Slf4j
+public class StockIndexItemReader extends AbstractItemCountingItemStreamItemReader<StockDataResponseDto.Data.Table.Row> {
+    private final CrawlerUtils crawlerUtils;
+    private final int fromPage;
+
+    private List<StockDataResponseDto.Data.Table.Row> pageRows = Collections.emptyList();
+    private int loadedPage = -1;
+
+    public StockIndexItemReader(CrawlerUtils crawlerUtils, int fromPage, int toPage, int totalRecords) {
+        this.crawlerUtils = crawlerUtils;
+        this.fromPage = fromPage;
+        setName("stockIndexItemReader");
+        int remainingRecords = Math.max(0, totalRecords - fromPage * CrawlerUtils.STOCK_PAGE_SIZE);
+        setMaxItemCount(Math.min((toPage - fromPage) * CrawlerUtils.STOCK_PAGE_SIZE, remainingRecords));
+    }
+
+    @Override
+    protected StockDataResponseDto.Data.Table.Row doRead() {
+        int itemIndex = getCurrentItemCount() - 1;
+        int page = fromPage + itemIndex / CrawlerUtils.STOCK_PAGE_SIZE;
+        if (page != loadedPage) {
+            pageRows = crawlerUtils.getStockPageRows(page);
+            loadedPage = page;
+            log.info("[BATCH-STOCK-CRAWLING] Read stock page : {}, row cnt : {}", page, pageRows.size());
+        }
+        int pageIndex = itemIndex % CrawlerUtils.STOCK_PAGE_SIZE;
+        return pageIndex < pageRows.size() ? pageRows.get(pageIndex) : null;
+    }
+
+    @Override
+    protected void jumpToItem(int itemIndex) {
+        log.info("[BATCH-STOCK-CRAWLING] Restart from item : {}", itemIndex);
+    }
+
+    @Override
+    protected void doOpen() {
+        pageRows = Collections.emptyList();
+        loadedPage = -1;
+    }
+
+    @Override
+    protected void doClose() {
+        pageRows = Collections.emptyList();
+        loadedPage = -1;
+    }
+}
@@ -0,0 +1,25 @@
+package com.hklim.finingserver.global.batch;
+
+import com.hklim.finingserver.domain.stock.entity.StockIndex;
+import com.hklim.finingserver.domain.stock.repository.StockIndexBulkRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.item.ItemWriter;
+
+import java.util.ArrayList;
+
+/*
+* chunk 트랜잭션에 참여하여 StockIndex JDBC Batch Insert
+*/
+@Slf4j
+@RequiredArgsConstructor
+public class StockIndexItemWriter implements ItemWriter<StockIndex> {
+    private final StockIndexBulkRepository stockIndexBulkRepository;
+
+    @Override
+    public void write(Chunk<? extends StockIndex> chunk) {
+        int insertCnt = stockIndexBulkRepository.insertBatch(new ArrayList<>(chunk.getItems()));
+        log.debug("[BATCH-STOCK-CRAWLING] Write stock index cnt : {}", insertCnt);
+    }
+}
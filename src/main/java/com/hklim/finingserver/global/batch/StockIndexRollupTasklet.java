@@ -0,0 +1,32 @@
+package com.hklim.finingserver.global.batch;
+
+import com.hklim.finingserver.domain.stock.repository.StockIndexRollupBulkRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.StepContribution;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.repeat.RepeatStatus;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/*
+* 주가 크롤링 완료 후 당일이 속한 주간 / 월간 집계 갱신
+* 기간 재집계로 재시작 시 다시 실행해도 결과가 같음
+*/
+@Slf4j
+@RequiredArgsConstructor
+public class StockIndexRollupTasklet implements Tasklet {
+    private final StockIndexRollupBulkRepository stockIndexRollupBulkRepository;
+
+    @Override
+    public RepeatStatus execute(StepContribution contribution, ChunkContext chunkContext) {
+        String dateTime = (String) chunkContext.getStepContext().getJobParameters().get("dateTime");
+        LocalDate asOfDate = LocalDateTime.parse(dateTime).toLocalDate();
+        log.info("[BATCH-STOCK-ROLLUP] Rollup stock index. Date : {}", asOfDate);
+        int rollupCnt = stockIndexRollupBulkRepository.rollup(asOfDate);
+        contribution.incrementWriteCount(rollupCnt);
+        return RepeatStatus.FINISHED;
+    }
+}
@@ -0,0 +1,54 @@
+package com.hklim.finingserver.global.batch;
+
+import com.hklim.finingserver.global.utils.CrawlerUtils;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.partition.support.Partitioner;
+import org.springframework.batch.item.ExecutionContext;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/*
+* 주식 크롤링 페이지 범위 분할 [fromPage, toPage)
+* 분할 시 첫 페이지를 한번 요청하여 totalrecords 확인, 전체 페이지 수는 maxCnt 와 totalrecords 중 작은 쪽 기준
+* totalRecords 를 partition 에 함께 전달하여 ItemReader 가 실제 데이터 이후 페이지를 요청하지 않도록 함
+*/
+@Slf4j
+public class StockPagePartitioner implements Partitioner {
+    public static final String FROM_PAGE = "fromPage";
+    public static final String TO_PAGE = "toPage";
+    public static final String TOTAL_RECORDS = "totalRecords";
+
+    private final CrawlerUtils crawlerUtils;
+    private final int maxCnt;
+
+    public StockPagePartitioner(CrawlerUtils crawlerUtils, int maxCnt) {
+        this.crawlerUtils = crawlerUtils;
+        this.maxCnt = maxCnt;
+    }
+
+    @Override
+    public Map<String, ExecutionContext> partition(int gridSize) {
+        int totalRecords = crawlerUtils.getStockTotalRecords();
+        int pageCnt = CrawlerUtils.stockPageCnt(totalRecords, maxCnt);
+        log.info("[BATCH-STOCK-CRAWLING] Total records : {}, page cnt : {}", totalRecords, pageCnt);
+
+        int partitionCnt = Math.max(1, Math.min(gridSize, pageCnt));
+        int pagesPerPartition = pageCnt / partitionCnt;
+        int remainder = pageCnt % partitionCnt;
+
+        Map<String, ExecutionContext> partitions = new LinkedHashMap<>();
+        int fromPage = 0;
+        for (int i = 0; i < partitionCnt; i++) {
+            int toPage = fromPage + pagesPerPartition + (i < remainder ? 1 : 0);
+            ExecutionContext context = new ExecutionContext();
+            context.putInt(FROM_PAGE, fromPage);
+            context.putInt(TO_PAGE, toPage);
+            context.putInt(TOTAL_RECORDS, totalRecords);
+            partitions.put("stockPagePartition" + i, context);
+            log.info("[BATCH-STOCK-CRAWLING] Partition : {}, page range : [{}, {})", i, fromPage, toPage);
+            fromPage = toPage;
+        }
+        return partitions;
+    }
+}
@@ -0,0 +1,44 @@
+package com.hklim.finingserver.global.batch;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.StepExecutionListener;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/*
+* partition 관리 Step 종료 시 worker Step 의 미등록 Symbol 을 합산하여 한번만 기록
+* 관리 Step ExecutionContext 에 unknownSymbolCnt, unknownSymbols 저장 (StockService.insertTotalData 결과와 동일한 항목)
+*/
+@Slf4j
+public class UnknownSymbolReportListener implements StepExecutionListener {
+    private final String workerStepName;
+
+    public UnknownSymbolReportListener(String workerStepName) {
+        this.workerStepName = workerStepName;
+    }
+
+    @Override
+    public ExitStatus afterStep(StepExecution stepExecution) {
+        Set<String> unknownSymbols = new LinkedHashSet<>();
+        for (StepExecution workerExecution : stepExecution.getJobExecution().getStepExecutions()) {
+            if (!workerExecution.getStepName().startsWith(workerStepName + ":")) {
+                continue;
+            }
+            Object symbols = workerExecution.getExecutionContext().get(StockIndexItemProcessor.UNKNOWN_SYMBOLS_KEY);
+            if (symbols instanceof List<?> list) {
+                list.forEach(symbol -> unknownSymbols.add(String.valueOf(symbol)));
+            }
+        }
+        stepExecution.getExecutionContext().putInt(StockIndexItemProcessor.UNKNOWN_SYMBOL_CNT_KEY, unknownSymbols.size());
+        stepExecution.getExecutionContext().put(StockIndexItemProcessor.UNKNOWN_SYMBOLS_KEY, new ArrayList<>(unknownSymbols));
+        if (!unknownSymbols.isEmpty()) {
+            log.info("[BATCH-STOCK-CRAWLING] Unknown symbol cnt : {}, symbols : {}", unknownSymbols.size(), unknownSymbols);
+        }
+        return null;
+    }
+}
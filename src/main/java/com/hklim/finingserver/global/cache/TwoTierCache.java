@@ -0,0 +1,202 @@
+package com.hklim.finingserver.global.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.hklim.finingserver.global.entity.RedisKeyType;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/*
+* 2단계 캐시 (L1 : 서버 로컬 Caffeine, L2 : Redis)
+* L1 miss -> L2 조회 -> L2 miss 시 loader (DB) 조회 후 L1, L2 저장, 같은 key 동시 miss 는 한 번만 조회
+* 조회 결과가 없는 key 는 L1 에만 저장 (신규 데이터 저장 시 invalidate 필요)
+* invalidate : L2 삭제 후 pub/sub 으로 전체 서버의 L1 삭제
+* Redis 장애 시 L2 를 건너뛰고 loader 조회 (L1 은 TTL 로 정리)
+*/
+@Slf4j
+public class TwoTierCache<V> implements MessageListener {
+    public static final String INVALIDATE_CHANNEL_PREFIX = "channel:cache:invalidate:";
+    private static final String ALL_KEYS = "*";
+
+    private final String name;
+    private final Class<V> valueType;
+    private final Function<String, V> loader;
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final Duration redisTtl;
+    private final String redisKeyPrefix;
+    private final Cache<String, Optional<V>> localCache;
+
+    private final LongAdder l1HitCnt = new LongAdder();
+    private final LongAdder l2HitCnt = new LongAdder();
+    private final LongAdder missCnt = new LongAdder();
+    private final LongAdder l2ErrorCnt = new LongAdder();
+
+    public TwoTierCache(String name, Class<V> valueType, Function<String, V> loader,
+                        StringRedisTemplate redisTemplate, ObjectMapper objectMapper,
+                        long localMaxSize, Duration localTtl, Duration redisTtl) {
+        this.name = name;
+        this.valueType = valueType;
+        this.loader = loader;
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.redisTtl = redisTtl;
+        this.redisKeyPrefix = RedisKeyType.MASTER_CACHE.getSeparator() + name + ":";
+        this.localCache = Caffeine.newBuilder()
+                .maximumSize(localMaxSize)
+                .expireAfterWrite(localTtl)
+                .build();
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getInvalidateChannel() {
+        return INVALIDATE_CHANNEL_PREFIX + name;
+    }
+
+    public V get(String key) {
+        if (key == null) {
+            return null;
+        }
+        Optional<V> cached = localCache.getIfPresent(key);
+        if (cached != null) {
+            l1HitCnt.increment();
+            return cached.orElse(null);
+        }
+        return localCache.get(key, this::load).orElse(null);
+    }
+
+    public void invalidate(String key) {
+        if (key == null) {
+            return;
+        }
+        try {
+            redisTemplate.delete(redisKeyPrefix + key);
+        } catch (Exception e) {
+            l2ErrorCnt.increment();
+            log.info("[TWO-TIER-CACHE] Fail to delete redis cache. Cache : {}, Key : {}, error msg : {}", name, key, e.getMessage());
+        }
+        localCache.invalidate(key);
+        publish(key);
+    }
+
+    public void invalidateAll() {
+        try {
+            deleteRedisKeys();
+        } catch (Exception e) {
+            l2ErrorCnt.increment();
+            log.info("[TWO-TIER-CACHE] Fail to delete redis cache. Cache : {}, error msg : {}", name, e.getMessage());
+        }
+        localCache.invalidateAll();
+        publish(ALL_KEYS);
+        log.info("[TWO-TIER-CACHE] Invalidate all. Cache : {}", name);
+    }
+
+    /*
+    * 다른 서버의 invalidate 메시지, L1 만 삭제
+    */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String key = new String(message.getBody(), StandardCharsets.UTF_8);
+        if (ALL_KEYS.equals(key)) {
+            localCache.invalidateAll();
+        } else {
+            localCache.invalidate(key);
+        }
+    }
+
+    public long getL1HitCnt() {
+        return l1HitCnt.sum();
+    }
+
+    public long getL2HitCnt() {
+        return l2HitCnt.sum();
+    }
+
+    public long getMissCnt() {
+        return missCnt.sum();
+    }
+
+    public long getL2ErrorCnt() {
+        return l2ErrorCnt.sum();
+    }
+
+    public long getLocalSize() {
+        return localCache.estimatedSize();
+    }
+
+    private Optional<V> load(String key) {
+        V value = readRedis(key);
+        if (value != null) {
+            l2HitCnt.increment();
+            return Optional.of(value);
+        }
+        missCnt.increment();
+        value = loader.apply(key);
+        if (value != null) {
+            writeRedis(key, value);
+        }
+        return Optional.ofNullable(value);
+    }
+
+    private V readRedis(String key) {
+        try {
+            String json = redisTemplate.opsForValue().get(redisKeyPrefix + key);
+            return json == null ? null : objectMapper.readValue(json, valueType);
+        } catch (Exception e) {
+            l2ErrorCnt.increment();
+            log.debug("[TWO-TIER-CACHE] Fail to read redis cache. Cache : {}, Key : {}, error msg : {}", name, key, e.getMessage());
+            return null;
+        }
+    }
+
+    private void writeRedis(String key, V value) {
+        try {
+            redisTemplate.opsForValue().set(redisKeyPrefix + key, objectMapper.writeValueAsString(value), redisTtl);
+        } catch (Exception e) {
+            l2ErrorCnt.increment();
+            log.debug("[TWO-TIER-CACHE] Fail to write redis cache. Cache : {}, Key : {}, error msg : {}", name, key, e.getMessage());
+        }
+    }
+
+    private void publish(String key) {
+        try {
+            redisTemplate.convertAndSend(getInvalidateChannel(), key);
+        } catch (Exception e) {
+            l2ErrorCnt.increment();
+            log.info("[TWO-TIER-CACHE] Fail to publish invalidate message. Cache : {}, Key : {}, error msg : {}", name, key, e.getMessage());
+        }
+    }
+
+    private void deleteRedisKeys() {
+        ScanOptions options = ScanOptions.scanOptions().match(redisKeyPrefix + "*").count(1000).build();
+        List<String> keys = redisTemplate.execute((RedisCallback<List<String>>) connection -> {
+            List<String> scanned = new ArrayList<>();
+            try (Cursor<byte[]> cursor = connection.keyCommands().scan(options)) {
+                while (cursor.hasNext()) {
+                    scanned.add(new String(cursor.next(), StandardCharsets.UTF_8));
+                }
+            }
+            return scanned;
+        });
+        if (keys != null && !keys.isEmpty()) {
+            redisTemplate.delete(keys);
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.hklim.finingserver.global.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Function;
+
+/*
+* TwoTierCache 생성 (공통 설정, invalidate 채널 구독), 생성된 캐시 목록은 hit / miss 통계 조회용
+* hit / miss 통계는 cache.gets (result : l1_hit, l2_hit, miss), cache.l2.errors, cache.size metric 으로 노출
+*/
+@Slf4j
+@Component
+public class TwoTierCacheManager {
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final long localMaxSize;
+    private final Duration localTtl;
+    private final Duration redisTtl;
+    private final List<TwoTierCache<?>> caches = new CopyOnWriteArrayList<>();
+
+    public TwoTierCacheManager(StringRedisTemplate redisTemplate,
+                               RedisMessageListenerContainer listenerContainer,
+                               ObjectMapper objectMapper,
+                               MeterRegistry meterRegistry,
+                               @Value("${service.cache.local.max-size:20000}") long localMaxSize,
+                               @Value("${service.cache.local.ttl-seconds:600}") long localTtlSeconds,
+                               @Value("${service.cache.redis.ttl-seconds:86400}") long redisTtlSeconds) {
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        this.localMaxSize = localMaxSize;
+        this.localTtl = Duration.ofSeconds(localTtlSeconds);
+        this.redisTtl = Duration.ofSeconds(redisTtlSeconds);
+    }
+
+    public <V> TwoTierCache<V> create(String name, Class<V> valueType, Function<String, V> loader) {
+        TwoTierCache<V> cache = new TwoTierCache<>(name, valueType, loader, redisTemplate, objectMapper,
+                localMaxSize, localTtl, redisTtl);
+        listenerContainer.addMessageListener(cache, new ChannelTopic(cache.getInvalidateChannel()));
+        caches.add(cache);
+        bindMetrics(cache);
+        log.info("[TWO-TIER-CACHE] Create cache : {}, L1 max size : {}, L1 ttl : {}, L2 ttl : {}", name, localMaxSize, localTtl, redisTtl);
+        return cache;
+    }
+
+    public List<TwoTierCache<?>> getCaches() {
+        return List.copyOf(caches);
+    }
+
+    private void bindMetrics(TwoTierCache<?> cache) {
+        FunctionCounter.builder("cache.gets", cache, TwoTierCache::getL1HitCnt)
+                .tag("cache", cache.getName()).tag("result", "l1_hit").register(meterRegistry);
+        FunctionCounter.builder("cache.gets", cache, TwoTierCache::getL2HitCnt)
+                .tag("cache", cache.getName()).tag("result", "l2_hit").register(meterRegistry);
+        FunctionCounter.builder("cache.gets", cache, TwoTierCache::getMissCnt)
+                .tag("cache", cache.getName()).tag("result", "miss").register(meterRegistry);
+        FunctionCounter.builder("cache.l2.errors", cache, TwoTierCache::getL2ErrorCnt)
+                .tag("cache", cache.getName()).register(meterRegistry);
+        Gauge.builder("cache.size", cache, TwoTierCache::getLocalSize)
+                .tag("cache", cache.getName()).register(meterRegistry);
+    }
+}
@@ -0,0 +1,246 @@
+package com.hklim.finingserver.global.client;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.zip.GZIPInputStream;
+
+/*
+* JDK HttpClient 기반 MarketDataClient
+* Client 하나를 공유하여 연결 재사용 (keep-alive, HTTP/2 지원 host 는 하나의 연결로 multiplexing)
+* gzip 으로 요청하고, 응답이 gzip 이면 압축 해제 stream 반환
+* host 별 동시 요청 수 제한, 초과 요청은 thread 를 점유하지 않고 대기열에서 순서대로 전송
+* 응답 timeout 은 응답 header 수신까지, 대기열 대기 시간도 같은 timeout 적용
+*/
+@Slf4j
+@Component
+public class JdkMarketDataClient implements MarketDataClient {
+    private static final String DEFAULT_USER_AGENT = "Mozilla/5.0 (Macintosh; Intel Mac OS X 10_15_7) AppleWebKit/537.36 "
+            + "(KHTML, like Gecko) Chrome/124.0.0.0 Safari/537.36";
+
+    private final HttpClient httpClient;
+    private final Duration requestTimeout;
+    private final int maxConcurrencyPerHost;
+    private final String userAgent;
+    private final Map<String, HostPermits> hostPermits = new ConcurrentHashMap<>();
+
+    public JdkMarketDataClient(@Value("${service.market-data.connect-timeout-millis:10000}") long connectTimeoutMillis,
+                               @Value("${service.market-data.request-timeout-millis:60000}") long requestTimeoutMillis,
+                               @Value("${service.market-data.max-concurrency-per-host:8}") int maxConcurrencyPerHost,
+                               @Value("${service.market-data.user-agent:" + DEFAULT_USER_AGENT + "}") String userAgent) {
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)
+                .connectTimeout(Duration.ofMillis(connectTimeoutMillis))
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .build();
+        this.requestTimeout = Duration.ofMillis(requestTimeoutMillis);
+        this.maxConcurrencyPerHost = maxConcurrencyPerHost;
+        this.userAgent = userAgent;
+        log.info("[MARKET-DATA-CLIENT] Client ready. connect timeout : {}ms, request timeout : {}ms, max concurrency per host : {}",
+                connectTimeoutMillis, requestTimeoutMillis, maxConcurrencyPerHost);
+    }
+
+    @PreDestroy
+    public void destroy() {
+        httpClient.shutdownNow();
+    }
+
+    @Override
+    public CompletableFuture<InputStream> fetchAsync(String url) {
+        URI uri = URI.create(url);
+        HttpRequest request = HttpRequest.newBuilder(uri)
+                .timeout(requestTimeout)
+                .header("Accept", "application/json, text/plain, */*")
+                .header("Accept-Encoding", "gzip")
+                .header("User-Agent", userAgent)
+                .GET()
+                .build();
+        HostPermits permits = hostPermits.computeIfAbsent(uri.getHost() + ":" + uri.getPort(),
+                host -> new HostPermits(maxConcurrencyPerHost));
+        return permits.acquire()
+                .orTimeout(requestTimeout.toMillis(), TimeUnit.MILLISECONDS)
+                .thenCompose(acquired -> send(request, permits));
+    }
+
+    @Override
+    public InputStream fetch(String url) throws IOException {
+        try {
+            return fetchAsync(url).join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException ioException) {
+                throw ioException;
+            }
+            if (cause instanceof TimeoutException) {
+                throw new HttpTimeoutException("Timed out waiting for host permit. URL=" + url);
+            }
+            throw new IOException(cause);
+        }
+    }
+
+    int getInUseCnt(String host, int port) {
+        HostPermits permits = hostPermits.get(host + ":" + port);
+        return permits == null ? 0 : permits.getInUse();
+    }
+
+    private CompletableFuture<InputStream> send(HttpRequest request, HostPermits permits) {
+        CompletableFuture<HttpResponse<InputStream>> response;
+        try {
+            response = httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofInputStream());
+        } catch (RuntimeException e) {
+            permits.release();
+            return CompletableFuture.failedFuture(e);
+        }
+        return response.handle((res, e) -> {
+            if (e != null) {
+                permits.release();
+                throw e instanceof CompletionException completionException ? completionException : new CompletionException(e);
+            }
+            return toBodyStream(request, res, permits);
+        });
+    }
+
+    /*
+    * 2xx 가 아니면 body 를 닫고 실패 처리
+    * gzip 해제는 첫 read 시점에 시작 (HttpClient callback thread 에서 body 를 읽지 않도록)
+    */
+    private InputStream toBodyStream(HttpRequest request, HttpResponse<InputStream> res, HostPermits permits) {
+        InputStream body = new PermitReleasingStream(res.body(), permits);
+        if (res.statusCode() / 100 != 2) {
+            try {
+                body.close();
+            } catch (IOException e) {
+                log.debug("[MARKET-DATA-CLIENT] Fail to close error response body. error msg : {}", e.getMessage());
+            }
+            throw new CompletionException(new IOException(
+                    "HTTP error fetching URL. Status=" + res.statusCode() + ", URL=" + request.uri()));
+        }
+        boolean gzip = res.headers().firstValue("Content-Encoding")
+                .map(encoding -> encoding.equalsIgnoreCase("gzip"))
+                .orElse(false);
+        return gzip ? new LazyGzipStream(body) : body;
+    }
+
+    /*
+    * host 별 동시 요청 permit, 대기 중 timeout 된 요청은 permit 을 넘기지 않고 건너뜀
+    */
+    private static class HostPermits {
+        private final int maxConcurrency;
+        private final Deque<CompletableFuture<Void>> waiters = new ArrayDeque<>();
+        private int inUse;
+
+        HostPermits(int maxConcurrency) {
+            this.maxConcurrency = maxConcurrency;
+        }
+
+        CompletableFuture<Void> acquire() {
+            synchronized (this) {
+                if (inUse < maxConcurrency) {
+                    inUse++;
+                    return CompletableFuture.completedFuture(null);
+                }
+                CompletableFuture<Void> waiter = new CompletableFuture<>();
+                waiters.add(waiter);
+                return waiter;
+            }
+        }
+
+        void release() {
+            while (true) {
+                CompletableFuture<Void> next;
+                synchronized (this) {
+                    next = waiters.poll();
+                    if (next == null) {
+                        inUse--;
+                        return;
+                    }
+                }
+                if (next.complete(null)) {
+                    return;
+                }
+            }
+        }
+
+        synchronized int getInUse() {
+            return inUse;
+        }
+    }
+
+    private static class PermitReleasingStream extends FilterInputStream {
+        private final HostPermits permits;
+        private boolean closed;
+
+        PermitReleasingStream(InputStream in, HostPermits permits) {
+            super(in);
+            this.permits = permits;
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            try {
+                super.close();
+            } finally {
+                permits.release();
+            }
+        }
+    }
+
+    private static class LazyGzipStream extends FilterInputStream {
+        private boolean opened;
+
+        LazyGzipStream(InputStream in) {
+            super(in);
+        }
+
+        private InputStream gzip() throws IOException {
+            if (!opened) {
+                in = new GZIPInputStream(in);
+                opened = true;
+            }
+            return in;
+        }
+
+        @Override
+        public int read() throws IOException {
+            return gzip().read();
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            return gzip().read(b, off, len);
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            return gzip().skip(n);
+        }
+
+        @Override
+        public int available() throws IOException {
+            return gzip().available();
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.hklim.finingserver.global.client;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.CompletableFuture;
+
+/*
+* 시세 / 지표 API (JSON) 조회 Client
+* 반환된 body stream 은 호출한 쪽에서 close (close 시 연결 반환)
+*/
+public interface MarketDataClient {
+
+    CompletableFuture<InputStream> fetchAsync(String url);
+
+    InputStream fetch(String url) throws IOException;
+}
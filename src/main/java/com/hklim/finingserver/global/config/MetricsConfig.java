@@ -0,0 +1,42 @@
+package com.hklim.finingserver.global.config;
+
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.micrometer.core.instrument.distribution.DistributionStatisticConfig;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.Arrays;
+
+/*
+* UiController (/api/v1/ui/**) 요청 시간만 histogram bucket 기록 (http.server.requests, uri 별)
+* 나머지 API 는 기본 (count, sum, max) 만 기록
+*/
+@Configuration
+public class MetricsConfig {
+    private static final String HTTP_SERVER_REQUESTS = "http.server.requests";
+    private static final String UI_URI_PREFIX = "/api/v1/ui/";
+
+    @Bean
+    public MeterFilter uiLatencyHistogramFilter(@Value("${service.metrics.ui-slo-millis:50,100,300,1000}") long[] sloMillis) {
+        double[] slo = Arrays.stream(sloMillis)
+                .mapToDouble(millis -> Duration.ofMillis(millis).toNanos())
+                .toArray();
+        return new MeterFilter() {
+            @Override
+            public DistributionStatisticConfig configure(Meter.Id id, DistributionStatisticConfig config) {
+                String uri = id.getTag("uri");
+                if (!HTTP_SERVER_REQUESTS.equals(id.getName()) || uri == null || !uri.startsWith(UI_URI_PREFIX)) {
+                    return config;
+                }
+                return DistributionStatisticConfig.builder()
+                        .percentilesHistogram(true)
+                        .serviceLevelObjectives(slo)
+                        .build()
+                        .merge(config);
+            }
+        };
+    }
+}
@@ -5,6 +5,7 @@ import com.hklim.finingserver.global.security.jwt.CustomAuthenticationEntryPoint
 import com.hklim.finingserver.global.security.jwt.CustomUserDetailsService;
 import com.hklim.finingserver.global.security.jwt.JwtAuthFilter;
 import com.hklim.finingserver.global.utils.JwtUtils;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.AllArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -27,9 +28,12 @@ public class SecurityConfig {
     private final JwtUtils jwtUtils;
     private final CustomAccessDeniedHandler accessDeniedHandler;
     private final CustomAuthenticationEntryPoint authenticationEntryPoint;
+    private final MeterRegistry meterRegistry;
 
     private static final String[] AUTH_WHITELIST = {
-            "/api/vi/member/**", "/api/v1/auth/**", "/api/v1/stock/**", "/api/v1/ui/main/**", "/api/v1/ui/stock/**", "/api/v1/ui/indicators/**"
+            "/api/vi/member/**", "/api/v1/auth/**", "/api/v1/stock/**", "/api/v1/ui/main/**", "/api/v1/ui/stock/**", "/api/v1/ui/indicators/**",
+            // 모니터링 (monitoring profile 에서 management port 로만 노출)
+            "/actuator/health", "/actuator/prometheus"
     };
     private static final String[] AUTH_ADMIN = {
             "/api/v1/stock/scrap/**", "/api/v1/indicator/scrap/**", "/api/v1/auth/logout"
@@ -51,7 +55,7 @@ public class SecurityConfig {
         http.formLogin((form) -> form.disable());
         http.httpBasic(AbstractHttpConfigurer::disable);
 
-        http.addFilterBefore(new JwtAuthFilter(customUserDetailsService, jwtUtils), UsernamePasswordAuthenticationFilter.class);
+        http.addFilterBefore(new JwtAuthFilter(customUserDetailsService, jwtUtils, meterRegistry), UsernamePasswordAuthenticationFilter.class);
 
         http.exceptionHandling(exceptionHandler -> exceptionHandler
                 .authenticationEntryPoint(authenticationEntryPoint)
@@ -0,0 +1,20 @@
+package com.hklim.finingserver.global.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class RollupRebuildResultDto {
+    private LocalDate from;
+    private LocalDate to;
+    // 재집계한 주간 + 월간 기간 수
+    private int periodCnt;
+    private long elapsedMillis;
+}
@@ -0,0 +1,17 @@
+package com.hklim.finingserver.global.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/*
+* 시계열 Keyset 페이지, nextCursor : 다음 페이지 조회 시 cursor (해당 날짜 미만 조회), 마지막 페이지면 null
+*/
+@Getter
+@AllArgsConstructor
+public class TimeSeriesPage<T> {
+    private List<T> content;
+    private LocalDate nextCursor;
+}
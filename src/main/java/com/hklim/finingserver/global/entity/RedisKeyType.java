@@ -8,6 +8,8 @@ import lombok.Getter;
 public enum RedisKeyType {
     AUTH_EMAIL("auth:email:")
     ,LOGOUT_TOKEN("logout:token:")
-    ,REFRESH_TOKEN("refresh:token:");
+    ,REFRESH_TOKEN("refresh:token:")
+    ,MAIN_SNAPSHOT("snapshot:main:")
+    ,MASTER_CACHE("cache:");
     String separator;
 }
@@ -0,0 +1,32 @@
+package com.hklim.finingserver.global.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+
+/*
+* 시계열 조회 단위, 주간은 월요일 / 월간은 1일 기준으로 묶음
+*/
+@Getter
+@AllArgsConstructor
+public enum ResolutionType {
+    DAILY(ChronoUnit.DAYS)
+    ,WEEKLY(ChronoUnit.WEEKS)
+    ,MONTHLY(ChronoUnit.MONTHS);
+    ChronoUnit unit;
+
+    public LocalDate bucketStart(LocalDate date) {
+        return switch (this) {
+            case DAILY -> date;
+            case WEEKLY -> date.with(DayOfWeek.MONDAY);
+            case MONTHLY -> date.withDayOfMonth(1);
+        };
+    }
+
+    public LocalDate minusBuckets(LocalDate bucketStart, long cnt) {
+        return bucketStart.minus(cnt, unit);
+    }
+}
@@ -0,0 +1,15 @@
+package com.hklim.finingserver.global.logging;
+
+import org.slf4j.Marker;
+import org.slf4j.MarkerFactory;
+
+/*
+* 요청 / Row 단위로 반복되는 로그에 SAMPLED marker 지정, SampledLogTurboFilter 에서 N 건 중 1 건만 출력
+* ex) log.info(LogSampling.SAMPLED, "[STOCK-DETAIL-UI-DATA] Symbol : {}", symbol);
+*/
+public class LogSampling {
+    public static final Marker SAMPLED = MarkerFactory.getMarker("SAMPLED");
+
+    private LogSampling() {
+    }
+}
@@ -0,0 +1,35 @@
+package com.hklim.finingserver.global.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import org.slf4j.Marker;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/*
+* SAMPLED marker 로그는 rate 건 중 1 건만 통과 (WARN 이상은 항상 통과)
+* 메시지 포맷 / 이벤트 생성 전에 판단하므로 버려지는 로그는 비용이 거의 없음
+* logback-spring.xml 의 logging.sampling.rate 로 설정 (1 이면 전체 출력)
+*/
+public class SampledLogTurboFilter extends TurboFilter {
+    private final AtomicLong sampledCnt = new AtomicLong();
+    private long rate = 100;
+
+    public void setRate(long rate) {
+        this.rate = Math.max(1, rate);
+    }
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params, Throwable t) {
+        if (marker == null || !marker.contains(LogSampling.SAMPLED) || level.isGreaterOrEqual(Level.WARN)) {
+            return FilterReply.NEUTRAL;
+        }
+        // 출력되지 않는 레벨은 sampling 대상에서 제외
+        if (!level.isGreaterOrEqual(logger.getEffectiveLevel())) {
+            return FilterReply.DENY;
+        }
+        return sampledCnt.getAndIncrement() % rate == 0 ? FilterReply.NEUTRAL : FilterReply.DENY;
+    }
+}
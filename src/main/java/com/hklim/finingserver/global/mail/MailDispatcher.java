@@ -0,0 +1,255 @@
+package com.hklim.finingserver.global.mail;
+
+import com.hklim.finingserver.global.exception.ApplicationErrorException;
+import com.hklim.finingserver.global.exception.ApplicationErrorType;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.MimeMessage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.MimeMessageHelper;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/*
+* 메일 발송 Queue
+* 요청 Thread 는 Queue 에 적재 후 바로 반환, Worker 가 batch 단위로 꺼내 하나의 SMTP 연결로 발송
+* 발송 실패 시 backoff 후 재시도, 최대 시도 횟수 초과 시 실패 처리
+* 처리 건수는 mail.requests (result : enqueued, sent, retried, failed, rejected), Queue 적재 건수는 mail.queue.size metric 으로 노출
+*/
+@Slf4j
+@Component
+public class MailDispatcher {
+    private static final long POLL_TIMEOUT_MILLIS = 500;
+
+    private final JavaMailSender javaMailSender;
+    private final MeterRegistry meterRegistry;
+    private final BlockingQueue<MailRequest> queue;
+    private final int workerCnt;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final long retryBackoffMillis;
+    private final long shutdownTimeoutMillis;
+    private final boolean virtualThreads;
+
+    private final AtomicLong enqueuedCnt = new AtomicLong();
+    private final AtomicLong sentCnt = new AtomicLong();
+    private final AtomicLong retriedCnt = new AtomicLong();
+    private final AtomicLong failedCnt = new AtomicLong();
+    private final AtomicLong rejectedCnt = new AtomicLong();
+
+    private volatile boolean running;
+    private ExecutorService workerExecutor;
+    private ScheduledExecutorService retryScheduler;
+
+    public MailDispatcher(JavaMailSender javaMailSender,
+                          MeterRegistry meterRegistry,
+                          @Value("${service.mail.queue-capacity:1000}") int queueCapacity,
+                          @Value("${service.mail.worker-cnt:2}") int workerCnt,
+                          @Value("${service.mail.batch-size:20}") int batchSize,
+                          @Value("${service.mail.max-attempts:3}") int maxAttempts,
+                          @Value("${service.mail.retry-backoff-millis:1000}") long retryBackoffMillis,
+                          @Value("${service.mail.shutdown-timeout-millis:10000}") long shutdownTimeoutMillis,
+                          @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        this.javaMailSender = javaMailSender;
+        this.meterRegistry = meterRegistry;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.workerCnt = workerCnt;
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.retryBackoffMillis = retryBackoffMillis;
+        this.shutdownTimeoutMillis = shutdownTimeoutMillis;
+        this.virtualThreads = virtualThreads;
+        bindMetrics();
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        // virtual profile : SMTP 응답 대기 동안 OS thread 를 점유하지 않도록 worker 를 virtual thread 로 생성
+        ThreadFactory workerThreadFactory = virtualThreads
+                ? Thread.ofVirtual().name("mail-worker-", 1).factory()
+                : new CustomizableThreadFactory("mail-worker-");
+        workerExecutor = Executors.newFixedThreadPool(workerCnt, workerThreadFactory);
+        retryScheduler = Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("mail-retry-"));
+        for (int i = 0; i < workerCnt; i++) {
+            workerExecutor.execute(this::work);
+        }
+        log.info("[MAIL-DISPATCHER] Start mail workers. Worker cnt : {}, Queue capacity : {}, virtual : {}", workerCnt, queue.remainingCapacity(), virtualThreads);
+    }
+
+    /*
+    * Queue 가 가득 찬 경우 즉시 실패 (요청 Thread 를 대기시키지 않음)
+    */
+    public void enqueue(MailRequest mailRequest) {
+        if (!running || !queue.offer(mailRequest)) {
+            rejectedCnt.incrementAndGet();
+            throw new ApplicationErrorException(ApplicationErrorType.AUTHCODE_SEND_ERROR, "[MAIL-DISPATCHER] Mail queue is full. Try again later. ");
+        }
+        enqueuedCnt.incrementAndGet();
+    }
+
+    private void work() {
+        List<MailRequest> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                MailRequest first = queue.poll(POLL_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                sendBatch(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                log.error("[MAIL-DISPATCHER] Unexpected error in mail worker. ", e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    /*
+    * JavaMailSender.send(MimeMessage...) 는 batch 전체를 하나의 Transport 연결로 발송
+    */
+    private void sendBatch(List<MailRequest> batch) {
+        Map<MimeMessage, MailRequest> messages = new LinkedHashMap<>();
+        for (MailRequest mailRequest : batch) {
+            try {
+                messages.put(createMessage(mailRequest), mailRequest);
+            } catch (MessagingException e) {
+                failedCnt.incrementAndGet();
+                log.error("[MAIL-DISPATCHER] Fail to create mail message. to : {}", mailRequest.getTo(), e);
+            }
+        }
+        if (messages.isEmpty()) {
+            return;
+        }
+        try {
+            javaMailSender.send(messages.keySet().toArray(new MimeMessage[0]));
+            sentCnt.addAndGet(messages.size());
+        } catch (MailSendException e) {
+            Map<Object, Exception> failedMessages = e.getFailedMessages();
+            if (failedMessages.isEmpty()) {
+                messages.values().forEach(mailRequest -> retryLater(mailRequest, e));
+                return;
+            }
+            sentCnt.addAndGet(messages.size() - failedMessages.size());
+            failedMessages.forEach((message, cause) -> {
+                MailRequest mailRequest = messages.get(message);
+                if (mailRequest != null) {
+                    retryLater(mailRequest, cause);
+                }
+            });
+        } catch (MailException e) {
+            messages.values().forEach(mailRequest -> retryLater(mailRequest, e));
+        }
+    }
+
+    private MimeMessage createMessage(MailRequest mailRequest) throws MessagingException {
+        MimeMessage mimeMessage = javaMailSender.createMimeMessage();
+        MimeMessageHelper helper = new MimeMessageHelper(mimeMessage, true, "utf-8");
+        helper.setTo(mailRequest.getTo());
+        helper.setSubject(mailRequest.getSubject());
+        helper.setText(mailRequest.getText(), true);
+        return mimeMessage;
+    }
+
+    /*
+    * 시도 횟수에 따라 backoff 2배씩 증가
+    */
+    private void retryLater(MailRequest mailRequest, Exception cause) {
+        MailRequest next = mailRequest.nextAttempt();
+        if (next.getAttempt() >= maxAttempts) {
+            failedCnt.incrementAndGet();
+            log.error("[MAIL-DISPATCHER] Fail to send mail. Attempt cnt : {}, to : {}", next.getAttempt(), mailRequest.getTo(), cause);
+            return;
+        }
+        retriedCnt.incrementAndGet();
+        long delayMillis = retryBackoffMillis << (next.getAttempt() - 1);
+        log.warn("[MAIL-DISPATCHER] Retry mail after {}ms. Attempt cnt : {}, to : {}, cause : {}",
+                delayMillis, next.getAttempt(), mailRequest.getTo(), cause.getMessage());
+        retryScheduler.schedule(() -> {
+            if (!queue.offer(next)) {
+                failedCnt.incrementAndGet();
+                log.error("[MAIL-DISPATCHER] Mail queue is full. Drop retry mail. to : {}", mailRequest.getTo());
+            }
+        }, delayMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /*
+    * 신규 요청은 거부하고 Queue 에 남은 메일은 제한 시간 내에서 발송
+    */
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        retryScheduler.shutdownNow();
+        workerExecutor.shutdown();
+        if (!workerExecutor.awaitTermination(shutdownTimeoutMillis, TimeUnit.MILLISECONDS)) {
+            workerExecutor.shutdownNow();
+        }
+        log.info("[MAIL-DISPATCHER] Stop mail workers. Sent : {}, Failed : {}, Remaining : {}",
+                sentCnt.get(), failedCnt.get(), queue.size());
+    }
+
+    private void bindMetrics() {
+        FunctionCounter.builder("mail.requests", enqueuedCnt, AtomicLong::get)
+                .tag("result", "enqueued").register(meterRegistry);
+        FunctionCounter.builder("mail.requests", sentCnt, AtomicLong::get)
+                .tag("result", "sent").register(meterRegistry);
+        FunctionCounter.builder("mail.requests", retriedCnt, AtomicLong::get)
+                .tag("result", "retried").register(meterRegistry);
+        FunctionCounter.builder("mail.requests", failedCnt, AtomicLong::get)
+                .tag("result", "failed").register(meterRegistry);
+        FunctionCounter.builder("mail.requests", rejectedCnt, AtomicLong::get)
+                .tag("result", "rejected").register(meterRegistry);
+        Gauge.builder("mail.queue.size", queue, BlockingQueue::size)
+                .register(meterRegistry);
+    }
+
+    public int getQueueSize() {
+        return queue.size();
+    }
+
+    public long getEnqueuedCnt() {
+        return enqueuedCnt.get();
+    }
+
+    public long getSentCnt() {
+        return sentCnt.get();
+    }
+
+    public long getRetriedCnt() {
+        return retriedCnt.get();
+    }
+
+    public long getFailedCnt() {
+        return failedCnt.get();
+    }
+
+    public long getRejectedCnt() {
+        return rejectedCnt.get();
+    }
+}
@@ -0,0 +1,22 @@
+package com.hklim.finingserver.global.mail;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+/*
+* 발송 대기 메일 (HTML 본문), attempt : 발송 시도 횟수
+*/
+@Getter
+@Builder
+@AllArgsConstructor
+public class MailRequest {
+    private final String to;
+    private final String subject;
+    private final String text;
+    private final int attempt;
+
+    MailRequest nextAttempt() {
+        return new MailRequest(to, subject, text, attempt + 1);
+    }
+}
@@ -3,17 +3,27 @@ package com.hklim.finingserver.global.security.jwt;
 import com.hklim.finingserver.domain.auth.dto.JwtUserInfo;
 import com.hklim.finingserver.domain.member.entity.Member;
 import com.hklim.finingserver.domain.member.repository.MemberRepository;
-import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 
 @Service
-@RequiredArgsConstructor
 public class CustomUserDetailsService implements UserDetailsService {
 
     private final MemberRepository memberRepository;
+    private final MemberStatusCache memberStatusCache;
+    // true : 검증된 JWT Claims 로 인증 정보 구성, false : 요청마다 DB 에서 회원 조회
+    private final boolean useTokenClaims;
+
+    public CustomUserDetailsService(MemberRepository memberRepository,
+                                    MemberStatusCache memberStatusCache,
+                                    @Value("${auth.jwt.principal-from-claims:true}") boolean useTokenClaims) {
+        this.memberRepository = memberRepository;
+        this.memberStatusCache = memberStatusCache;
+        this.useTokenClaims = useTokenClaims;
+    }
 
     @Override
     public UserDetails loadUserByUsername(String id) throws UsernameNotFoundException {
@@ -24,4 +34,25 @@ public class CustomUserDetailsService implements UserDetailsService {
 
         return new CustomUserDetails(userInfo);
     }
+
+    /*
+    * 검증된 토큰의 Claims 로 인증 정보 구성
+    * 탈퇴 여부, 권한은 회원 상태 캐시 기준 (토큰 발급 이후 변경 반영)
+    */
+    public UserDetails loadUserByClaims(JwtUserInfo claims) throws UsernameNotFoundException {
+        if (!useTokenClaims) {
+            return loadUserByUsername(claims.getMemberId().toString());
+        }
+        MemberStatusCache.MemberStatus status = memberStatusCache.getStatus(claims.getMemberId());
+        if (status.isDeleted()) {
+            throw new UsernameNotFoundException("[VALIDATE-TOKEN] Member is withdrawn or not exists");
+        }
+        JwtUserInfo userInfo = JwtUserInfo.builder()
+                .memberId(claims.getMemberId())
+                .email(claims.getEmail())
+                .role(status.getRole())
+                .build();
+
+        return new CustomUserDetails(userInfo);
+    }
 }
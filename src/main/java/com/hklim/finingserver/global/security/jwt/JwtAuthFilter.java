@@ -7,6 +7,8 @@ import com.hklim.finingserver.global.exception.ApplicationErrorType;
 import com.hklim.finingserver.global.utils.CookieUtils;
 import com.hklim.finingserver.global.utils.JwtUtils;
 import com.hklim.finingserver.global.utils.RedisUtils;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.Cookie;
@@ -25,6 +27,7 @@ public class JwtAuthFilter extends OncePerRequestFilter {
 
     private final CustomUserDetailsService customUserDetailsService;
     private final JwtUtils jwtUtils;
+    private final MeterRegistry meterRegistry;
 
     /*
     * JWT 토큰 검증 필터
@@ -34,13 +37,11 @@ public class JwtAuthFilter extends OncePerRequestFilter {
         try {
             logger.debug("[VALIDATE-TOKEN] Check AccessToken. ");
             String authorizationHeader = request.getHeader("Authorization");
-            logger.info("[VALIDATE-TOKEN] Authorization Code : " + authorizationHeader);
 
             if (authorizationHeader != null && authorizationHeader.startsWith("Bearer ")) {
                 String accessToken = authorizationHeader.substring(7);
-                if (jwtUtils.validateToken(accessToken)) {
-                    Long userId = jwtUtils.getUserId(accessToken);
-                    UserDetails userDetails = customUserDetailsService.loadUserByUsername(userId.toString());
+                if (validateToken(accessToken)) {
+                    UserDetails userDetails = customUserDetailsService.loadUserByClaims(jwtUtils.getUserInfo(accessToken));
                     if (userDetails != null) {
                         // UserDetails, Password, Role - 접근 권한 인증 Token 생성
                         UsernamePasswordAuthenticationToken usernamePasswordAuthenticationToken =
@@ -55,4 +56,22 @@ public class JwtAuthFilter extends OncePerRequestFilter {
         }
         filterChain.doFilter(request, response);
     }
+
+    /*
+    * 토큰 검증 시간 auth.jwt.validation 기록 (outcome : valid, expired, invalid)
+    */
+    private boolean validateToken(String accessToken) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "invalid";
+        try {
+            boolean valid = jwtUtils.validateToken(accessToken);
+            outcome = valid ? "valid" : "expired";
+            return valid;
+        } finally {
+            sample.stop(Timer.builder("auth.jwt.validation")
+                    .description("JWT validation time in JwtAuthFilter")
+                    .tag("outcome", outcome)
+                    .register(meterRegistry));
+        }
+    }
 }
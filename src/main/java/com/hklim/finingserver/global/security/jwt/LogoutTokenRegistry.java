@@ -0,0 +1,148 @@
+package com.hklim.finingserver.global.security.jwt;
+
+import com.hklim.finingserver.global.entity.RedisKeyType;
+import com.hklim.finingserver.global.utils.BloomFilter;
+import com.hklim.finingserver.global.utils.TokenHashUtils;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+
+/*
+* Redis 로그아웃 토큰 목록의 로컬 Bloom Filter
+* Filter 에 없으면 로그아웃 토큰이 아님이 확실하므로 Redis 조회 생략, 있을 수도 있는 경우에만 Redis 확인
+* 동기화 : 로그아웃 시 pub/sub 으로 전체 서버에 전파 + 주기적으로 Redis SCAN 재구성 (만료 토큰 정리, 누락 메시지 보정)
+* Redis 장애로 전파 / 재구성이 실패해도 마지막으로 구성된 Filter 를 계속 사용하고, 다음 재구성 성공 시 보정
+*/
+@Slf4j
+@Component
+public class LogoutTokenRegistry implements MessageListener {
+    public static final String LOGOUT_TOKEN_CHANNEL = "channel:logout:token";
+
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final long expectedInsertions;
+    private final double falsePositiveRate;
+
+    private volatile BloomFilter filter;
+    private BloomFilter rebuildingFilter;
+    // 최초 구성 전에는 false -> Redis 직접 조회, 한번 구성된 이후에는 유지
+    private volatile boolean ready = false;
+
+    public LogoutTokenRegistry(StringRedisTemplate redisTemplate,
+                               RedisMessageListenerContainer listenerContainer,
+                               @Value("${auth.logout-filter.expected-insertions:100000}") long expectedInsertions,
+                               @Value("${auth.logout-filter.false-positive-rate:0.01}") double falsePositiveRate) {
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveRate = falsePositiveRate;
+        this.filter = new BloomFilter(expectedInsertions, falsePositiveRate);
+    }
+
+    @PostConstruct
+    public void subscribe() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(LOGOUT_TOKEN_CHANNEL));
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public boolean mightBeLogoutToken(String tokenHash) {
+        return filter.mightContain(hash1(tokenHash), hash2(tokenHash));
+    }
+
+    /*
+    * 로그아웃 토큰 등록 (Redis 저장 이후 호출), 현재 서버에 바로 반영 후 다른 서버로 전파
+    */
+    public void register(String token) {
+        String tokenHash = TokenHashUtils.sha256Hex(token);
+        add(tokenHash);
+        try {
+            redisTemplate.convertAndSend(LOGOUT_TOKEN_CHANNEL, tokenHash);
+        } catch (Exception e) {
+            log.info("[LOGOUT-TOKEN-REGISTRY] Fail to publish logout token. Other servers sync on next rebuild. error msg : {}", e.getMessage());
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        add(new String(message.getBody(), StandardCharsets.UTF_8));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        rebuild();
+    }
+
+    @Scheduled(initialDelayString = "${auth.logout-filter.rebuild-interval-millis:600000}",
+            fixedDelayString = "${auth.logout-filter.rebuild-interval-millis:600000}")
+    public void rebuild() {
+        BloomFilter next = new BloomFilter(expectedInsertions, falsePositiveRate);
+        synchronized (this) {
+            rebuildingFilter = next;
+        }
+        try {
+            long tokenCnt = scanLogoutTokens(next);
+            synchronized (this) {
+                filter = next;
+                rebuildingFilter = null;
+            }
+            ready = true;
+            log.info("[LOGOUT-TOKEN-REGISTRY] Rebuild logout token filter. Token cnt : {}", tokenCnt);
+        } catch (Exception e) {
+            synchronized (this) {
+                rebuildingFilter = null;
+            }
+            log.info("[LOGOUT-TOKEN-REGISTRY] Fail to rebuild logout token filter. Keep last filter, ready : {}, error msg : {}", ready, e.getMessage());
+        }
+    }
+
+    private synchronized void add(String tokenHash) {
+        filter.put(hash1(tokenHash), hash2(tokenHash));
+        if (rebuildingFilter != null) {
+            rebuildingFilter.put(hash1(tokenHash), hash2(tokenHash));
+        }
+    }
+
+    private long scanLogoutTokens(BloomFilter target) {
+        String prefix = RedisKeyType.LOGOUT_TOKEN.getSeparator();
+        ScanOptions options = ScanOptions.scanOptions().match(prefix + "*").count(1000).build();
+        Long tokenCnt = redisTemplate.execute((RedisCallback<Long>) connection -> {
+            long cnt = 0;
+            try (Cursor<byte[]> cursor = connection.keyCommands().scan(options)) {
+                while (cursor.hasNext()) {
+                    String key = new String(cursor.next(), StandardCharsets.UTF_8);
+                    String tokenHash = TokenHashUtils.sha256Hex(key.substring(prefix.length()));
+                    target.put(hash1(tokenHash), hash2(tokenHash));
+                    cnt++;
+                }
+            }
+            return cnt;
+        });
+        return tokenCnt == null ? 0 : tokenCnt;
+    }
+
+    // SHA-256 hex 앞 128bit 를 두 개의 64bit 해시로 사용
+    private long hash1(String tokenHash) {
+        return Long.parseUnsignedLong(tokenHash.substring(0, 16), 16);
+    }
+
+    private long hash2(String tokenHash) {
+        return Long.parseUnsignedLong(tokenHash.substring(16, 32), 16);
+    }
+}
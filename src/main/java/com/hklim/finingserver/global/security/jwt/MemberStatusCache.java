@@ -0,0 +1,100 @@
+package com.hklim.finingserver.global.security.jwt;
+
+import com.hklim.finingserver.domain.member.entity.Member;
+import com.hklim.finingserver.domain.member.entity.RoleType;
+import com.hklim.finingserver.domain.member.repository.MemberRepository;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/*
+* 회원 상태 (탈퇴 여부, 권한) TTL 캐시
+* JWT Claims 로 인증 정보를 구성할 때 요청마다 DB 조회하지 않도록 사용, 회원 정보 변경 시 invalidate
+* Transaction 안의 invalidate 는 commit 후 반영 (commit 전 다른 요청이 변경 전 상태를 다시 캐시하지 않도록)
+*/
+@Slf4j
+@Component
+public class MemberStatusCache {
+    private final MemberRepository memberRepository;
+    private final long ttlMillis;
+    private final int maxSize;
+    private final Map<Long, MemberStatus> statusMap = new ConcurrentHashMap<>();
+    // invalidate 시 증가, 조회 중 invalidate 되면 조회 결과를 캐시하지 않음
+    private final AtomicLong generation = new AtomicLong();
+
+    public MemberStatusCache(MemberRepository memberRepository,
+                             @Value("${auth.member-status.ttl-seconds:60}") long ttlSeconds,
+                             @Value("${auth.member-status.max-size:10000}") int maxSize) {
+        this.memberRepository = memberRepository;
+        this.ttlMillis = ttlSeconds * 1000;
+        this.maxSize = maxSize;
+    }
+
+    /*
+    * 존재하지 않는 회원은 탈퇴 회원과 동일하게 취급
+    */
+    public MemberStatus getStatus(Long memberId) {
+        long now = System.currentTimeMillis();
+        MemberStatus cached = statusMap.get(memberId);
+        if (cached != null && !cached.isExpired(now, ttlMillis)) {
+            return cached;
+        }
+        long loadGeneration = generation.get();
+        MemberStatus loaded = memberRepository.findById(memberId)
+                .map(member -> MemberStatus.of(member, now))
+                .orElseGet(() -> new MemberStatus(null, true, now));
+        if (statusMap.size() >= maxSize) {
+            statusMap.values().removeIf(status -> status.isExpired(now, ttlMillis));
+        }
+        if (statusMap.size() < maxSize && generation.get() == loadGeneration) {
+            statusMap.put(memberId, loaded);
+        }
+        return loaded;
+    }
+
+    public void invalidate(Long memberId) {
+        if (memberId == null) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evict(memberId);
+                }
+            });
+            return;
+        }
+        evict(memberId);
+    }
+
+    private void evict(Long memberId) {
+        log.debug("[MEMBER-STATUS-CACHE] Invalidate member status. member id : {}", memberId);
+        generation.incrementAndGet();
+        statusMap.remove(memberId);
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class MemberStatus {
+        private final RoleType role;
+        private final boolean deleted;
+        private final long loadedAtMillis;
+
+        static MemberStatus of(Member member, long loadedAtMillis) {
+            return new MemberStatus(member.getRole(), member.isDeleted(), loadedAtMillis);
+        }
+
+        boolean isExpired(long nowMillis, long ttlMillis) {
+            return nowMillis - loadedAtMillis >= ttlMillis;
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.hklim.finingserver.global.utils;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/*
+* Thread-safe Bloom Filter (false positive 가능, false negative 없음)
+* 해시는 호출자가 서로 독립적인 64bit 값 2개로 전달 (double hashing 으로 k 개 위치 계산)
+*/
+public class BloomFilter {
+    private final AtomicLongArray bits;
+    private final long bitSize;
+    private final int hashCnt;
+
+    public BloomFilter(long expectedInsertions, double falsePositiveRate) {
+        long insertions = Math.max(1, expectedInsertions);
+        long optimalBitSize = (long) Math.ceil(-insertions * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        this.bitSize = Math.max(64, (optimalBitSize + 63) / 64 * 64);
+        this.hashCnt = Math.max(1, (int) Math.round((double) bitSize / insertions * Math.log(2)));
+        this.bits = new AtomicLongArray((int) (bitSize / 64));
+    }
+
+    public void put(long hash1, long hash2) {
+        long combined = hash1;
+        for (int i = 0; i < hashCnt; i++) {
+            long index = Math.floorMod(combined, bitSize);
+            int word = (int) (index >>> 6);
+            long mask = 1L << (index & 63);
+            long current;
+            do {
+                current = bits.get(word);
+                if ((current & mask) != 0) {
+                    break;
+                }
+            } while (!bits.compareAndSet(word, current, current | mask));
+            combined += hash2;
+        }
+    }
+
+    public boolean mightContain(long hash1, long hash2) {
+        long combined = hash1;
+        for (int i = 0; i < hashCnt; i++) {
+            long index = Math.floorMod(combined, bitSize);
+            if ((bits.get((int) (index >>> 6)) & (1L << (index & 63))) == 0) {
+                return false;
+            }
+            combined += hash2;
+        }
+        return true;
+    }
+
+    public long getBitSize() {
+        return bitSize;
+    }
+
+    public int getHashCnt() {
+        return hashCnt;
+    }
+}
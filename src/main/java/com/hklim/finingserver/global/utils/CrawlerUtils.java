@@ -1,24 +1,62 @@
 package com.hklim.finingserver.global.utils;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
 import com.hklim.finingserver.domain.indicators.dto.BondDataResponseDto;
 import com.hklim.finingserver.domain.indicators.dto.StockIndicatorsDataResponseDto;
 import com.hklim.finingserver.domain.stock.dto.SingleStockDataResponseDto;
 import com.hklim.finingserver.domain.stock.dto.StockDataResponseDto;
+import com.hklim.finingserver.global.client.MarketDataClient;
+import com.hklim.finingserver.global.exception.ApplicationErrorException;
+import com.hklim.finingserver.global.exception.ApplicationErrorType;
+import jakarta.annotation.PostConstruct;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.jsoup.Connection;
-import org.jsoup.Jsoup;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import java.io.FilterInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
 
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class CrawlerUtils {
+    public static final int STOCK_PAGE_SIZE = 1000;
+    // 수집 대상별 metric tag (source)
+    static final String SOURCE_SINGLE_STOCK = "single-stock";
+    static final String SOURCE_STOCK_PAGE = "stock-page";
+    static final String SOURCE_BOND = "bond";
+    static final String SOURCE_STOCK_INDICATOR = "stock-indicator";
+
+    // DTO 타입별로 미리 설정된 Reader 공유 (ObjectMapper 재생성 비용 제거)
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper()
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+    private static final ObjectReader SINGLE_STOCK_READER = OBJECT_MAPPER.readerFor(SingleStockDataResponseDto.class);
+    private static final ObjectReader STOCK_ROW_READER = OBJECT_MAPPER.readerFor(StockDataResponseDto.Data.Table.Row.class);
+    private static final ObjectReader BOND_READER = OBJECT_MAPPER.readerFor(BondDataResponseDto.class);
+    private static final ObjectReader STOCK_INDICATORS_READER = OBJECT_MAPPER.readerFor(StockIndicatorsDataResponseDto.class);
+
     @Value("${service.stock.single-url-head}")
     private String singleStockUrlHead;
 
@@ -34,100 +72,343 @@ public class CrawlerUtils {
     @Value("${service.indicator.bond-url}")
     private String bondIndicatorUrl;
 
-    public SingleStockDataResponseDto getSingleStockInfo(String symbol) {
-        String url = singleStockUrlHead + symbol + singleStockUrlTail;
-        Connection.Response docs = null;
+    @Value("${service.stock.crawl.thread-count:4}")
+    private int crawlThreadCnt;
 
-        try {
-            docs = Jsoup.connect(url)
-                    .timeout(60*1000)
-                    .ignoreContentType(true)
-                    .execute();
+    @Value("${service.stock.crawl.max-retry:3}")
+    private int crawlMaxRetry;
 
+    @Value("${service.stock.crawl.backoff-millis:500}")
+    private long crawlBackoffMillis;
+
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
+    private final MarketDataClient marketDataClient;
+    private final MeterRegistry meterRegistry;
+
+    private ExecutorService crawlExecutor;
+
+    /*
+    * 동시 요청 수는 thread-count 로 제한 (대상 사이트 부하), virtual profile 에서는 worker 를 virtual thread 로 생성
+    * virtual thread 는 MarketDataClient 응답 대기 (service.market-data.request-timeout-millis) 동안 OS thread 를 점유하지 않음
+    */
+    @PostConstruct
+    public void init() {
+        ThreadFactory threadFactory;
+        if (virtualThreads) {
+            threadFactory = Thread.ofVirtual().name("stock-crawler-", 1).factory();
+        } else {
+            AtomicInteger threadNum = new AtomicInteger();
+            threadFactory = runnable -> {
+                Thread thread = new Thread(runnable, "stock-crawler-" + threadNum.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            };
+        }
+        crawlExecutor = Executors.newFixedThreadPool(crawlThreadCnt, threadFactory);
+        log.info("[STOCK-CRAWLING] Crawler worker pool ready. thread cnt : {}, virtual : {}", crawlThreadCnt, virtualThreads);
+    }
+
+    @PreDestroy
+    public void destroy() {
+        if (crawlExecutor != null) {
+            crawlExecutor.shutdownNow();
+        }
+    }
+
+    public SingleStockDataResponseDto getSingleStockInfo(String symbol) {
+        String url = singleStockUrlHead + symbol + singleStockUrlTail;
+        try (InputStream body = openBodyStream(url, SOURCE_SINGLE_STOCK)) {
+            log.debug("[STOCK-CRAWLING] Convert Data to Dto. ");
+            return SINGLE_STOCK_READER.readValue(body);
         } catch (IOException e) {
-            log.info("[STOCK-CRAWLING] Fail to Crawling Stock Data. Symbol : {}, error msg : {}", symbol, e.getStackTrace());
+            log.info("[STOCK-CRAWLING] Fail to Crawling Stock Data. Symbol : {}, error msg : {}", symbol, e.getMessage());
             return null;
         }
-        return toSingleStockDataDto(docs.body());
     }
 
-    public StockDataResponseDto getTotalStockInfo(int offset) {
-        String url = totalStockUrl + offset*1000;
-        Connection.Response docs = null;
+    /*
+    * 전체 주식 페이지 병렬 크롤링
+    * 첫 페이지로 totalRecords 확인 후 나머지 페이지는 worker pool 에서 동시에 요청, 결과는 페이지 순서대로 rowSink 로 전달
+    * 재시도 시 중복 전달을 막기 위해 페이지 단위(최대 1000 rows)로만 버퍼링
+    */
+    public int crawlTotalStockRows(int maxCnt, Consumer<StockDataResponseDto.Data.Table.Row> rowSink) {
+        StockPage firstPage = getStockPageWithRetry(0);
+        int totalRecords = firstPage.getTotalRecords();
+        int pageCnt = stockPageCnt(totalRecords, maxCnt);
+        log.info("[STOCK-CRAWLING] Crawling Data Total cnt : {}, page cnt : {}", totalRecords, pageCnt);
+
+        List<CompletableFuture<StockPage>> pageFutures = new ArrayList<>();
+        for (int page = 1; page < pageCnt; page++) {
+            int offset = page;
+            pageFutures.add(CompletableFuture.supplyAsync(() -> getStockPageWithRetry(offset), crawlExecutor));
+        }
+
+        int rowCnt = firstPage.getRows().size();
+        firstPage.getRows().forEach(rowSink);
         try {
-            docs = Jsoup.connect(url)
-                    .timeout(60*1000)
-                    .ignoreContentType(true)
-                    .execute();
+            for (CompletableFuture<StockPage> pageFuture : pageFutures) {
+                List<StockDataResponseDto.Data.Table.Row> rows = pageFuture.join().getRows();
+                rows.forEach(rowSink);
+                rowCnt += rows.size();
+            }
+        } catch (CompletionException e) {
+            pageFutures.forEach(pageFuture -> pageFuture.cancel(true));
+            throw new ApplicationErrorException(ApplicationErrorType.INTERNAL_ERROR, e.getCause(), "[STOCK-CRAWLING] Fail to crawling stock page. ");
+        }
+        log.info("[STOCK-CRAWLING] Crawling Data cnt : {}", rowCnt);
+        return rowCnt;
+    }
+
+    /*
+    * 주식 한 페이지 크롤링, 응답 body 를 Stream 으로 읽으며 row 단위로 rowSink 에 전달
+    * return : totalRecords
+    */
+    public int streamStockPage(int offset, Consumer<StockDataResponseDto.Data.Table.Row> rowSink) {
+        String url = totalStockUrl + offset*STOCK_PAGE_SIZE;
+        try (InputStream body = openBodyStream(url, SOURCE_STOCK_PAGE)) {
+            return readStockPage(body, rowSink);
         } catch (IOException e) {
-            throw new RuntimeException(e);
+            throw new ApplicationErrorException(ApplicationErrorType.INTERNAL_ERROR, e, "[STOCK-CRAWLING] Fail to read stock page. offset : " + offset);
         }
-        return toTotalStockDataDto(docs.body());
     }
 
-    private SingleStockDataResponseDto toSingleStockDataDto(String stockData) {
-        ObjectMapper mapper = new ObjectMapper();
-        SingleStockDataResponseDto data = new SingleStockDataResponseDto();
-        try {
-            log.debug("[STOCK-CRAWLING] Convert Data to Dto. ");
-            data = mapper.readValue(stockData, SingleStockDataResponseDto.class);
-        } catch (JsonProcessingException e) {
-            log.info("[STOCK-CRAWLING] Fail to Crawling from URL. error msg : {} ", e.getMessage());
-            return null;
+    /*
+    * 첫 페이지 (재시도 포함) 의 totalrecords, Batch partition 분할 기준
+    */
+    public int getStockTotalRecords() {
+        return getStockPageWithRetry(0).getTotalRecords();
+    }
+
+    /*
+    * 요청할 페이지 수, maxCnt 와 totalRecords 중 작은 쪽 기준
+    * totalRecords 이후 페이지는 빈 응답 (data.table.rows 없음) 으로 실패하므로 요청하지 않음
+    */
+    public static int stockPageCnt(int totalRecords, int maxCnt) {
+        int recordPageCnt = (totalRecords + STOCK_PAGE_SIZE - 1) / STOCK_PAGE_SIZE;
+        return Math.max(1, Math.min(maxCnt / STOCK_PAGE_SIZE, recordPageCnt));
+    }
+
+    /*
+    * 주식 한 페이지 크롤링 (재시도 포함), Batch ItemReader 에서 페이지 단위로 사용
+    */
+    public List<StockDataResponseDto.Data.Table.Row> getStockPageRows(int offset) {
+        return getStockPageWithRetry(offset).getRows();
+    }
+
+    private StockPage getStockPageWithRetry(int offset) {
+        int attempt = 0;
+        while (true) {
+            List<StockDataResponseDto.Data.Table.Row> rows = new ArrayList<>(STOCK_PAGE_SIZE);
+            try {
+                int totalRecords = streamStockPage(offset, rows::add);
+                return new StockPage(totalRecords, rows);
+            } catch (RuntimeException e) {
+                attempt++;
+                if (attempt > crawlMaxRetry) {
+                    throw e;
+                }
+                long backoff = crawlBackoffMillis * (1L << (attempt - 1));
+                log.info("[STOCK-CRAWLING] Retry stock page. offset : {}, attempt : {}, backoff : {}ms, error msg : {}", offset, attempt, backoff, e.getMessage());
+                try {
+                    Thread.sleep(backoff);
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    throw e;
+                }
+            }
         }
-        return data;
     }
-    private StockDataResponseDto toTotalStockDataDto(String stockData) {
-//        ObjectMapper mapper = new ObjectMapper().configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
-        ObjectMapper mapper = new ObjectMapper();
-        StockDataResponseDto data = new StockDataResponseDto();
-        try {
-            log.info("[STOCK-CRAWLING] Convert Data to Dto. ");
-            data = mapper.readValue(stockData, StockDataResponseDto.class);
-        } catch (JsonProcessingException e) {
-            log.info("[STOCK-CRAWLING] Fail to Crawling from URL. error msg : {} ", e.getMessage());
-            return null;
+
+    /*
+    * data.table.rows 만 Streaming 으로 순회, 나머지 필드는 skip
+    * data.table.rows 가 없는 응답은 빈 페이지 응답으로 실패 처리 (재시도 대상)
+    * totalrecords 이후 페이지는 요청하지 않으므로 (stockPageCnt, StockIndexItemReader) 데이터 끝이 아닌 비정상 응답만 해당
+    */
+    static int readStockPage(InputStream body, Consumer<StockDataResponseDto.Data.Table.Row> rowSink) throws IOException {
+        int totalRecords = -1;
+        try (JsonParser parser = OBJECT_MAPPER.getFactory().createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new JsonParseException(parser, "[STOCK-CRAWLING] Stock page response is not json object. ");
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.currentName();
+                JsonToken token = parser.nextToken();
+                if ("data".equals(fieldName) && token == JsonToken.START_OBJECT) {
+                    totalRecords = readStockPageData(parser, rowSink);
+                } else {
+                    parser.skipChildren();
+                }
+            }
+            if (totalRecords < 0) {
+                throw new JsonParseException(parser, "[STOCK-CRAWLING] Empty stock page response. data.table.rows is missing. ");
+            }
         }
-        return data;
+        return totalRecords;
+    }
+
+    // rows 가 없으면 -1
+    private static int readStockPageData(JsonParser parser, Consumer<StockDataResponseDto.Data.Table.Row> rowSink) throws IOException {
+        int totalRecords = 0;
+        boolean rowsFound = false;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.currentName();
+            JsonToken token = parser.nextToken();
+            if ("totalrecords".equals(fieldName)) {
+                totalRecords = parser.getValueAsInt();
+            } else if ("table".equals(fieldName) && token == JsonToken.START_OBJECT) {
+                rowsFound = readStockTable(parser, rowSink);
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return rowsFound ? totalRecords : -1;
+    }
+
+    private static boolean readStockTable(JsonParser parser, Consumer<StockDataResponseDto.Data.Table.Row> rowSink) throws IOException {
+        boolean rowsFound = false;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.currentName();
+            JsonToken token = parser.nextToken();
+            if ("rows".equals(fieldName) && token == JsonToken.START_ARRAY) {
+                rowsFound = true;
+                while (parser.nextToken() == JsonToken.START_OBJECT) {
+                    rowSink.accept(STOCK_ROW_READER.readValue(parser));
+                }
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return rowsFound;
     }
 
     public BondDataResponseDto getBondData() {
-        Connection.Response docs = null;
+        return readIndicators(bondIndicatorUrl, SOURCE_BOND, CrawlerUtils::readBondData);
+    }
+
+    public StockIndicatorsDataResponseDto getStockIndicatorData() {
+        return readIndicators(stockIndicatorUrl, SOURCE_STOCK_INDICATOR, CrawlerUtils::readStockIndicatorData);
+    }
+
+    static BondDataResponseDto readBondData(InputStream body) throws IOException {
+        return BOND_READER.readValue(body);
+    }
+
+    static StockIndicatorsDataResponseDto readStockIndicatorData(InputStream body) throws IOException {
+        return STOCK_INDICATORS_READER.readValue(body);
+    }
+
+    private <T> T readIndicators(String url, String source, BodyReader<T> reader) {
+        InputStream body;
         try {
-            docs = Jsoup.connect(bondIndicatorUrl)
-                    .timeout(60*1000)
-                    .ignoreContentType(true)
-                    .execute();
+            body = openBodyStream(url, source);
         } catch (IOException e) {
-            throw new RuntimeException(e);
+            throw new ApplicationErrorException(ApplicationErrorType.INTERNAL_ERROR, e, "[INDICATOR-CRAWLING] Fail to request indicator data. source : " + source);
+        }
+        try (body) {
+            log.info("[INDICATOR-CRAWLING] Convert Data to Dto. ");
+            return reader.read(body);
+        } catch (IOException e) {
+            log.info("[INDICATOR-CRAWLING] Fail to Crawling from URL. error msg : {} ", e.getMessage());
+            return null;
         }
-        return toDto(new BondDataResponseDto(), docs.body());
     }
 
-    public StockIndicatorsDataResponseDto getStockIndicatorData() {
-        Connection.Response docs = null;
+    /*
+    * 요청 ~ body close 까지 crawler.fetch 시간, 읽은 body 크기 crawler.fetch.payload 기록 (source 별)
+    */
+    private InputStream openBodyStream(String url, String source) throws IOException {
+        Timer.Sample sample = Timer.start(meterRegistry);
         try {
-            docs = Jsoup.connect(stockIndicatorUrl)
-                    .timeout(60*1000)
-                    .ignoreContentType(true)
-                    .execute();
+            return new MeteredBodyStream(marketDataClient.fetch(url), source, sample);
         } catch (IOException e) {
-            throw new RuntimeException(e);
+            sample.stop(fetchTimer(source, "error"));
+            throw e;
         }
+    }
 
-        return toDto(new StockIndicatorsDataResponseDto(), docs.body());
+    private Timer fetchTimer(String source, String outcome) {
+        return Timer.builder("crawler.fetch")
+                .description("Crawling request ~ response body read time")
+                .tag("source", source)
+                .tag("outcome", outcome)
+                .register(meterRegistry);
     }
 
-    private <T> T toDto(T dto, String bondData) {
-        ObjectMapper mapper = new ObjectMapper();
-        T data;
-        try {
-            log.info("[INDICATOR-CRAWLING] Convert Data to Dto. ");
-            data = (T) mapper.readValue(bondData, dto.getClass());
-        } catch (JsonProcessingException e) {
-            log.info("[INDICATOR-CRAWLING] Fail to Crawling from URL. error msg : {} ", e.getMessage());
-            return null;
+    /*
+    * 읽은 byte 수 집계, close 시 한번만 기록 (읽는 중 오류 발생 시 outcome = error)
+    */
+    private class MeteredBodyStream extends FilterInputStream {
+        private final String source;
+        private final Timer.Sample sample;
+        private long readBytes;
+        private boolean failed;
+        private boolean closed;
+
+        MeteredBodyStream(InputStream in, String source, Timer.Sample sample) {
+            super(in);
+            this.source = source;
+            this.sample = sample;
+        }
+
+        @Override
+        public int read() throws IOException {
+            try {
+                int b = super.read();
+                if (b >= 0) {
+                    readBytes++;
+                }
+                return b;
+            } catch (IOException e) {
+                failed = true;
+                throw e;
+            }
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            try {
+                int n = super.read(b, off, len);
+                if (n > 0) {
+                    readBytes += n;
+                }
+                return n;
+            } catch (IOException e) {
+                failed = true;
+                throw e;
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            try {
+                super.close();
+            } finally {
+                sample.stop(fetchTimer(source, failed ? "error" : "success"));
+                DistributionSummary.builder("crawler.fetch.payload")
+                        .description("Crawling response body size")
+                        .baseUnit("bytes")
+                        .tag("source", source)
+                        .register(meterRegistry)
+                        .record(readBytes);
+            }
         }
-        return data;
+    }
+
+    @FunctionalInterface
+    private interface BodyReader<T> {
+        T read(InputStream body) throws IOException;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    private static class StockPage {
+        private final int totalRecords;
+        private final List<StockDataResponseDto.Data.Table.Row> rows;
     }
 }
@@ -1,35 +1,55 @@
 package com.hklim.finingserver.global.utils;
 
 import com.hklim.finingserver.domain.stock.dto.StockDataFromCSVDto;
+import com.hklim.finingserver.global.exception.ApplicationErrorException;
+import com.hklim.finingserver.global.exception.ApplicationErrorType;
 import com.opencsv.bean.CsvToBean;
 import com.opencsv.bean.CsvToBeanBuilder;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
 import java.io.*;
+import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
+import java.util.function.Consumer;
 
 @Slf4j
 @Component
 public class FileUtils {
-    public List<StockDataFromCSVDto> toDtoFromCSVFile(String fileFullPath) {
-        try {
-            log.info("[EXTRACT STOCK DATA PROCESS] START. ");
-            Reader reader = new BufferedReader(new FileReader(fileFullPath));
-
-            CsvToBean<StockDataFromCSVDto> csvReader = new CsvToBeanBuilder(reader)
-                    .withType(StockDataFromCSVDto.class)
-                    .withSeparator(',')
-                    .withIgnoreLeadingWhiteSpace(true)
-                    .withIgnoreEmptyLine(true)
-                    .build();
-
-            List<StockDataFromCSVDto> stockDataList = csvReader.parse();
-            log.info("[EXTRACT STOCK DATA PROCESS] END. Extract Data Count : {}", stockDataList.size());
-            return stockDataList;
+    /*
+    * 파일 전체를 메모리에 올리지 않고 한 행씩 읽어 chunkSize 단위로 전달, 읽은 행 수 반환
+    */
+    public int readCSVFileInChunks(String fileFullPath, int chunkSize, Consumer<List<StockDataFromCSVDto>> chunkConsumer) {
+        log.info("[EXTRACT STOCK DATA PROCESS] START. Chunk size : {}", chunkSize);
+        int readCnt = 0;
+        try (Reader reader = new BufferedReader(new FileReader(fileFullPath))) {
+            Iterator<StockDataFromCSVDto> iterator = buildCsvReader(reader).iterator();
+            List<StockDataFromCSVDto> chunk = new ArrayList<>(chunkSize);
+            while (iterator.hasNext()) {
+                chunk.add(iterator.next());
+                readCnt++;
+                if (chunk.size() >= chunkSize) {
+                    chunkConsumer.accept(chunk);
+                    chunk = new ArrayList<>(chunkSize);
+                }
+            }
+            if (!chunk.isEmpty()) {
+                chunkConsumer.accept(chunk);
+            }
         } catch (IOException e) {
-            e.getStackTrace();
+            throw new ApplicationErrorException(ApplicationErrorType.NOT_FOUND_DATA, e);
         }
-        return null;
+        log.info("[EXTRACT STOCK DATA PROCESS] END. Extract Data Count : {}", readCnt);
+        return readCnt;
+    }
+
+    private CsvToBean<StockDataFromCSVDto> buildCsvReader(Reader reader) {
+        return new CsvToBeanBuilder<StockDataFromCSVDto>(reader)
+                .withType(StockDataFromCSVDto.class)
+                .withSeparator(',')
+                .withIgnoreLeadingWhiteSpace(true)
+                .withIgnoreEmptyLine(true)
+                .build();
     }
 }
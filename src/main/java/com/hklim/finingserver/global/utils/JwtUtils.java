@@ -1,10 +1,15 @@
 package com.hklim.finingserver.global.utils;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import com.hklim.finingserver.domain.auth.dto.JwtUserInfo;
 import com.hklim.finingserver.domain.member.entity.RoleType;
 import com.hklim.finingserver.global.entity.RedisKeyType;
 import com.hklim.finingserver.global.exception.ApplicationErrorException;
 import com.hklim.finingserver.global.exception.ApplicationErrorType;
+import com.hklim.finingserver.global.logging.LogSampling;
+import com.hklim.finingserver.global.security.jwt.LogoutTokenRegistry;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
@@ -14,6 +19,7 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import java.security.Key;
+import java.time.Duration;
 import java.time.ZonedDateTime;
 import java.util.Date;
 
@@ -24,17 +30,31 @@ public class JwtUtils {
     private final long accessTokenExpTime;
     private final long refreshTokenExpTime;
     private final RedisUtils redisUtils;
+    private final LogoutTokenRegistry logoutTokenRegistry;
+    // 서명 검증 Parser 는 thread-safe, 한번만 생성
+    private final JwtParser jwtParser;
+    // 검증 완료된 토큰 Claims (key : 토큰 SHA-256), 토큰 exp 까지 재사용, 최대 개수 초과 시 Caffeine 이 eviction
+    private final Cache<String, Claims> verifiedTokenCache;
 
     public JwtUtils(@Value("${auth.jwt.secret_key}") String secretKey,
                     @Value("${auth.jwt.access_expiration_time}") String accessTokenExpTime,
                     @Value("${auth.jwt.refresh_expiration_time}") String refreshTokenExpTime,
-                    RedisUtils redisUtils
+                    @Value("${auth.jwt.verified-cache-max-size:10000}") int verifiedTokenCacheMaxSize,
+                    RedisUtils redisUtils,
+                    LogoutTokenRegistry logoutTokenRegistry
     ) {
         byte[] keyBytes = Decoders.BASE64.decode(secretKey);
         this.key = Keys.hmacShaKeyFor(keyBytes);
         this.accessTokenExpTime = Long.parseLong(accessTokenExpTime);
         this.refreshTokenExpTime = Long.parseLong(refreshTokenExpTime);
+        this.verifiedTokenCache = Caffeine.newBuilder()
+                .maximumSize(verifiedTokenCacheMaxSize)
+                .expireAfter(Expiry.creating((String tokenHash, Claims claims) ->
+                        Duration.ofMillis(Math.max(0, claims.getExpiration().getTime() - System.currentTimeMillis()))))
+                .build();
         this.redisUtils = redisUtils;
+        this.logoutTokenRegistry = logoutTokenRegistry;
+        this.jwtParser = Jwts.parserBuilder().setSigningKey(key).build();
     }
 
     public String createAccessToken(JwtUserInfo member) {
@@ -48,10 +68,6 @@ public class JwtUtils {
         JWT 생성
     */
     private String createToken(JwtUserInfo member, long expiredTime) {
-        log.info("Claims member id : " + member.getMemberId());
-        log.info("Claims email : " + member.getEmail());
-        log.info("Claims role : " + member.getRole());
-
         Claims claims = Jwts.claims();
         claims.put("memberId", member.getMemberId());
         claims.put("email", member.getEmail());
@@ -82,19 +98,63 @@ public class JwtUtils {
         return parseClaims(token).get("role", String.class);
     }
 
+    /*
+    * Token Claims -> JwtUserInfo (memberId, email, role)
+    */
+    public JwtUserInfo getUserInfo(String token) {
+        Claims claims = parseClaims(token);
+        String role = claims.get("role", String.class);
+        return JwtUserInfo.builder()
+                .memberId(claims.get("memberId", Long.class))
+                .email(claims.get("email", String.class))
+                .role(role == null ? null : RoleType.valueOf(role))
+                .build();
+    }
+
     /*
     * JWT Claims 추출
     */
     private Claims parseClaims(String accessToken) {
         try {
-            return Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(accessToken).getBody();
+            return verify(accessToken);
         } catch (ExpiredJwtException e) {
             return e.getClaims();
         }
     }
 
+    /*
+    * 서명 검증 후 Claims 반환, 검증된 토큰은 만료 전까지 캐시에서 반환
+    */
+    private Claims verify(String token) {
+        String tokenHash = TokenHashUtils.sha256Hex(token);
+        Claims cached = verifiedTokenCache.getIfPresent(tokenHash);
+        if (cached != null) {
+            return cached;
+        }
+        Claims claims = jwtParser.parseClaimsJws(token).getBody();
+        if (claims.getExpiration() != null) {
+            verifiedTokenCache.put(tokenHash, claims);
+        }
+        return claims;
+    }
+
+    /*
+    * 로그아웃, 회원탈퇴 시 캐시에서 제거
+    */
+    public void evictVerifiedToken(String token) {
+        verifiedTokenCache.invalidate(TokenHashUtils.sha256Hex(token));
+    }
+
+    /*
+    * 로컬 Filter 에 없으면 로그아웃 토큰이 아님 (Redis 조회 생략)
+    * Redis 장애 중에도 마지막으로 구성된 Filter 로 판단 (장애 중 다른 서버에서 로그아웃한 토큰은 재구성 전까지 통과될 수 있음)
+    * Filter 에 있을 수도 있는 토큰 / Filter 구성 전에 Redis 확인이 실패하면 요청 거부 (fail-closed)
+    */
     private boolean isLogoutToken(String token) {
-        log.info("[VALIDATE TOKEN] Logout token check, START");
+        log.debug("[VALIDATE TOKEN] Logout token check, START");
+        if (logoutTokenRegistry.isReady() && !logoutTokenRegistry.mightBeLogoutToken(TokenHashUtils.sha256Hex(token))) {
+            return false;
+        }
         try {
             if (redisUtils.getData(RedisKeyType.LOGOUT_TOKEN.getSeparator() + token) == null) {
                 return false;
@@ -110,20 +170,20 @@ public class JwtUtils {
             if (isLogoutToken(token)) {
                 throw new ApplicationErrorException(ApplicationErrorType.FAIL_JWT_VALIDATION_LOGOUT, "이미 로그아웃 된 사용자입니다. 다시 로그인해주세요.");
             }
-            Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token);
+            verify(token);
             return true;
         } catch (SecurityException | MalformedJwtException e) {
-            log.info("[VALIDATE JWT TOKEN] Invalid JWT Token. ", e);
+            log.info("[VALIDATE JWT TOKEN] Invalid JWT Token. error msg : {}", e.getMessage());
             throw new ApplicationErrorException(ApplicationErrorType.FAIL_JWT_VALIDATION, "유효하지 않은 토큰입니다. ");
         } catch (ExpiredJwtException e) {
-            log.info("[VALIDATE JWT TOKEN] Expired JWT Token. ", e);
+            log.info(LogSampling.SAMPLED, "[VALIDATE JWT TOKEN] Expired JWT Token. ");
             return false;
 //            throw new ApplicationErrorException(ApplicationErrorType.FAIL_JWT_VALIDATION, "토큰 유효기한이 만료되었습니다. ");
         } catch (UnsupportedJwtException e) {
-            log.info("[VALIDATE JWT TOKEN] Unsupported JWT Token. ", e);
+            log.info("[VALIDATE JWT TOKEN] Unsupported JWT Token. error msg : {}", e.getMessage());
             throw new ApplicationErrorException(ApplicationErrorType.FAIL_JWT_VALIDATION, "지원하지 않는 토큰입니다.");
         } catch (IllegalArgumentException e) {
-            log.info("[VALIDATE JWT TOKEN] JWT Claims String is empty. ", e);
+            log.info("[VALIDATE JWT TOKEN] JWT Claims String is empty. ");
             throw new ApplicationErrorException(ApplicationErrorType.FAIL_JWT_VALIDATION, "토큰 데이터가 비어있습니다.");
         }
     }
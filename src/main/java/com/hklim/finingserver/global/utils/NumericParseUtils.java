@@ -0,0 +1,53 @@
+package com.hklim.finingserver.global.utils;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.math.BigDecimal;
+
+/*
+* 크롤링 / CSV 문자열 수치 변환 ("$123.45", "+1.2%", "1,234", "NA", "UNCH")
+* 저장 시점에 한번만 변환하고 이후에는 BigDecimal 로 사용
+* 변환할 수 없는 값은 원본 값을 로그로 남기고 null 반환 (한 필드 때문에 전체 수집이 실패하지 않도록)
+*/
+@Slf4j
+public class NumericParseUtils {
+    // 유니코드 마이너스 기호 (U+2212)
+    private static final char UNICODE_MINUS = '\u2212';
+
+    private NumericParseUtils() {
+    }
+
+    public static BigDecimal toDecimal(String value) {
+        if (value == null) {
+            return null;
+        }
+        StringBuilder sb = new StringBuilder(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == UNICODE_MINUS) {
+                sb.append('-');
+            } else if (c != '$' && c != '%' && c != ',' && c != '+' && !Character.isWhitespace(c)) {
+                sb.append(c);
+            }
+        }
+        String normalized = sb.toString();
+        if (normalized.isEmpty() || normalized.equals("-") || normalized.equals("--")
+                || normalized.equalsIgnoreCase("NA") || normalized.equalsIgnoreCase("N/A")) {
+            return null;
+        }
+        if (normalized.equalsIgnoreCase("UNCH")) {
+            return BigDecimal.ZERO;
+        }
+        try {
+            return new BigDecimal(normalized);
+        } catch (NumberFormatException e) {
+            log.info("[NUMERIC-PARSE] Fail to parse numeric value. Skip value : {}", value);
+            return null;
+        }
+    }
+
+    public static Long toLong(String value) {
+        BigDecimal decimal = toDecimal(value);
+        return decimal == null ? 0L : decimal.longValue();
+    }
+}
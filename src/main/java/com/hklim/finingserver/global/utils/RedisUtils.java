@@ -3,13 +3,15 @@ package com.hklim.finingserver.global.utils;
 import com.hklim.finingserver.global.exception.ApplicationErrorException;
 import com.hklim.finingserver.global.exception.ApplicationErrorType;
 import io.lettuce.core.RedisException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.redis.core.StringRedisTemplate;
-import org.springframework.data.redis.core.ValueOperations;
 import org.springframework.stereotype.Component;
 
 import java.time.Duration;
+import java.util.function.Supplier;
 
 @Slf4j
 @Component
@@ -17,28 +19,32 @@ import java.time.Duration;
 public class RedisUtils {
 
     private final StringRedisTemplate redisTemplate;
+    private final MeterRegistry meterRegistry;
 
     // key를 통해 Value 리턴
     public String getData(String key) {
         try {
-            ValueOperations<String, String> valueOperations = redisTemplate.opsForValue();
-            return valueOperations.get(key);
+            return record("get", () -> redisTemplate.opsForValue().get(key));
         } catch (RedisException e) {
             throw new ApplicationErrorException(ApplicationErrorType.REDIS_ERROR, "[REDIS-GET] Fail to get Data in Redis. ");
         }
     }
 
     public void setData(String key, String value) {
-        ValueOperations<String, String> valueOperations = redisTemplate.opsForValue();
-        valueOperations.set(key, value);
+        record("set", () -> {
+            redisTemplate.opsForValue().set(key, value);
+            return null;
+        });
     }
 
     // 유효시간 동안 key,value 저장
     public void setDataExpire(String key, String value, long duration) {
         try {
-            ValueOperations<String, String> valueOperations = redisTemplate.opsForValue();
             Duration expiredDuration = Duration.ofSeconds(duration);
-            valueOperations.set(key, value, expiredDuration);
+            record("set", () -> {
+                redisTemplate.opsForValue().set(key, value, expiredDuration);
+                return null;
+            });
         } catch (RedisException e) {
             throw new ApplicationErrorException(ApplicationErrorType.REDIS_ERROR, "[REDIS-SAVE] Fail to save Data in Redis. ");
         }
@@ -47,10 +53,29 @@ public class RedisUtils {
     // 삭제
     public void deleteData(String key) {
         try {
-            redisTemplate.delete(key);
+            record("delete", () -> redisTemplate.delete(key));
         } catch (RedisException e) {
             throw new ApplicationErrorException(ApplicationErrorType.REDIS_ERROR, "[REDIS-DELETE] Fail to delete data in Redis. ");
         }
     }
 
-}
\ No newline at end of file
+    /*
+    * Redis 호출 시간 redis.command 기록 (command, outcome 별)
+    */
+    private <T> T record(String command, Supplier<T> call) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "success";
+        try {
+            return call.get();
+        } catch (RuntimeException e) {
+            outcome = "error";
+            throw e;
+        } finally {
+            sample.stop(Timer.builder("redis.command")
+                    .description("RedisUtils command latency")
+                    .tag("command", command)
+                    .tag("outcome", outcome)
+                    .register(meterRegistry));
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.hklim.finingserver.global.utils;
+
+import com.hklim.finingserver.global.dto.TimeSeriesPage;
+import com.hklim.finingserver.global.entity.ResolutionType;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/*
+* 시계열 조회 공통 (기간 / cursor / 조회 단위, Keyset 페이지, 기간 등락률)
+* 기간 등락 = 일별 등락 합계 (직전 기간 종가 대비), 등락률 = 기간 등락 / 직전 기간 종가
+*/
+public class TimeSeriesUtils {
+
+    private TimeSeriesUtils() {
+    }
+
+    /*
+    * from, to : 조회 기간 (포함), cursor : 이전 페이지의 nextCursor (해당 날짜 미만 조회), size 는 1 ~ maxSize
+    * 일별은 from 부터 dailySource, 주간 / 월간은 from 이 포함된 기간부터 rollupSource 조회 (cursor 는 기간 시작일)
+    */
+    public static <R> TimeSeriesPage<R> getSeries(LocalDate from, LocalDate to, ResolutionType resolution, LocalDate cursor,
+                                                  int size, int maxSize, SeriesSource<?, R> dailySource, SeriesSource<?, R> rollupSource) {
+        int pageSize = Math.max(1, Math.min(size, maxSize));
+        LocalDate toExclusive = to.plusDays(1);
+        LocalDate upper = cursor != null && cursor.isBefore(toExclusive) ? cursor : toExclusive;
+        if (!upper.isAfter(from)) {
+            return new TimeSeriesPage<>(List.of(), null);
+        }
+        if (resolution == ResolutionType.DAILY) {
+            return dailySource.read(from, upper, pageSize);
+        }
+        return rollupSource.read(resolution.bucketStart(from), upper, pageSize);
+    }
+
+    /*
+    * 최신순 pageSize + 1 건 조회 결과 -> Keyset 페이지 (초과 건이 있으면 마지막 반환 건의 날짜가 nextCursor)
+    */
+    public static <T, R> TimeSeriesPage<R> toKeysetPage(List<T> descRows, int pageSize,
+                                                        Function<T, LocalDate> keyOf, Function<T, R> mapper) {
+        boolean hasNext = descRows.size() > pageSize;
+        List<T> rows = hasNext ? descRows.subList(0, pageSize) : descRows;
+        List<R> content = new ArrayList<>(rows.size());
+        rows.forEach(row -> content.add(mapper.apply(row)));
+        return new TimeSeriesPage<>(content, hasNext ? keyOf.apply(rows.get(rows.size() - 1)) : null);
+    }
+
+    /*
+    * 등락률 = 등락 / 직전 종가 (종가 - 등락) * 100
+    */
+    public static BigDecimal toPercentChange(BigDecimal close, BigDecimal netChange) {
+        if (close == null || netChange == null) {
+            return null;
+        }
+        BigDecimal previousClose = close.subtract(netChange);
+        if (previousClose.signum() == 0) {
+            return null;
+        }
+        return netChange.multiply(BigDecimal.valueOf(100)).divide(previousClose, 4, RoundingMode.HALF_UP);
+    }
+
+    /*
+    * 최신순 조회 (from 이상, toExclusive 미만)
+    */
+    @FunctionalInterface
+    public interface SeriesQuery<T> {
+        List<T> find(LocalDate from, LocalDate toExclusive, Pageable pageable);
+    }
+
+    /*
+    * 조회 쿼리 + Keyset 기준 날짜 + 응답 변환, pageSize + 1 건 조회로 다음 페이지 존재 여부 확인
+    */
+    public static class SeriesSource<T, R> {
+        private final SeriesQuery<T> query;
+        private final Function<T, LocalDate> keyOf;
+        private final Function<T, R> mapper;
+
+        private SeriesSource(SeriesQuery<T> query, Function<T, LocalDate> keyOf, Function<T, R> mapper) {
+            this.query = query;
+            this.keyOf = keyOf;
+            this.mapper = mapper;
+        }
+
+        public static <T, R> SeriesSource<T, R> of(SeriesQuery<T> query, Function<T, LocalDate> keyOf, Function<T, R> mapper) {
+            return new SeriesSource<>(query, keyOf, mapper);
+        }
+
+        TimeSeriesPage<R> read(LocalDate from, LocalDate toExclusive, int pageSize) {
+            return toKeysetPage(query.find(from, toExclusive, PageRequest.of(0, pageSize + 1)), pageSize, keyOf, mapper);
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.hklim.finingserver.global.utils;
+
+import com.hklim.finingserver.global.exception.ApplicationErrorException;
+import com.hklim.finingserver.global.exception.ApplicationErrorType;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/*
+* 토큰 원문 대신 사용하는 SHA-256 hex (검증 캐시 key, 로그아웃 토큰 Filter)
+*/
+public class TokenHashUtils {
+
+    private TokenHashUtils() {
+    }
+
+    public static String sha256Hex(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new ApplicationErrorException(ApplicationErrorType.INTERNAL_ERROR, e);
+        }
+    }
+}
@@ -13,7 +13,7 @@ import java.util.regex.Pattern;
 public class VerifyUtils {
     // 이메일 형식 검증
     public boolean isAvailableEmailFormat(String email) {
-        log.info("[VERIFY-FORMAT] Email format verify start. email : {}", email);
+        log.debug("[VERIFY-FORMAT] Email format verify start. ");
         String emailRegex = "^[_a-z0-9-]+(.[_a-z0-9-]+)*@(?:\\w+\\.)+\\w+$";
         Pattern pattern = Pattern.compile(emailRegex);
         Matcher matcher = pattern.matcher(email);
@@ -25,7 +25,7 @@ public class VerifyUtils {
     }
     // 핸드폰 형식 검증
     public boolean isAvailablePhoneNumberFormat(String phoneNumber) {
-        log.info("[VERIFY-FORMAT] Phone number format verify start. phone number : {}", phoneNumber);
+        log.debug("[VERIFY-FORMAT] Phone number format verify start. ");
         String phoneNumberRegex = "^\\d{3}-\\d{3,4}-\\d{4}$";
         Pattern pattern = Pattern.compile(phoneNumberRegex);
         Matcher matcher = pattern.matcher(phoneNumber);
@@ -38,7 +38,7 @@ public class VerifyUtils {
 
     // 비밀번호 형식 검증
     public boolean isAvailablePasswordFormat(String phoneNumber) {
-        log.info("[VERIFY-FORMAT] Password format verify start. ");
+        log.debug("[VERIFY-FORMAT] Password format verify start. ");
         String phoneNumberRegex = "^.*(?=^.{8,15}$)(?=.*\\d)(?=.*[a-zA-Z])(?=.*[!@#$%^&+=]).*$";
         Pattern pattern = Pattern.compile(phoneNumberRegex);
         Matcher matcher = pattern.matcher(phoneNumber);
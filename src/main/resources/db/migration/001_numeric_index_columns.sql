@@ -0,0 +1,63 @@
+-- StockIndex / IndicatorsIndex 가격, 변동 컬럼 VARCHAR -> DECIMAL(19,4) 변환 (MariaDB)
+-- 기존 문자열 ("$123.45", "+1.2%", "1,234", "NA", "UNCH") 은 NumericParseUtils 와 같은 규칙으로 변환
+-- 숫자 형식이 아닌 값 ("1.2x" 등) 은 strict mode 와 관계없이 오류나 0 대신 NULL
+-- 실패 시 처음부터 다시 실행 가능 (컬럼 교체는 테이블별 ALTER 한 문장, 이미 교체된 테이블은 DECIMAL 값을 같은 값으로 다시 변환)
+
+DROP FUNCTION IF EXISTS fining_to_decimal;
+
+DELIMITER //
+CREATE FUNCTION fining_to_decimal(v VARCHAR(255)) RETURNS DECIMAL(19,4) DETERMINISTIC
+BEGIN
+    DECLARE s VARCHAR(255);
+    -- 유니코드 마이너스 기호 (U+2212) -> '-', 기호 / 공백 제거
+    SET s = REGEXP_REPLACE(REPLACE(v, CONVERT(0xE28892 USING utf8mb4), '-'), '[$%,+[:space:]]', '');
+    IF s IS NULL OR s IN ('', '-', '--') OR UPPER(s) IN ('NA', 'N/A') THEN
+        RETURN NULL;
+    END IF;
+    IF UPPER(s) = 'UNCH' THEN
+        RETURN 0;
+    END IF;
+    IF s NOT REGEXP '^-?([0-9]+[.]?[0-9]*|[.][0-9]+)([eE]-?[0-9]+)?$' THEN
+        RETURN NULL;
+    END IF;
+    RETURN CAST(s AS DECIMAL(19,4));
+END //
+DELIMITER ;
+
+ALTER TABLE stock_index
+    ADD COLUMN IF NOT EXISTS last_sale_num DECIMAL(19,4) NULL,
+    ADD COLUMN IF NOT EXISTS net_change_num DECIMAL(19,4) NULL,
+    ADD COLUMN IF NOT EXISTS percent_change_num DECIMAL(19,4) NULL;
+
+UPDATE stock_index
+SET last_sale_num      = fining_to_decimal(last_sale),
+    net_change_num     = fining_to_decimal(net_change),
+    percent_change_num = fining_to_decimal(percent_change);
+
+ALTER TABLE stock_index
+    DROP COLUMN last_sale,
+    DROP COLUMN net_change,
+    DROP COLUMN percent_change,
+    RENAME COLUMN last_sale_num TO last_sale,
+    RENAME COLUMN net_change_num TO net_change,
+    RENAME COLUMN percent_change_num TO percent_change;
+
+ALTER TABLE indicators_index
+    ADD COLUMN IF NOT EXISTS net_change_num DECIMAL(19,4) NULL,
+    ADD COLUMN IF NOT EXISTS percent_change_num DECIMAL(19,4) NULL,
+    ADD COLUMN IF NOT EXISTS price_num DECIMAL(19,4) NULL;
+
+UPDATE indicators_index
+SET net_change_num     = fining_to_decimal(net_change),
+    percent_change_num = fining_to_decimal(percent_change),
+    price_num          = fining_to_decimal(price);
+
+ALTER TABLE indicators_index
+    DROP COLUMN net_change,
+    DROP COLUMN percent_change,
+    DROP COLUMN price,
+    RENAME COLUMN net_change_num TO net_change,
+    RENAME COLUMN percent_change_num TO percent_change,
+    RENAME COLUMN price_num TO price;
+
+DROP FUNCTION IF EXISTS fining_to_decimal;
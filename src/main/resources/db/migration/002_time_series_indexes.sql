@@ -0,0 +1,27 @@
+-- 시계열 조회용 복합 인덱스 / unique 제약 추가 (MariaDB)
+-- unique 제약 추가 전 중복 데이터 정리 필요
+
+-- 1. 같은 종목, 같은 날짜의 중복 지수 데이터는 가장 먼저 저장된 행만 유지
+DELETE si FROM stock_index si
+    JOIN stock_index keep ON keep.stock_id = si.stock_id AND keep.as_of_date = si.as_of_date AND keep.id < si.id;
+
+DELETE ii FROM indicators_index ii
+    JOIN indicators_index keep ON keep.indicators_id = ii.indicators_id AND keep.as_of_date = ii.as_of_date AND keep.id < ii.id;
+
+-- 2. symbol 중복 확인 (결과가 있으면 참조 데이터 정리 후 진행)
+-- SELECT symbol, COUNT(*) FROM stock GROUP BY symbol HAVING COUNT(*) > 1;
+-- SELECT symbol, COUNT(*) FROM indicators GROUP BY symbol HAVING COUNT(*) > 1;
+
+ALTER TABLE stock
+    ADD CONSTRAINT uk_stock_symbol UNIQUE (symbol);
+
+ALTER TABLE indicators
+    ADD CONSTRAINT uk_indicators_symbol UNIQUE (symbol);
+
+ALTER TABLE stock_index
+    ADD CONSTRAINT uk_stock_index_stock_date UNIQUE (stock_id, as_of_date),
+    ADD INDEX idx_stock_index_date_market_cap (as_of_date, market_cap);
+
+ALTER TABLE indicators_index
+    ADD CONSTRAINT uk_indicators_index_indicators_date UNIQUE (indicators_id, as_of_date),
+    ADD INDEX idx_indicators_index_date_type (as_of_date, indicators_type);
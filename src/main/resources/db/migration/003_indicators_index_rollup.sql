@@ -0,0 +1,50 @@
+-- 지표 주간 / 월간 집계 테이블 추가 및 기존 일별 데이터 집계 (MariaDB)
+-- 이후 집계는 일별 데이터 insert 시 해당 기간만 갱신 (IndicatorsIndexRollupBulkRepository)
+
+CREATE TABLE IF NOT EXISTS indicators_index_rollup (
+    id            BIGINT AUTO_INCREMENT PRIMARY KEY,
+    indicators_id BIGINT,
+    resolution    VARCHAR(10),
+    period_start  DATE,
+    last_date     DATE,
+    last_price    DECIMAL(19, 4),
+    min_price     DECIMAL(19, 4),
+    max_price     DECIMAL(19, 4),
+    avg_price     DECIMAL(19, 4),
+    net_change    DECIMAL(19, 4),
+    row_cnt       INT,
+    created_at    DATETIME(6) NOT NULL,
+    updated_at    DATETIME(6),
+    CONSTRAINT uk_indicators_index_rollup_period UNIQUE (indicators_id, resolution, period_start),
+    CONSTRAINT fk_indicators_index_rollup_indicators FOREIGN KEY (indicators_id) REFERENCES indicators (id)
+);
+
+-- 1. 주간 (월요일 시작)
+INSERT INTO indicators_index_rollup
+    (indicators_id, resolution, period_start, last_date, last_price, min_price, max_price, avg_price, net_change, row_cnt, created_at, updated_at)
+SELECT agg.indicators_id, 'WEEKLY', agg.period_start, agg.last_date, last_row.price,
+       agg.min_price, agg.max_price, agg.avg_price, agg.net_change, agg.row_cnt, NOW(6), NOW(6)
+FROM (SELECT indicators_id, DATE_SUB(as_of_date, INTERVAL WEEKDAY(as_of_date) DAY) AS period_start,
+             MAX(as_of_date) AS last_date, MIN(price) AS min_price, MAX(price) AS max_price,
+             ROUND(AVG(price), 4) AS avg_price, SUM(net_change) AS net_change, COUNT(*) AS row_cnt
+      FROM indicators_index
+      GROUP BY indicators_id, DATE_SUB(as_of_date, INTERVAL WEEKDAY(as_of_date) DAY)) agg
+    JOIN indicators_index last_row ON last_row.indicators_id = agg.indicators_id AND last_row.as_of_date = agg.last_date
+ON DUPLICATE KEY UPDATE last_date = VALUES(last_date), last_price = VALUES(last_price), min_price = VALUES(min_price),
+    max_price = VALUES(max_price), avg_price = VALUES(avg_price), net_change = VALUES(net_change),
+    row_cnt = VALUES(row_cnt), updated_at = VALUES(updated_at);
+
+-- 2. 월간 (1일 시작)
+INSERT INTO indicators_index_rollup
+    (indicators_id, resolution, period_start, last_date, last_price, min_price, max_price, avg_price, net_change, row_cnt, created_at, updated_at)
+SELECT agg.indicators_id, 'MONTHLY', agg.period_start, agg.last_date, last_row.price,
+       agg.min_price, agg.max_price, agg.avg_price, agg.net_change, agg.row_cnt, NOW(6), NOW(6)
+FROM (SELECT indicators_id, CAST(DATE_FORMAT(as_of_date, '%Y-%m-01') AS DATE) AS period_start,
+             MAX(as_of_date) AS last_date, MIN(price) AS min_price, MAX(price) AS max_price,
+             ROUND(AVG(price), 4) AS avg_price, SUM(net_change) AS net_change, COUNT(*) AS row_cnt
+      FROM indicators_index
+      GROUP BY indicators_id, CAST(DATE_FORMAT(as_of_date, '%Y-%m-01') AS DATE)) agg
+    JOIN indicators_index last_row ON last_row.indicators_id = agg.indicators_id AND last_row.as_of_date = agg.last_date
+ON DUPLICATE KEY UPDATE last_date = VALUES(last_date), last_price = VALUES(last_price), min_price = VALUES(min_price),
+    max_price = VALUES(max_price), avg_price = VALUES(avg_price), net_change = VALUES(net_change),
+    row_cnt = VALUES(row_cnt), updated_at = VALUES(updated_at);
@@ -0,0 +1,66 @@
+-- 종목 주간 / 월간 집계 테이블 추가 및 기존 일별 데이터 집계 (MariaDB)
+-- 이후 집계는 주가 일별 데이터 insert 후 해당 기간만 갱신 (StockIndexRollupBulkRepository)
+-- 특정 기간 재집계는 POST /api/v1/stock/scrap/rollup?from=&to=
+
+CREATE TABLE IF NOT EXISTS stock_index_rollup (
+    id              BIGINT AUTO_INCREMENT PRIMARY KEY,
+    stock_id        BIGINT,
+    resolution      VARCHAR(10),
+    period_start    DATE,
+    last_date       DATE,
+    open_sale       DECIMAL(19, 4),
+    last_sale       DECIMAL(19, 4),
+    min_sale        DECIMAL(19, 4),
+    max_sale        DECIMAL(19, 4),
+    avg_sale        DECIMAL(19, 4),
+    market_cap      BIGINT,
+    market_cap_rank INT,
+    net_change      DECIMAL(19, 4),
+    row_cnt         INT,
+    created_at      DATETIME(6) NOT NULL,
+    updated_at      DATETIME(6),
+    CONSTRAINT uk_stock_index_rollup_period UNIQUE (stock_id, resolution, period_start),
+    CONSTRAINT fk_stock_index_rollup_stock FOREIGN KEY (stock_id) REFERENCES stock (id),
+    INDEX idx_stock_index_rollup_period_rank (resolution, period_start, market_cap_rank)
+);
+
+-- 1. 주간 (월요일 시작)
+INSERT INTO stock_index_rollup
+    (stock_id, resolution, period_start, last_date, open_sale, last_sale, min_sale, max_sale, avg_sale,
+     market_cap, net_change, row_cnt, created_at, updated_at)
+SELECT agg.stock_id, 'WEEKLY', agg.period_start, agg.last_date, first_row.last_sale, last_row.last_sale,
+       agg.min_sale, agg.max_sale, agg.avg_sale, last_row.market_cap, agg.net_change, agg.row_cnt, NOW(6), NOW(6)
+FROM (SELECT stock_id, DATE_SUB(as_of_date, INTERVAL WEEKDAY(as_of_date) DAY) AS period_start,
+             MIN(as_of_date) AS first_date, MAX(as_of_date) AS last_date, MIN(last_sale) AS min_sale, MAX(last_sale) AS max_sale,
+             ROUND(AVG(last_sale), 4) AS avg_sale, SUM(net_change) AS net_change, COUNT(*) AS row_cnt
+      FROM stock_index
+      GROUP BY stock_id, DATE_SUB(as_of_date, INTERVAL WEEKDAY(as_of_date) DAY)) agg
+    JOIN stock_index first_row ON first_row.stock_id = agg.stock_id AND first_row.as_of_date = agg.first_date
+    JOIN stock_index last_row ON last_row.stock_id = agg.stock_id AND last_row.as_of_date = agg.last_date
+ON DUPLICATE KEY UPDATE last_date = VALUES(last_date), open_sale = VALUES(open_sale), last_sale = VALUES(last_sale),
+    min_sale = VALUES(min_sale), max_sale = VALUES(max_sale), avg_sale = VALUES(avg_sale), market_cap = VALUES(market_cap),
+    net_change = VALUES(net_change), row_cnt = VALUES(row_cnt), updated_at = VALUES(updated_at);
+
+-- 2. 월간 (1일 시작)
+INSERT INTO stock_index_rollup
+    (stock_id, resolution, period_start, last_date, open_sale, last_sale, min_sale, max_sale, avg_sale,
+     market_cap, net_change, row_cnt, created_at, updated_at)
+SELECT agg.stock_id, 'MONTHLY', agg.period_start, agg.last_date, first_row.last_sale, last_row.last_sale,
+       agg.min_sale, agg.max_sale, agg.avg_sale, last_row.market_cap, agg.net_change, agg.row_cnt, NOW(6), NOW(6)
+FROM (SELECT stock_id, CAST(DATE_FORMAT(as_of_date, '%Y-%m-01') AS DATE) AS period_start,
+             MIN(as_of_date) AS first_date, MAX(as_of_date) AS last_date, MIN(last_sale) AS min_sale, MAX(last_sale) AS max_sale,
+             ROUND(AVG(last_sale), 4) AS avg_sale, SUM(net_change) AS net_change, COUNT(*) AS row_cnt
+      FROM stock_index
+      GROUP BY stock_id, CAST(DATE_FORMAT(as_of_date, '%Y-%m-01') AS DATE)) agg
+    JOIN stock_index first_row ON first_row.stock_id = agg.stock_id AND first_row.as_of_date = agg.first_date
+    JOIN stock_index last_row ON last_row.stock_id = agg.stock_id AND last_row.as_of_date = agg.last_date
+ON DUPLICATE KEY UPDATE last_date = VALUES(last_date), open_sale = VALUES(open_sale), last_sale = VALUES(last_sale),
+    min_sale = VALUES(min_sale), max_sale = VALUES(max_sale), avg_sale = VALUES(avg_sale), market_cap = VALUES(market_cap),
+    net_change = VALUES(net_change), row_cnt = VALUES(row_cnt), updated_at = VALUES(updated_at);
+
+-- 3. 기간별 시가총액 순위 (같은 시가총액은 같은 순위)
+UPDATE stock_index_rollup target
+    JOIN (SELECT id, RANK() OVER (PARTITION BY resolution, period_start ORDER BY market_cap DESC) AS market_cap_rank
+          FROM stock_index_rollup
+          WHERE market_cap IS NOT NULL) ranked ON ranked.id = target.id
+SET target.market_cap_rank = ranked.market_cap_rank;
@@ -0,0 +1,99 @@
+package com.hklim.finingserver.domain.indicators.repository;
+
+import com.hklim.finingserver.domain.indicators.entity.IndicatorsType;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+@DisplayName("IndicatorsIndex 주간 / 월간 집계 테스트 (H2 MariaDB Mode)")
+class IndicatorsIndexRollupBulkRepositoryTest {
+    // 2024-06-03 (월) ~ 2024-06-07 (금)
+    private static final LocalDate MONDAY = LocalDate.of(2024, 6, 3);
+
+    private JdbcTemplate jdbcTemplate;
+    private IndicatorsIndexRollupBulkRepository indicatorsIndexRollupBulkRepository;
+
+    @BeforeEach
+    void beforeEach() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:rollup_" + System.nanoTime() + ";MODE=MariaDB;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE indicators_index ("
+                + "id BIGINT AUTO_INCREMENT PRIMARY KEY, "
+                + "net_change DECIMAL(19,4), percent_change DECIMAL(19,4), price DECIMAL(19,4), "
+                + "as_of_date DATE, indicators_type VARCHAR(255), indicators_id BIGINT, "
+                + "created_at TIMESTAMP(6) NOT NULL, updated_at TIMESTAMP(6), "
+                + "CONSTRAINT uk_indicators_index_indicators_date UNIQUE (indicators_id, as_of_date))");
+        jdbcTemplate.execute("CREATE TABLE indicators_index_rollup ("
+                + "id BIGINT AUTO_INCREMENT PRIMARY KEY, indicators_id BIGINT, resolution VARCHAR(10), period_start DATE, "
+                + "last_date DATE, last_price DECIMAL(19,4), min_price DECIMAL(19,4), max_price DECIMAL(19,4), "
+                + "avg_price DECIMAL(19,4), net_change DECIMAL(19,4), row_cnt INT, "
+                + "created_at TIMESTAMP(6) NOT NULL, updated_at TIMESTAMP(6), "
+                + "CONSTRAINT uk_indicators_index_rollup_period UNIQUE (indicators_id, resolution, period_start))");
+        indicatorsIndexRollupBulkRepository = new IndicatorsIndexRollupBulkRepository(jdbcTemplate);
+    }
+
+    @Test
+    @DisplayName("asOfDate 가 속한 주간, 월간 기간을 마지막 / 최저 / 최고 / 평균 가격으로 집계한다")
+    void givenDailyIndex_whenRollup_thenWeeklyAndMonthlyAggregated() {
+        // 가격 10, 12, 8, 14, 11
+        int[] prices = {10, 12, 8, 14, 11};
+        for (int i = 0; i < prices.length; i++) {
+            insertIndex(1L, MONDAY.plusDays(i), prices[i], IndicatorsType.STOCK);
+        }
+        insertIndex(2L, MONDAY, 100, IndicatorsType.BOND);
+
+        indicatorsIndexRollupBulkRepository.rollup(MONDAY.plusDays(4), IndicatorsType.STOCK);
+
+        Map<String, Object> weekly = findRollup(1L, "WEEKLY", MONDAY);
+        Assertions.assertEquals(MONDAY.plusDays(4), ((Date) weekly.get("last_date")).toLocalDate());
+        Assertions.assertEquals(0, new BigDecimal("11").compareTo((BigDecimal) weekly.get("last_price")));
+        Assertions.assertEquals(0, new BigDecimal("8").compareTo((BigDecimal) weekly.get("min_price")));
+        Assertions.assertEquals(0, new BigDecimal("14").compareTo((BigDecimal) weekly.get("max_price")));
+        Assertions.assertEquals(0, new BigDecimal("11").compareTo((BigDecimal) weekly.get("avg_price")));
+        Assertions.assertEquals(5, ((Number) weekly.get("row_cnt")).intValue());
+        Assertions.assertEquals(5, ((Number) findRollup(1L, "MONTHLY", LocalDate.of(2024, 6, 1)).get("row_cnt")).intValue());
+        // 해당 날짜에 데이터가 없는 다른 유형의 지표는 집계하지 않음
+        Assertions.assertEquals(0, jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM indicators_index_rollup WHERE indicators_id = 2", Integer.class));
+    }
+
+    @Test
+    @DisplayName("같은 날짜로 다시 집계해도 기간별 한 행만 유지되고 값이 갱신된다")
+    void givenRolledUpPeriod_whenRollupAgain_thenUpsertedOnce() {
+        insertIndex(1L, MONDAY, 10, IndicatorsType.STOCK);
+        indicatorsIndexRollupBulkRepository.rollup(MONDAY, IndicatorsType.STOCK);
+        indicatorsIndexRollupBulkRepository.rollup(MONDAY, IndicatorsType.STOCK);
+
+        insertIndex(1L, MONDAY.plusDays(1), 20, IndicatorsType.STOCK);
+        indicatorsIndexRollupBulkRepository.rollup(MONDAY.plusDays(1), IndicatorsType.STOCK);
+
+        Assertions.assertEquals(2, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM indicators_index_rollup", Integer.class));
+        Map<String, Object> weekly = findRollup(1L, "WEEKLY", MONDAY);
+        Assertions.assertEquals(0, new BigDecimal("20").compareTo((BigDecimal) weekly.get("last_price")));
+        Assertions.assertEquals(0, new BigDecimal("15").compareTo((BigDecimal) weekly.get("avg_price")));
+        Assertions.assertEquals(2, ((Number) weekly.get("row_cnt")).intValue());
+    }
+
+    private void insertIndex(Long indicatorsId, LocalDate asOfDate, int price, IndicatorsType indicatorsType) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.update("INSERT INTO indicators_index (net_change, percent_change, price, as_of_date, indicators_type, indicators_id, created_at, updated_at) "
+                        + "VALUES (?, ?, ?, ?, ?, ?, ?, ?)",
+                BigDecimal.ONE, BigDecimal.ONE, BigDecimal.valueOf(price), asOfDate, indicatorsType.name(), indicatorsId, now, now);
+    }
+
+    private Map<String, Object> findRollup(Long indicatorsId, String resolution, LocalDate periodStart) {
+        return jdbcTemplate.queryForMap("SELECT * FROM indicators_index_rollup WHERE indicators_id = ? AND resolution = ? AND period_start = ?",
+                indicatorsId, resolution, periodStart);
+    }
+}
@@ -0,0 +1,206 @@
+package com.hklim.finingserver.domain.indicators.service;
+
+import com.hklim.finingserver.domain.indicators.dto.IndicatorsIndexPointDto;
+import com.hklim.finingserver.domain.indicators.entity.IndicatorsIndexRollup;
+import com.hklim.finingserver.domain.indicators.repository.IndicatorsIndexRepository;
+import com.hklim.finingserver.domain.indicators.repository.IndicatorsIndexRollupRepository;
+import com.hklim.finingserver.domain.ui.dto.IndicatorsDetailUiDataResponseDto;
+import com.hklim.finingserver.global.dto.TimeSeriesPage;
+import com.hklim.finingserver.global.entity.ResolutionType;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.data.domain.Pageable;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+@DisplayName("지표 시계열 조회 테스트")
+class IndicatorsIndexSeriesServiceTest {
+    // 2024-01-01 (월) ~ 2024-03-31 평일 데이터, 가격 = 일련번호
+    private static final LocalDate FROM = LocalDate.of(2024, 1, 1);
+    private static final LocalDate TO = LocalDate.of(2024, 3, 31);
+
+    private IndicatorsIndexRepository indicatorsIndexRepository;
+    private IndicatorsIndexRollupRepository indicatorsIndexRollupRepository;
+    private IndicatorsIndexSeriesService indicatorsIndexSeriesService;
+    private List<IndicatorsIndexPointDto> storedPoints;
+
+    @BeforeEach
+    void beforeEach() {
+        storedPoints = new ArrayList<>();
+        int seq = 1;
+        for (LocalDate date = FROM; !date.isAfter(TO); date = date.plusDays(1)) {
+            if (date.getDayOfWeek() != DayOfWeek.SATURDAY && date.getDayOfWeek() != DayOfWeek.SUNDAY) {
+                storedPoints.add(new IndicatorsIndexPointDto(date, BigDecimal.valueOf(seq), BigDecimal.ONE, BigDecimal.ONE));
+                seq++;
+            }
+        }
+
+        indicatorsIndexRepository = Mockito.mock(IndicatorsIndexRepository.class);
+        Mockito.when(indicatorsIndexRepository.findIndexPoints(Mockito.eq(1L), Mockito.any(), Mockito.any(), Mockito.any()))
+                .thenAnswer(invocation -> findIndexPoints(invocation.getArgument(1), invocation.getArgument(2), invocation.getArgument(3)));
+        indicatorsIndexRollupRepository = Mockito.mock(IndicatorsIndexRollupRepository.class);
+        Mockito.when(indicatorsIndexRollupRepository.findRollups(Mockito.eq(1L), Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any()))
+                .thenAnswer(invocation -> findRollups(invocation.getArgument(1), invocation.getArgument(2), invocation.getArgument(3), invocation.getArgument(4)));
+        indicatorsIndexSeriesService = new IndicatorsIndexSeriesService(indicatorsIndexRepository, indicatorsIndexRollupRepository, 500);
+    }
+
+    @Test
+    @DisplayName("조회 기간 양 끝 날짜를 포함하고, to 이후 cursor 는 무시한다")
+    void givenDateRange_whenGetDailySeries_thenBoundsInclusive() {
+        LocalDate from = LocalDate.of(2024, 2, 5);
+        LocalDate to = LocalDate.of(2024, 2, 9);
+
+        TimeSeriesPage<IndicatorsDetailUiDataResponseDto.IndicatorsIndexData> page =
+                indicatorsIndexSeriesService.getIndexSeries(1L, from, to, ResolutionType.DAILY, null, 500);
+        TimeSeriesPage<IndicatorsDetailUiDataResponseDto.IndicatorsIndexData> cursorAfterTo =
+                indicatorsIndexSeriesService.getIndexSeries(1L, from, to, ResolutionType.DAILY, LocalDate.of(2024, 3, 1), 500);
+
+        Assertions.assertEquals(5, page.getContent().size());
+        Assertions.assertEquals(to, page.getContent().get(0).getAsOfDate());
+        Assertions.assertEquals(from, page.getContent().get(4).getAsOfDate());
+        Assertions.assertNull(page.getNextCursor());
+        Assertions.assertEquals(5, cursorAfterTo.getContent().size());
+    }
+
+    @Test
+    @DisplayName("cursor 가 from 이하이거나 기간이 뒤집히면 조회 없이 빈 페이지를 반환한다")
+    void givenEmptyRange_whenGetSeries_thenEmptyPageWithoutQuery() {
+        TimeSeriesPage<IndicatorsDetailUiDataResponseDto.IndicatorsIndexData> cursorBeforeFrom =
+                indicatorsIndexSeriesService.getIndexSeries(1L, LocalDate.of(2024, 2, 5), TO, ResolutionType.DAILY, LocalDate.of(2024, 2, 5), 20);
+        TimeSeriesPage<IndicatorsDetailUiDataResponseDto.IndicatorsIndexData> reversed =
+                indicatorsIndexSeriesService.getIndexSeries(1L, TO, FROM, ResolutionType.MONTHLY, null, 20);
+
+        Assertions.assertTrue(cursorBeforeFrom.getContent().isEmpty());
+        Assertions.assertNull(cursorBeforeFrom.getNextCursor());
+        Assertions.assertTrue(reversed.getContent().isEmpty());
+        Mockito.verifyNoInteractions(indicatorsIndexRepository, indicatorsIndexRollupRepository);
+    }
+
+    @Test
+    @DisplayName("size 는 1 ~ max-size 범위로 제한한다")
+    void givenOutOfRangeSize_whenGetSeries_thenClampedToMaxSize() {
+        IndicatorsIndexSeriesService limitedService = new IndicatorsIndexSeriesService(indicatorsIndexRepository, indicatorsIndexRollupRepository, 10);
+
+        TimeSeriesPage<IndicatorsDetailUiDataResponseDto.IndicatorsIndexData> overMax =
+                limitedService.getIndexSeries(1L, FROM, TO, ResolutionType.DAILY, null, 100);
+        TimeSeriesPage<IndicatorsDetailUiDataResponseDto.IndicatorsIndexData> zero =
+                limitedService.getIndexSeries(1L, FROM, TO, ResolutionType.DAILY, null, 0);
+
+        Assertions.assertEquals(10, overMax.getContent().size());
+        Assertions.assertNotNull(overMax.getNextCursor());
+        Assertions.assertEquals(1, zero.getContent().size());
+        Assertions.assertEquals(LocalDate.of(2024, 3, 29), zero.getNextCursor());
+    }
+
+    @Test
+    @DisplayName("일별 조회는 cursor 로 중복, 누락 없이 전체 기간을 나누어 조회한다")
+    void givenDailyResolution_whenFollowCursor_thenAllRowsOnce() {
+        List<LocalDate> collected = new ArrayList<>();
+        LocalDate cursor = null;
+        int pageCnt = 0;
+        do {
+            TimeSeriesPage<IndicatorsDetailUiDataResponseDto.IndicatorsIndexData> page =
+                    indicatorsIndexSeriesService.getIndexSeries(1L, FROM, TO, ResolutionType.DAILY, cursor, 20);
+            Assertions.assertTrue(page.getContent().size() <= 20);
+            page.getContent().forEach(data -> collected.add(data.getAsOfDate()));
+            cursor = page.getNextCursor();
+            pageCnt++;
+        } while (cursor != null);
+
+        Assertions.assertEquals(storedPoints.size(), collected.size());
+        Assertions.assertEquals(LocalDate.of(2024, 3, 29), collected.get(0));
+        Assertions.assertEquals(FROM, collected.get(collected.size() - 1));
+        Assertions.assertEquals((storedPoints.size() + 19) / 20, pageCnt);
+    }
+
+    @Test
+    @DisplayName("월간 조회는 집계 테이블의 기간별 최저, 최고, 평균, 마지막 가격을 반환하고 cursor 로 이전 기간을 조회한다")
+    void givenMonthlyResolution_whenGetSeries_thenAggregatedByMonth() {
+        TimeSeriesPage<IndicatorsDetailUiDataResponseDto.IndicatorsIndexData> page =
+                indicatorsIndexSeriesService.getIndexSeries(1L, FROM, TO, ResolutionType.MONTHLY, null, 2);
+
+        Assertions.assertEquals(2, page.getContent().size());
+        IndicatorsDetailUiDataResponseDto.IndicatorsIndexData march = page.getContent().get(0);
+        IndicatorsDetailUiDataResponseDto.IndicatorsIndexData february = page.getContent().get(1);
+        Assertions.assertEquals(LocalDate.of(2024, 3, 1), march.getPeriodStart());
+        Assertions.assertEquals(LocalDate.of(2024, 2, 1), february.getPeriodStart());
+        // 1월 평일 23일, 2월 평일 21일 (24 ~ 44)
+        Assertions.assertEquals(0, BigDecimal.valueOf(24).compareTo(february.getMinPrice()));
+        Assertions.assertEquals(0, BigDecimal.valueOf(44).compareTo(february.getMaxPrice()));
+        Assertions.assertEquals(0, BigDecimal.valueOf(34).compareTo(february.getAvgPrice()));
+        Assertions.assertEquals(0, BigDecimal.valueOf(44).compareTo(february.getPrice()));
+        Assertions.assertEquals(0, BigDecimal.valueOf(21).compareTo(february.getNetChange()));
+        // 등락률 = 21 / (44 - 21) * 100
+        Assertions.assertEquals(0, new BigDecimal("91.3043").compareTo(february.getPercentChange()));
+        Assertions.assertEquals(LocalDate.of(2024, 2, 29), february.getAsOfDate());
+        Assertions.assertEquals(LocalDate.of(2024, 2, 1), page.getNextCursor());
+
+        TimeSeriesPage<IndicatorsDetailUiDataResponseDto.IndicatorsIndexData> lastPage =
+                indicatorsIndexSeriesService.getIndexSeries(1L, FROM, TO, ResolutionType.MONTHLY, page.getNextCursor(), 2);
+        Assertions.assertEquals(1, lastPage.getContent().size());
+        Assertions.assertEquals(FROM, lastPage.getContent().get(0).getPeriodStart());
+        Assertions.assertNull(lastPage.getNextCursor());
+    }
+
+    @Test
+    @DisplayName("주간 조회는 from 이 포함된 주의 월요일부터 기간을 반환한다")
+    void givenWeeklyResolution_whenGetSeries_thenGroupedFromMonday() {
+        TimeSeriesPage<IndicatorsDetailUiDataResponseDto.IndicatorsIndexData> page =
+                indicatorsIndexSeriesService.getIndexSeries(1L, LocalDate.of(2024, 1, 3), TO, ResolutionType.WEEKLY, null, 500);
+
+        Assertions.assertEquals(13, page.getContent().size());
+        page.getContent().forEach(data -> Assertions.assertEquals(DayOfWeek.MONDAY, data.getPeriodStart().getDayOfWeek()));
+        Assertions.assertEquals(FROM, page.getContent().get(page.getContent().size() - 1).getPeriodStart());
+        Assertions.assertNull(page.getNextCursor());
+    }
+
+    private List<IndicatorsIndexPointDto> findIndexPoints(LocalDate from, LocalDate toExclusive, Pageable pageable) {
+        List<IndicatorsIndexPointDto> result = storedPoints.stream()
+                .filter(point -> !point.getAsOfDate().isBefore(from) && point.getAsOfDate().isBefore(toExclusive))
+                .sorted(Comparator.comparing(IndicatorsIndexPointDto::getAsOfDate).reversed())
+                .toList();
+        return pageable.isPaged() ? result.subList(0, Math.min(result.size(), pageable.getPageSize())) : result;
+    }
+
+    private List<IndicatorsIndexRollup> findRollups(ResolutionType resolution, LocalDate from, LocalDate toExclusive, Pageable pageable) {
+        List<IndicatorsIndexRollup> result = toRollups(resolution).stream()
+                .filter(rollup -> !rollup.getPeriodStart().isBefore(from) && rollup.getPeriodStart().isBefore(toExclusive))
+                .sorted(Comparator.comparing(IndicatorsIndexRollup::getPeriodStart).reversed())
+                .toList();
+        return result.subList(0, Math.min(result.size(), pageable.getPageSize()));
+    }
+
+    // 지표 집계 (IndicatorsIndexRollupBulkRepository) 결과와 같은 형태로 기간별 집계
+    private List<IndicatorsIndexRollup> toRollups(ResolutionType resolution) {
+        Map<LocalDate, List<IndicatorsIndexPointDto>> periodMap = new TreeMap<>();
+        storedPoints.forEach(point -> periodMap.computeIfAbsent(resolution.bucketStart(point.getAsOfDate()), key -> new ArrayList<>()).add(point));
+        List<IndicatorsIndexRollup> rollups = new ArrayList<>();
+        periodMap.forEach((periodStart, points) -> {
+            IndicatorsIndexPointDto last = points.get(points.size() - 1);
+            BigDecimal priceSum = points.stream().map(IndicatorsIndexPointDto::getPrice).reduce(BigDecimal.ZERO, BigDecimal::add);
+            rollups.add(IndicatorsIndexRollup.builder()
+                    .resolution(resolution)
+                    .periodStart(periodStart)
+                    .lastDate(last.getAsOfDate())
+                    .lastPrice(last.getPrice())
+                    .minPrice(points.stream().map(IndicatorsIndexPointDto::getPrice).min(Comparator.naturalOrder()).orElseThrow())
+                    .maxPrice(points.stream().map(IndicatorsIndexPointDto::getPrice).max(Comparator.naturalOrder()).orElseThrow())
+                    .avgPrice(priceSum.divide(BigDecimal.valueOf(points.size()), 4, RoundingMode.HALF_UP))
+                    .netChange(points.stream().map(IndicatorsIndexPointDto::getNetChange).reduce(BigDecimal.ZERO, BigDecimal::add))
+                    .rowCnt(points.size())
+                    .build());
+        });
+        return rollups;
+    }
+}
@@ -0,0 +1,101 @@
+package com.hklim.finingserver.domain.portfolio.repository;
+
+import com.hklim.finingserver.domain.member.entity.Member;
+import com.hklim.finingserver.domain.portfolio.entity.Portfolio;
+import com.hklim.finingserver.domain.stock.entity.Stock;
+import com.hklim.finingserver.domain.stock.entity.StockIndex;
+import com.hklim.finingserver.domain.ui.dto.UiStockDataResponseDto;
+import com.hklim.finingserver.global.config.JpaConfig;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+@DisplayName("포트폴리오 종목 + 최신 StockIndex 조회 테스트 (H2 MariaDB Mode)")
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:portfolio;MODE=MariaDB;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "spring.jpa.hibernate.ddl-auto=create-drop"})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(JpaConfig.class)
+class PortfolioRepositoryTest {
+    private static final LocalDate FIRST_DATE = LocalDate.of(2024, 6, 3);
+
+    @Autowired
+    private TestEntityManager entityManager;
+    @Autowired
+    private PortfolioRepository portfolioRepository;
+
+    private Member member;
+
+    @BeforeEach
+    void beforeEach() {
+        member = entityManager.persist(createMember("test@fining.com"));
+        Member otherMember = entityManager.persist(createMember("other@fining.com"));
+
+        // AAPL : 3일치 지수, MSFT : 지수 없음, NVDA : 첫날 지수만
+        Stock apple = entityManager.persist(Stock.builder().symbol("AAPL").name("Apple").build());
+        Stock microsoft = entityManager.persist(Stock.builder().symbol("MSFT").name("Microsoft").build());
+        Stock nvidia = entityManager.persist(Stock.builder().symbol("NVDA").name("NVIDIA").build());
+        for (int day = 0; day < 3; day++) {
+            entityManager.persist(createStockIndex(apple, FIRST_DATE.plusDays(day), "19" + day + ".00"));
+        }
+        entityManager.persist(createStockIndex(nvidia, FIRST_DATE, "120.00"));
+
+        entityManager.persist(new Portfolio(member, apple));
+        entityManager.persist(new Portfolio(member, microsoft));
+        entityManager.persist(new Portfolio(member, nvidia));
+        entityManager.persist(new Portfolio(otherMember, apple));
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("종목별 최신 as_of_date 지수만 조인하고, 지수가 없는 종목은 가격 정보 없이 포함한다")
+    void givenPortfolioStocks_whenFindStockData_thenLatestIndexJoinedAndMissingIndexNull() {
+        List<UiStockDataResponseDto> stockDataList = portfolioRepository.findPortfolioStockDataByMemberId(member.getId());
+
+        Assertions.assertEquals(List.of("AAPL", "MSFT", "NVDA"), stockDataList.stream().map(UiStockDataResponseDto::getSymbol).toList());
+        Assertions.assertEquals(0, new BigDecimal("192.00").compareTo(stockDataList.get(0).getLastSale()));
+        Assertions.assertNull(stockDataList.get(1).getLastSale());
+        Assertions.assertNull(stockDataList.get(1).getMarketCap());
+        Assertions.assertEquals(0, new BigDecimal("120.00").compareTo(stockDataList.get(2).getLastSale()));
+    }
+
+    @Test
+    @DisplayName("지수 날짜가 여러 개여도 페이지 전체 건수는 포트폴리오 종목 수와 같다")
+    void givenSeveralIndexDates_whenFindStockDataPage_thenCountMatchesPortfolioSize() {
+        Page<UiStockDataResponseDto> firstPage = portfolioRepository.findPortfolioStockDataByMemberId(member.getId(), PageRequest.of(0, 2));
+        Page<UiStockDataResponseDto> lastPage = portfolioRepository.findPortfolioStockDataByMemberId(member.getId(), PageRequest.of(1, 2));
+
+        Assertions.assertEquals(3, firstPage.getTotalElements());
+        Assertions.assertEquals(2, firstPage.getTotalPages());
+        Assertions.assertEquals(List.of("AAPL", "MSFT"), firstPage.getContent().stream().map(UiStockDataResponseDto::getSymbol).toList());
+        Assertions.assertEquals(List.of("NVDA"), lastPage.getContent().stream().map(UiStockDataResponseDto::getSymbol).toList());
+    }
+
+    private Member createMember(String email) {
+        return Member.builder().email(email).password("pw").name("tester").phoneNumber("010-0000-0000").build();
+    }
+
+    private StockIndex createStockIndex(Stock stock, LocalDate asOfDate, String lastSale) {
+        return StockIndex.builder()
+                .stock(stock)
+                .asOfDate(asOfDate)
+                .lastSale(new BigDecimal(lastSale))
+                .marketCap(1_000_000L)
+                .netChange(BigDecimal.ONE)
+                .percentChange(BigDecimal.ONE)
+                .build();
+    }
+}
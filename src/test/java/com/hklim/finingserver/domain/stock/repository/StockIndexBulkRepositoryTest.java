@@ -0,0 +1,114 @@
+package com.hklim.finingserver.domain.stock.repository;
+
+import com.hklim.finingserver.domain.stock.entity.Stock;
+import com.hklim.finingserver.domain.stock.entity.StockIndex;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+@DisplayName("StockIndex JDBC Batch Insert 테스트 (H2 MariaDB Mode)")
+class StockIndexBulkRepositoryTest {
+    Logger log = LogManager.getLogger(StockIndexBulkRepositoryTest.class);
+
+    private static final int STOCK_CNT = 8000;
+    private static final int CHUNK_SIZE = 1000;
+
+    private JdbcTemplate jdbcTemplate;
+    private StockIndexBulkRepository stockIndexBulkRepository;
+
+    @BeforeEach
+    void beforeEach() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:bulk_" + System.nanoTime() + ";MODE=MariaDB;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE stock_index ("
+                + "id BIGINT AUTO_INCREMENT PRIMARY KEY, "
+                + "last_sale DECIMAL(19,4), market_cap BIGINT, net_change DECIMAL(19,4), percent_change DECIMAL(19,4), "
+                + "as_of_date DATE, stock_id BIGINT, "
+                + "created_at TIMESTAMP(6) NOT NULL, updated_at TIMESTAMP(6), "
+                + "CONSTRAINT uk_stock_index_stock_date UNIQUE (stock_id, as_of_date))");
+        stockIndexBulkRepository = new StockIndexBulkRepository(jdbcTemplate, new DataSourceTransactionManager(dataSource), CHUNK_SIZE);
+    }
+
+    @Test
+    @DisplayName("Batch Insert 는 모든 행을 저장한다 (단건 Insert 대비 소요 시간 기록)")
+    void givenStockIndexList_whenSaveAll_thenAllRowsInserted() {
+        List<StockIndex> stockIndexList = createStockIndexList(LocalDate.of(2024, 6, 3));
+
+        long singleStart = System.nanoTime();
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        for (StockIndex stockIndex : stockIndexList) {
+            jdbcTemplate.update("INSERT INTO stock_index (last_sale, market_cap, net_change, percent_change, as_of_date, stock_id, created_at, updated_at) "
+                            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?)",
+                    stockIndex.getLastSale(), stockIndex.getMarketCap(), stockIndex.getNetChange(), stockIndex.getPercentChange(),
+                    LocalDate.of(2024, 5, 31), stockIndex.getStock().getId(), now, now);
+        }
+        long singleMillis = (System.nanoTime() - singleStart) / 1_000_000;
+
+        long batchStart = System.nanoTime();
+        int insertCnt = stockIndexBulkRepository.saveAll(stockIndexList);
+        long batchMillis = (System.nanoTime() - batchStart) / 1_000_000;
+
+        log.info("Single insert : {}ms, Batch insert : {}ms, Row cnt : {}", singleMillis, batchMillis, insertCnt);
+
+        Assertions.assertEquals(STOCK_CNT, insertCnt);
+        Assertions.assertEquals(STOCK_CNT, jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM stock_index WHERE as_of_date = ?", Integer.class, LocalDate.of(2024, 6, 3)));
+    }
+
+    @Test
+    @DisplayName("chunk 단위 commit 으로 실패한 chunk 이전 데이터는 유지된다")
+    void givenFailingChunk_whenSaveAll_thenPreviousChunksCommitted() {
+        List<StockIndex> stockIndexList = createStockIndexList(LocalDate.of(2024, 6, 3));
+        jdbcTemplate.execute("ALTER TABLE stock_index ADD CONSTRAINT chk_stock_id CHECK (stock_id <> " + (CHUNK_SIZE * 2 + 1) + ")");
+
+        Assertions.assertThrows(RuntimeException.class, () -> stockIndexBulkRepository.saveAll(stockIndexList));
+        Assertions.assertEquals(CHUNK_SIZE * 2, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM stock_index", Integer.class));
+    }
+
+    @Test
+    @DisplayName("같은 종목, 같은 날짜를 다시 저장하면 중복 없이 최신 값으로 갱신된다")
+    void givenSavedStockIndex_whenSaveAllAgain_thenUpserted() {
+        LocalDate asOfDate = LocalDate.of(2024, 6, 3);
+        stockIndexBulkRepository.saveAll(createStockIndexList(asOfDate));
+
+        List<StockIndex> updatedList = createStockIndexList(asOfDate);
+        ReflectionTestUtils.setField(updatedList.get(0), "lastSale", new BigDecimal("99.99"));
+        stockIndexBulkRepository.saveAll(updatedList);
+
+        Assertions.assertEquals(STOCK_CNT, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM stock_index", Integer.class));
+        Assertions.assertEquals(0, new BigDecimal("99.99").compareTo(jdbcTemplate.queryForObject(
+                "SELECT last_sale FROM stock_index WHERE stock_id = 1 AND as_of_date = ?", BigDecimal.class, asOfDate)));
+    }
+
+    private List<StockIndex> createStockIndexList(LocalDate asOfDate) {
+        List<StockIndex> stockIndexList = new ArrayList<>();
+        for (int i = 1; i <= STOCK_CNT; i++) {
+            Stock stock = Stock.builder().symbol("SYM" + i).name("Stock " + i).build();
+            ReflectionTestUtils.setField(stock, "id", (long) i);
+            stockIndexList.add(StockIndex.builder()
+                    .lastSale(new BigDecimal("12.34"))
+                    .marketCap(1_000_000L + i)
+                    .netChange(new BigDecimal("0.12"))
+                    .percentChange(new BigDecimal("0.98"))
+                    .asOfDate(asOfDate)
+                    .stock(stock)
+                    .build());
+        }
+        return stockIndexList;
+    }
+}
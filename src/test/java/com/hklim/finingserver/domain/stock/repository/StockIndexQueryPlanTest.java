@@ -0,0 +1,83 @@
+package com.hklim.finingserver.domain.stock.repository;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/*
+* 인덱스 적용 여부만 실행 계획으로 확인, 응답 시간 비교는 src/jmh StockIndexQueryBenchmark
+*/
+@DisplayName("시계열 조회 인덱스 실행 계획 테스트 (H2 MariaDB Mode)")
+class StockIndexQueryPlanTest {
+    private static final int STOCK_CNT = 2000;
+    private static final int DAY_CNT = 30;
+    private static final LocalDate LAST_DATE = LocalDate.of(2024, 6, 28);
+
+    private static final String FIND_BY_STOCK_AND_DATE_SQL = "SELECT * FROM stock_index WHERE stock_id = 1234 AND as_of_date = DATE '2024-06-28'";
+    private static final String TOP_TEN_BY_MARKET_CAP_SQL = "SELECT * FROM stock_index WHERE as_of_date = DATE '2024-06-28' ORDER BY market_cap DESC LIMIT 10";
+    private static final String FIND_BY_SYMBOL_SQL = "SELECT * FROM stock WHERE symbol = 'SYM1234'";
+
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void beforeEach() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:plan_" + System.nanoTime() + ";MODE=MariaDB;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE stock (id BIGINT AUTO_INCREMENT PRIMARY KEY, symbol VARCHAR(255), name VARCHAR(255))");
+        jdbcTemplate.execute("CREATE TABLE stock_index ("
+                + "id BIGINT AUTO_INCREMENT PRIMARY KEY, "
+                + "last_sale DECIMAL(19,4), market_cap BIGINT, net_change DECIMAL(19,4), percent_change DECIMAL(19,4), "
+                + "as_of_date DATE, stock_id BIGINT, "
+                + "created_at TIMESTAMP(6) NOT NULL, updated_at TIMESTAMP(6))");
+        seed();
+    }
+
+    @Test
+    @DisplayName("인덱스 추가 후 Table Scan 대신 인덱스를 사용한다")
+    void givenSeededData_whenAddIndexes_thenPlanUsesIndex() {
+        Assertions.assertTrue(explain(FIND_BY_STOCK_AND_DATE_SQL).contains("tablescan"));
+        Assertions.assertTrue(explain(FIND_BY_SYMBOL_SQL).contains("tablescan"));
+
+        jdbcTemplate.execute("ALTER TABLE stock ADD CONSTRAINT uk_stock_symbol UNIQUE (symbol)");
+        jdbcTemplate.execute("ALTER TABLE stock_index ADD CONSTRAINT uk_stock_index_stock_date UNIQUE (stock_id, as_of_date)");
+        jdbcTemplate.execute("CREATE INDEX idx_stock_index_date_market_cap ON stock_index (as_of_date, market_cap)");
+
+        Assertions.assertTrue(explain(FIND_BY_STOCK_AND_DATE_SQL).contains("uk_stock_index_stock_date"));
+        Assertions.assertTrue(explain(TOP_TEN_BY_MARKET_CAP_SQL).contains("idx_stock_index_date_market_cap"));
+        Assertions.assertTrue(explain(FIND_BY_SYMBOL_SQL).contains("uk_stock_symbol"));
+    }
+
+    private void seed() {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> stockArgs = new ArrayList<>();
+        for (int i = 1; i <= STOCK_CNT; i++) {
+            stockArgs.add(new Object[]{"SYM" + i, "Stock " + i});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO stock (symbol, name) VALUES (?, ?)", stockArgs);
+
+        List<Object[]> indexArgs = new ArrayList<>();
+        for (int day = 0; day < DAY_CNT; day++) {
+            Date asOfDate = Date.valueOf(LAST_DATE.minusDays(day));
+            for (int i = 1; i <= STOCK_CNT; i++) {
+                indexArgs.add(new Object[]{"12.34", 1_000_000L * i + day, "0.12", "0.98", asOfDate, (long) i, now, now});
+            }
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO stock_index (last_sale, market_cap, net_change, percent_change, as_of_date, stock_id, created_at, updated_at) "
+                + "VALUES (?, ?, ?, ?, ?, ?, ?, ?)", indexArgs);
+    }
+
+    private String explain(String sql) {
+        return jdbcTemplate.queryForList("EXPLAIN " + sql, String.class).get(0).toLowerCase();
+    }
+}
@@ -0,0 +1,111 @@
+package com.hklim.finingserver.domain.stock.repository;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+@DisplayName("StockIndex 주간 / 월간 집계 테스트 (H2 MariaDB Mode)")
+class StockIndexRollupBulkRepositoryTest {
+    // 2024-06-03 (월) ~ 2024-06-07 (금)
+    private static final LocalDate MONDAY = LocalDate.of(2024, 6, 3);
+
+    private JdbcTemplate jdbcTemplate;
+    private StockIndexRollupBulkRepository stockIndexRollupBulkRepository;
+
+    @BeforeEach
+    void beforeEach() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:stock_rollup_" + System.nanoTime() + ";MODE=MariaDB;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE stock_index ("
+                + "id BIGINT AUTO_INCREMENT PRIMARY KEY, "
+                + "last_sale DECIMAL(19,4), market_cap BIGINT, net_change DECIMAL(19,4), percent_change DECIMAL(19,4), "
+                + "as_of_date DATE, stock_id BIGINT, "
+                + "created_at TIMESTAMP(6) NOT NULL, updated_at TIMESTAMP(6), "
+                + "CONSTRAINT uk_stock_index_stock_date UNIQUE (stock_id, as_of_date))");
+        jdbcTemplate.execute("CREATE TABLE stock_index_rollup ("
+                + "id BIGINT AUTO_INCREMENT PRIMARY KEY, stock_id BIGINT, resolution VARCHAR(10), period_start DATE, last_date DATE, "
+                + "open_sale DECIMAL(19,4), last_sale DECIMAL(19,4), min_sale DECIMAL(19,4), max_sale DECIMAL(19,4), avg_sale DECIMAL(19,4), "
+                + "market_cap BIGINT, market_cap_rank INT, net_change DECIMAL(19,4), row_cnt INT, "
+                + "created_at TIMESTAMP(6) NOT NULL, updated_at TIMESTAMP(6), "
+                + "CONSTRAINT uk_stock_index_rollup_period UNIQUE (stock_id, resolution, period_start))");
+        stockIndexRollupBulkRepository = new StockIndexRollupBulkRepository(jdbcTemplate, new DataSourceTransactionManager(dataSource));
+    }
+
+    @Test
+    @DisplayName("asOfDate 가 속한 기간을 시가 / 종가 / 최저 / 최고 / 평균으로 집계하고 시가총액 순위를 매긴다")
+    void givenDailyIndex_whenRollup_thenAggregatedAndRanked() {
+        // 1번 종목 가격 10, 12, 8, 14, 11
+        int[] prices = {10, 12, 8, 14, 11};
+        for (int i = 0; i < prices.length; i++) {
+            insertIndex(1L, MONDAY.plusDays(i), prices[i], 1000L);
+        }
+        insertIndex(2L, MONDAY.plusDays(4), 50, 3000L);
+        insertIndex(3L, MONDAY.plusDays(4), 30, 1000L);
+
+        stockIndexRollupBulkRepository.rollup(MONDAY.plusDays(4));
+
+        Map<String, Object> weekly = findRollup(1L, "WEEKLY", MONDAY);
+        Assertions.assertEquals(0, new BigDecimal("10").compareTo((BigDecimal) weekly.get("open_sale")));
+        Assertions.assertEquals(0, new BigDecimal("11").compareTo((BigDecimal) weekly.get("last_sale")));
+        Assertions.assertEquals(0, new BigDecimal("8").compareTo((BigDecimal) weekly.get("min_sale")));
+        Assertions.assertEquals(0, new BigDecimal("14").compareTo((BigDecimal) weekly.get("max_sale")));
+        Assertions.assertEquals(0, new BigDecimal("11").compareTo((BigDecimal) weekly.get("avg_sale")));
+        Assertions.assertEquals(5, ((Number) weekly.get("row_cnt")).intValue());
+        // 시가총액 3000 -> 1위, 1000 두 종목 -> 공동 2위
+        Assertions.assertEquals(1, ((Number) findRollup(2L, "WEEKLY", MONDAY).get("market_cap_rank")).intValue());
+        Assertions.assertEquals(2, ((Number) weekly.get("market_cap_rank")).intValue());
+        Assertions.assertEquals(2, ((Number) findRollup(3L, "MONTHLY", LocalDate.of(2024, 6, 1)).get("market_cap_rank")).intValue());
+    }
+
+    @Test
+    @DisplayName("같은 날짜로 다시 집계해도 기간별 한 행만 유지된다")
+    void givenRolledUpPeriod_whenRollupAgain_thenUpsertedOnce() {
+        insertIndex(1L, MONDAY, 10, 1000L);
+        stockIndexRollupBulkRepository.rollup(MONDAY);
+        stockIndexRollupBulkRepository.rollup(MONDAY);
+
+        Assertions.assertEquals(2, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM stock_index_rollup", Integer.class));
+        Assertions.assertEquals(1, ((Number) findRollup(1L, "WEEKLY", MONDAY).get("row_cnt")).intValue());
+    }
+
+    @Test
+    @DisplayName("rebuild 는 기간 내 모든 주간, 월간 기간을 집계한다")
+    void givenHistory_whenRebuild_thenAllPeriodsAggregated() {
+        // 2024-05-27 (월) ~ 2024-06-07 (금), 2주 / 2개월
+        for (LocalDate date = MONDAY.minusDays(7); !date.isAfter(MONDAY.plusDays(4)); date = date.plusDays(1)) {
+            if (date.getDayOfWeek().getValue() <= 5) {
+                insertIndex(1L, date, 10, 1000L);
+            }
+        }
+
+        int periodCnt = stockIndexRollupBulkRepository.rebuild(MONDAY.minusDays(7), MONDAY.plusDays(4));
+
+        Assertions.assertEquals(4, periodCnt);
+        Assertions.assertEquals(5, ((Number) findRollup(1L, "WEEKLY", MONDAY.minusDays(7)).get("row_cnt")).intValue());
+        Assertions.assertEquals(5, ((Number) findRollup(1L, "MONTHLY", LocalDate.of(2024, 5, 1)).get("row_cnt")).intValue());
+        Assertions.assertEquals(5, ((Number) findRollup(1L, "MONTHLY", LocalDate.of(2024, 6, 1)).get("row_cnt")).intValue());
+    }
+
+    private void insertIndex(Long stockId, LocalDate asOfDate, int lastSale, Long marketCap) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.update("INSERT INTO stock_index (last_sale, market_cap, net_change, percent_change, as_of_date, stock_id, created_at, updated_at) "
+                        + "VALUES (?, ?, ?, ?, ?, ?, ?, ?)",
+                BigDecimal.valueOf(lastSale), marketCap, BigDecimal.ONE, BigDecimal.ONE, asOfDate, stockId, now, now);
+    }
+
+    private Map<String, Object> findRollup(Long stockId, String resolution, LocalDate periodStart) {
+        return jdbcTemplate.queryForMap("SELECT * FROM stock_index_rollup WHERE stock_id = ? AND resolution = ? AND period_start = ?",
+                stockId, resolution, periodStart);
+    }
+}
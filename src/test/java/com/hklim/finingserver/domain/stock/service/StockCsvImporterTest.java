@@ -0,0 +1,133 @@
+package com.hklim.finingserver.domain.stock.service;
+
+import com.hklim.finingserver.domain.stock.dto.InsertStockDataRequestDto;
+import com.hklim.finingserver.domain.stock.dto.StockImportResultDto;
+import com.hklim.finingserver.domain.stock.entity.Stock;
+import com.hklim.finingserver.domain.stock.repository.StockBulkRepository;
+import com.hklim.finingserver.domain.stock.repository.StockIndexBulkRepository;
+import com.hklim.finingserver.domain.stock.repository.StockRepository;
+import com.hklim.finingserver.global.utils.FileUtils;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mockito;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+@DisplayName("종목 CSV Streaming 등록 테스트 (H2 MariaDB Mode)")
+class StockCsvImporterTest {
+    Logger log = LogManager.getLogger(StockCsvImporterTest.class);
+
+    private static final int STOCK_CNT = 2500;
+    private static final int CHUNK_SIZE = 1000;
+    private static final String HEADER = "Symbol,Name,Last Sale,Net Change,% Change,Market Cap,Country,IPO Year,Volume,Sector,Industry";
+
+    @TempDir
+    Path tempDir;
+
+    private JdbcTemplate jdbcTemplate;
+    private StockCsvImporter stockCsvImporter;
+
+    @BeforeEach
+    void beforeEach() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:csv_" + System.nanoTime() + ";MODE=MariaDB;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE stock ("
+                + "id BIGINT AUTO_INCREMENT PRIMARY KEY, symbol VARCHAR(255), name VARCHAR(255), sector VARCHAR(255), "
+                + "country VARCHAR(255), industry VARCHAR(255), ipo_year VARCHAR(255), "
+                + "created_at TIMESTAMP(6) NOT NULL, updated_at TIMESTAMP(6), "
+                + "CONSTRAINT uk_stock_symbol UNIQUE (symbol))");
+        jdbcTemplate.execute("CREATE TABLE stock_index ("
+                + "id BIGINT AUTO_INCREMENT PRIMARY KEY, "
+                + "last_sale DECIMAL(19,4), market_cap BIGINT, net_change DECIMAL(19,4), percent_change DECIMAL(19,4), "
+                + "as_of_date DATE, stock_id BIGINT, "
+                + "created_at TIMESTAMP(6) NOT NULL, updated_at TIMESTAMP(6), "
+                + "CONSTRAINT uk_stock_index_stock_date UNIQUE (stock_id, as_of_date))");
+
+        StockRepository stockRepository = Mockito.mock(StockRepository.class);
+        Mockito.when(stockRepository.getReferenceById(Mockito.anyLong())).thenAnswer(invocation -> {
+            Stock stock = Stock.builder().build();
+            ReflectionTestUtils.setField(stock, "id", invocation.getArgument(0));
+            return stock;
+        });
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        stockCsvImporter = new StockCsvImporter(new FileUtils(), stockRepository, new StockBulkRepository(jdbcTemplate),
+                new StockIndexBulkRepository(jdbcTemplate, transactionManager, CHUNK_SIZE), transactionManager, CHUNK_SIZE);
+    }
+
+    @Test
+    @DisplayName("CSV 파일을 chunk 단위로 읽어 종목과 초기 지표를 등록한다")
+    void givenCsvFile_whenImport_thenStocksAndIndexesInserted() throws IOException {
+        Path csvFile = writeCsvFile("Stock");
+
+        StockImportResultDto result = stockCsvImporter.importFile(csvFile.toString());
+        log.info("Import {} rows : {}ms", result.getReadCnt(), result.getElapsedMillis());
+
+        Assertions.assertEquals(STOCK_CNT + 1, result.getReadCnt());
+        Assertions.assertEquals(STOCK_CNT, result.getInsertStockCnt());
+        Assertions.assertEquals(1, result.getSkipCnt());
+        Assertions.assertEquals(3, result.getChunkCnt());
+        Assertions.assertEquals(STOCK_CNT, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM stock", Integer.class));
+        Assertions.assertEquals(STOCK_CNT, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM stock_index", Integer.class));
+    }
+
+    @Test
+    @DisplayName("같은 종목을 다시 등록하면 중복 없이 종목 정보를 갱신한다")
+    void givenImportedStocks_whenReimport_thenUpdatedWithoutDuplicates() throws IOException {
+        stockCsvImporter.importFile(writeCsvFile("Stock").toString());
+
+        StockImportResultDto result = stockCsvImporter.importFile(writeCsvFile("Renamed").toString());
+
+        Assertions.assertEquals(0, result.getInsertStockCnt());
+        Assertions.assertEquals(STOCK_CNT, result.getUpdateStockCnt());
+        Assertions.assertEquals(STOCK_CNT, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM stock", Integer.class));
+        Assertions.assertEquals(STOCK_CNT, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM stock_index", Integer.class));
+        Assertions.assertEquals("Renamed 1", jdbcTemplate.queryForObject("SELECT name FROM stock WHERE symbol = 'SYM1'", String.class));
+    }
+
+    @Test
+    @DisplayName("중간 chunk 에서 실패해도 이전 chunk 는 반영되고 종목 캐시를 갱신한 뒤 실패를 전달한다")
+    void givenFailureInSecondChunk_whenInsertStockData_thenCommittedChunksKeptAndCachesInvalidated() throws IOException {
+        List<String> lines = new ArrayList<>(Files.readAllLines(writeCsvFile("Stock")));
+        // 2번째 chunk 의 symbol 을 컬럼 길이 (255) 보다 길게 만들어 insert 실패
+        lines.set(CHUNK_SIZE + 500, "X".repeat(300) + ",Too Long,$1.00,0,0%,0,,,0,,");
+        Path csvFile = Files.write(tempDir.resolve("Broken.csv"), lines);
+        StockSymbolResolver stockSymbolResolver = Mockito.mock(StockSymbolResolver.class);
+        StockSearchIndex stockSearchIndex = Mockito.mock(StockSearchIndex.class);
+        StockCache stockCache = Mockito.mock(StockCache.class);
+        StockService stockService = new StockService(stockCsvImporter, null, null, null, null, null,
+                stockSymbolResolver, stockSearchIndex, stockCache, null);
+
+        Assertions.assertThrows(DataAccessException.class, () -> stockService.insertStockDataFromCSV(
+                new InsertStockDataRequestDto(tempDir.toString(), csvFile.getFileName().toString())));
+
+        Assertions.assertEquals(CHUNK_SIZE, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM stock", Integer.class));
+        Mockito.verify(stockSymbolResolver).invalidate();
+        Mockito.verify(stockSearchIndex).invalidate();
+        Mockito.verify(stockCache).invalidateAll();
+    }
+
+    private Path writeCsvFile(String namePrefix) throws IOException {
+        List<String> lines = new ArrayList<>();
+        lines.add(HEADER);
+        for (int i = 1; i <= STOCK_CNT; i++) {
+            lines.add("SYM" + i + "," + namePrefix + " " + i + ",$12.34,0.12,0.98%,1000000" + i + ",United States,2001,1000,Technology,Software");
+        }
+        lines.add(",Blank Symbol,$1.00,0,0%,0,,,0,,");
+        return Files.write(tempDir.resolve(namePrefix + ".csv"), lines);
+    }
+}
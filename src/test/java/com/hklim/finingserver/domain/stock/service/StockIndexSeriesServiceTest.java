@@ -0,0 +1,152 @@
+package com.hklim.finingserver.domain.stock.service;
+
+import com.hklim.finingserver.domain.stock.dto.StockIndexPointDto;
+import com.hklim.finingserver.domain.stock.entity.StockIndexRollup;
+import com.hklim.finingserver.domain.stock.repository.StockIndexRepository;
+import com.hklim.finingserver.domain.stock.repository.StockIndexRollupRepository;
+import com.hklim.finingserver.domain.ui.dto.StockDetailUiDataResponseDto;
+import com.hklim.finingserver.global.dto.TimeSeriesPage;
+import com.hklim.finingserver.global.entity.ResolutionType;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.data.domain.Pageable;
+
+import java.math.BigDecimal;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+@DisplayName("종목 지수 시계열 조회 테스트")
+class StockIndexSeriesServiceTest {
+    // 2024-01-01 (월) ~ 2024-03-31 평일 데이터, 종가 = 일련번호
+    private static final LocalDate FROM = LocalDate.of(2024, 1, 1);
+    private static final LocalDate TO = LocalDate.of(2024, 3, 31);
+
+    private StockIndexSeriesService stockIndexSeriesService;
+    private List<StockIndexPointDto> storedPoints;
+
+    @BeforeEach
+    void beforeEach() {
+        storedPoints = new ArrayList<>();
+        int seq = 1;
+        for (LocalDate date = FROM; !date.isAfter(TO); date = date.plusDays(1)) {
+            if (date.getDayOfWeek() != DayOfWeek.SATURDAY && date.getDayOfWeek() != DayOfWeek.SUNDAY) {
+                storedPoints.add(new StockIndexPointDto(date, BigDecimal.valueOf(seq), 1000L + seq, BigDecimal.ONE, BigDecimal.ONE));
+                seq++;
+            }
+        }
+
+        StockIndexRepository stockIndexRepository = Mockito.mock(StockIndexRepository.class);
+        Mockito.when(stockIndexRepository.findIndexPoints(Mockito.eq(1L), Mockito.any(), Mockito.any(), Mockito.any()))
+                .thenAnswer(invocation -> findIndexPoints(invocation.getArgument(1), invocation.getArgument(2), invocation.getArgument(3)));
+        StockIndexRollupRepository stockIndexRollupRepository = Mockito.mock(StockIndexRollupRepository.class);
+        Mockito.when(stockIndexRollupRepository.findRollups(Mockito.eq(1L), Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any()))
+                .thenAnswer(invocation -> findRollups(invocation.getArgument(1), invocation.getArgument(2), invocation.getArgument(3), invocation.getArgument(4)));
+        stockIndexSeriesService = new StockIndexSeriesService(stockIndexRepository, stockIndexRollupRepository, 500);
+    }
+
+    @Test
+    @DisplayName("일별 조회는 cursor 로 중복, 누락 없이 전체 기간을 나누어 조회한다")
+    void givenDailyResolution_whenFollowCursor_thenAllRowsOnce() {
+        List<LocalDate> collected = new ArrayList<>();
+        LocalDate cursor = null;
+        int pageCnt = 0;
+        do {
+            TimeSeriesPage<StockDetailUiDataResponseDto.StockDetailIndexData> page =
+                    stockIndexSeriesService.getIndexSeries(1L, FROM, TO, ResolutionType.DAILY, cursor, 20);
+            Assertions.assertTrue(page.getContent().size() <= 20);
+            page.getContent().forEach(data -> collected.add(data.getAsOfDate()));
+            cursor = page.getNextCursor();
+            pageCnt++;
+        } while (cursor != null);
+
+        Assertions.assertEquals(storedPoints.size(), collected.size());
+        Assertions.assertEquals(LocalDate.of(2024, 3, 29), collected.get(0));
+        Assertions.assertEquals(FROM, collected.get(collected.size() - 1));
+        Assertions.assertEquals((storedPoints.size() + 19) / 20, pageCnt);
+    }
+
+    @Test
+    @DisplayName("월간 조회는 집계 테이블의 기간별 시가, 고가, 저가, 종가를 반환한다")
+    void givenMonthlyResolution_whenGetSeries_thenAggregatedByMonth() {
+        TimeSeriesPage<StockDetailUiDataResponseDto.StockDetailIndexData> page =
+                stockIndexSeriesService.getIndexSeries(1L, FROM, TO, ResolutionType.MONTHLY, null, 2);
+
+        Assertions.assertEquals(2, page.getContent().size());
+        StockDetailUiDataResponseDto.StockDetailIndexData march = page.getContent().get(0);
+        StockDetailUiDataResponseDto.StockDetailIndexData february = page.getContent().get(1);
+        Assertions.assertEquals(LocalDate.of(2024, 3, 1), march.getPeriodStart());
+        Assertions.assertEquals(LocalDate.of(2024, 2, 1), february.getPeriodStart());
+        // 1월 평일 23일, 2월 평일 21일
+        Assertions.assertEquals(0, BigDecimal.valueOf(24).compareTo(february.getOpenPrice()));
+        Assertions.assertEquals(0, BigDecimal.valueOf(44).compareTo(february.getLastSale()));
+        Assertions.assertEquals(0, BigDecimal.valueOf(44).compareTo(february.getHighPrice()));
+        Assertions.assertEquals(0, BigDecimal.valueOf(21).compareTo(february.getNetChange()));
+        Assertions.assertEquals(LocalDate.of(2024, 2, 29), february.getAsOfDate());
+        Assertions.assertEquals(LocalDate.of(2024, 2, 1), page.getNextCursor());
+
+        TimeSeriesPage<StockDetailUiDataResponseDto.StockDetailIndexData> lastPage =
+                stockIndexSeriesService.getIndexSeries(1L, FROM, TO, ResolutionType.MONTHLY, page.getNextCursor(), 2);
+        Assertions.assertEquals(1, lastPage.getContent().size());
+        Assertions.assertEquals(FROM, lastPage.getContent().get(0).getPeriodStart());
+        Assertions.assertNull(lastPage.getNextCursor());
+    }
+
+    @Test
+    @DisplayName("주간 조회는 월요일 기준 기간을 반환한다")
+    void givenWeeklyResolution_whenGetSeries_thenGroupedFromMonday() {
+        TimeSeriesPage<StockDetailUiDataResponseDto.StockDetailIndexData> page =
+                stockIndexSeriesService.getIndexSeries(1L, FROM, TO, ResolutionType.WEEKLY, null, 500);
+
+        Assertions.assertEquals(13, page.getContent().size());
+        page.getContent().forEach(data -> Assertions.assertEquals(DayOfWeek.MONDAY, data.getPeriodStart().getDayOfWeek()));
+        Assertions.assertNull(page.getNextCursor());
+    }
+
+    private List<StockIndexPointDto> findIndexPoints(LocalDate from, LocalDate toExclusive, Pageable pageable) {
+        List<StockIndexPointDto> result = storedPoints.stream()
+                .filter(point -> !point.getAsOfDate().isBefore(from) && point.getAsOfDate().isBefore(toExclusive))
+                .sorted(Comparator.comparing(StockIndexPointDto::getAsOfDate).reversed())
+                .toList();
+        return pageable.isPaged() ? result.subList(0, Math.min(result.size(), pageable.getPageSize())) : result;
+    }
+
+    private List<StockIndexRollup> findRollups(ResolutionType resolution, LocalDate from, LocalDate toExclusive, Pageable pageable) {
+        List<StockIndexRollup> result = toRollups(resolution).stream()
+                .filter(rollup -> !rollup.getPeriodStart().isBefore(from) && rollup.getPeriodStart().isBefore(toExclusive))
+                .sorted(Comparator.comparing(StockIndexRollup::getPeriodStart).reversed())
+                .toList();
+        return result.subList(0, Math.min(result.size(), pageable.getPageSize()));
+    }
+
+    // StockIndexRollupBulkRepository 집계 결과와 같은 형태로 기간별 집계
+    private List<StockIndexRollup> toRollups(ResolutionType resolution) {
+        Map<LocalDate, List<StockIndexPointDto>> periodMap = new TreeMap<>();
+        storedPoints.forEach(point -> periodMap.computeIfAbsent(resolution.bucketStart(point.getAsOfDate()), key -> new ArrayList<>()).add(point));
+        List<StockIndexRollup> rollups = new ArrayList<>();
+        periodMap.forEach((periodStart, points) -> {
+            StockIndexPointDto first = points.get(0);
+            StockIndexPointDto last = points.get(points.size() - 1);
+            rollups.add(StockIndexRollup.builder()
+                    .resolution(resolution)
+                    .periodStart(periodStart)
+                    .lastDate(last.getAsOfDate())
+                    .openSale(first.getLastSale())
+                    .lastSale(last.getLastSale())
+                    .minSale(points.stream().map(StockIndexPointDto::getLastSale).min(Comparator.naturalOrder()).orElseThrow())
+                    .maxSale(points.stream().map(StockIndexPointDto::getLastSale).max(Comparator.naturalOrder()).orElseThrow())
+                    .marketCap(last.getMarketCap())
+                    .netChange(points.stream().map(StockIndexPointDto::getNetChange).reduce(BigDecimal.ZERO, BigDecimal::add))
+                    .rowCnt(points.size())
+                    .build());
+        });
+        return rollups;
+    }
+}
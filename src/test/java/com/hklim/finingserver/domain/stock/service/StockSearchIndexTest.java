@@ -0,0 +1,109 @@
+package com.hklim.finingserver.domain.stock.service;
+
+import com.hklim.finingserver.domain.stock.dto.SearchStockDataResponseDto;
+import com.hklim.finingserver.domain.stock.entity.Stock;
+import com.hklim.finingserver.domain.stock.repository.StockRepository;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.data.domain.Page;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@DisplayName("종목 검색 In-memory Index 테스트")
+class StockSearchIndexTest {
+    Logger log = LogManager.getLogger(StockSearchIndexTest.class);
+
+    private StockRepository stockRepository;
+    private StockSearchIndex stockSearchIndex;
+
+    @BeforeEach
+    void beforeEach() {
+        stockRepository = Mockito.mock(StockRepository.class);
+        stockSearchIndex = new StockSearchIndex(stockRepository, 50);
+        List<Stock> stockList = new ArrayList<>(List.of(
+                createStock("AAPL", "Apple Inc. Common Stock"),
+                createStock("AAP", "Advance Auto Parts Inc."),
+                createStock("PAAPL", "Pineapple Holdings"),
+                createStock("MSFT", "Microsoft Corporation Common Stock"),
+                createStock("APLE", "Apple Hospitality REIT")));
+        for (int i = 0; i < 5000; i++) {
+            stockList.add(createStock("Z" + i, "Filler Corporation " + i));
+        }
+        Mockito.when(stockRepository.findAll()).thenReturn(stockList);
+    }
+
+    @Test
+    @DisplayName("symbol 일치, symbol 접두, name 접두, 부분 일치 순으로 정렬한다")
+    void givenKeyword_whenSearch_thenRankedBySymbolThenName() {
+        Page<SearchStockDataResponseDto.StockData> result = stockSearchIndex.search("aap", 1, 10);
+
+        Assertions.assertEquals(List.of("AAP", "AAPL", "PAAPL"), symbols(result));
+
+        result = stockSearchIndex.search("Apple", 1, 10);
+        Assertions.assertEquals(List.of("AAPL", "APLE", "PAAPL"), symbols(result));
+    }
+
+    @Test
+    @DisplayName("검색 결과는 size 단위로 나누어 조회하고 전체 건수를 반환한다")
+    void givenManyMatches_whenSearchByPage_thenPaginated() {
+        Page<SearchStockDataResponseDto.StockData> first = stockSearchIndex.search("filler", 1, 20);
+        Page<SearchStockDataResponseDto.StockData> last = stockSearchIndex.search("filler", 250, 20);
+
+        Assertions.assertEquals(5000, first.getTotalElements());
+        Assertions.assertEquals(20, first.getContent().size());
+        Assertions.assertEquals(20, last.getContent().size());
+        Assertions.assertTrue(stockSearchIndex.search("filler", 251, 20).getContent().isEmpty());
+        Assertions.assertEquals(50, stockSearchIndex.search("filler", 1, 1000).getContent().size());
+    }
+
+    @Test
+    @DisplayName("Index 는 한번만 구성하고 이후 검색은 DB 를 조회하지 않는다")
+    void givenLoadedIndex_whenSearchRepeatedly_thenNoDbQuery() {
+        stockSearchIndex.search("MS", 1, 10);
+
+        long start = System.nanoTime();
+        for (int i = 0; i < 10_000; i++) {
+            stockSearchIndex.search("micro", 1, 10);
+        }
+        log.info("Average search time : {}us", (System.nanoTime() - start) / 10_000 / 1_000.0);
+
+        Assertions.assertEquals(List.of("MSFT"), symbols(stockSearchIndex.search("micro", 1, 10)));
+        Assertions.assertTrue(stockSearchIndex.search("xyz", 1, 10).isEmpty());
+        Mockito.verify(stockRepository, Mockito.times(1)).findAll();
+
+        stockSearchIndex.invalidate();
+        stockSearchIndex.search("MS", 1, 10);
+        Mockito.verify(stockRepository, Mockito.times(2)).findAll();
+    }
+
+    @Test
+    @DisplayName("Index 구성 중 invalidate 되면 구성 결과를 저장하지 않고 다음 검색에서 다시 구성한다")
+    void givenInvalidateDuringLoad_whenSearchAgain_thenReloaded() {
+        Mockito.when(stockRepository.findAll())
+                .thenAnswer(invocation -> {
+                    stockSearchIndex.invalidate();
+                    return List.of(createStock("MSFT", "Microsoft Corporation Common Stock"));
+                })
+                .thenReturn(List.of(createStock("MSFT", "Microsoft Corporation Common Stock"),
+                        createStock("NVDA", "NVIDIA Corporation Common Stock")));
+
+        Assertions.assertTrue(stockSearchIndex.search("nvda", 1, 10).isEmpty());
+        Assertions.assertEquals(List.of("NVDA"), symbols(stockSearchIndex.search("nvda", 1, 10)));
+        Assertions.assertEquals(List.of("NVDA"), symbols(stockSearchIndex.search("nvda", 1, 10)));
+        Mockito.verify(stockRepository, Mockito.times(2)).findAll();
+    }
+
+    private List<String> symbols(Page<SearchStockDataResponseDto.StockData> result) {
+        return result.getContent().stream().map(SearchStockDataResponseDto.StockData::getSymbol).toList();
+    }
+
+    private Stock createStock(String symbol, String name) {
+        return Stock.builder().symbol(symbol).name(name).build();
+    }
+}
@@ -3,10 +3,6 @@ package com.hklim.finingserver.domain.stock.service;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.hklim.finingserver.domain.member.entity.Member;
-import com.hklim.finingserver.domain.member.service.MemberService;
-import com.hklim.finingserver.domain.portfolio.entity.Portfolio;
-import com.hklim.finingserver.domain.portfolio.service.PortfolioService;
 import com.hklim.finingserver.domain.stock.dto.StockDataResponseDto;
 import com.hklim.finingserver.domain.stock.entity.Stock;
 import com.hklim.finingserver.domain.ui.dto.MainUiDataResponseDto;
@@ -38,10 +34,6 @@ class StockServiceTest {
     FileUtils fileUtils;
     @Autowired
     StockService stockService;
-    @Autowired
-    MemberService memberService;
-    @Autowired
-    PortfolioService portfolioService;
 
     @BeforeEach
     void beforeEach() {
@@ -54,7 +46,7 @@ class StockServiceTest {
         String fileName = "nasdaq_screener_1716015574955.csv";
         String fileFullPath = Paths.get(filePath, fileName).toString();
 
-        fileUtils.toDtoFromCSVFile(fileFullPath).forEach(i -> System.out.println(i.getIpoYear()));
+        fileUtils.readCSVFileInChunks(fileFullPath, 1000, chunk -> chunk.forEach(i -> System.out.println(i.getIpoYear())));
     }
 
     @Test
@@ -101,16 +93,6 @@ class StockServiceTest {
 
     }
 
-    @Test
-    public void getPortfolioStockDataTest() {
-        Member member = memberService.findMemberById(3L);
-        List<Portfolio> portfolioList = portfolioService.findAllByMember(member);
-        for (Portfolio portfolio : portfolioList) {
-            UiStockDataResponseDto data = stockService.getPortfolioStockData(portfolio);
-            log.info("Symbol : {}, Name : {}, LastPrice : {}, percent : {}%", data.getSymbol(), data.getName(), data.getLastSale(), data.getPercentChange());
-        }
-    }
-
     @Test
     public void getTopSixStocksOfTodayTest() {
         List<UiStockDataResponseDto> stockDataList = stockService.getTopTenStocksOfToday();
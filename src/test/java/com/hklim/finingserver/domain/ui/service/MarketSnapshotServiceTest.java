@@ -0,0 +1,118 @@
+package com.hklim.finingserver.domain.ui.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.hklim.finingserver.domain.indicators.service.CommonIndicatorsService;
+import com.hklim.finingserver.domain.stock.service.StockService;
+import com.hklim.finingserver.domain.ui.dto.UiStockDataResponseDto;
+import com.hklim.finingserver.global.utils.RedisUtils;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+@DisplayName("메인 화면 Snapshot 캐시 테스트")
+class MarketSnapshotServiceTest {
+    private StockService stockService;
+    private CommonIndicatorsService indicatorService;
+    private RedisUtils redisUtils;
+    private MarketSnapshotService marketSnapshotService;
+
+    @BeforeEach
+    void beforeEach() {
+        stockService = Mockito.mock(StockService.class);
+        indicatorService = Mockito.mock(CommonIndicatorsService.class);
+        redisUtils = Mockito.mock(RedisUtils.class);
+        ObjectMapper objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        marketSnapshotService = new MarketSnapshotService(stockService, indicatorService, redisUtils, objectMapper);
+        ReflectionTestUtils.setField(marketSnapshotService, "redisTtlSeconds", 60L);
+        ReflectionTestUtils.setField(marketSnapshotService, "localTtlSeconds", 60L);
+
+        Mockito.when(stockService.getTopTenStocksOfToday()).thenAnswer(invocation -> {
+            Thread.sleep(200);
+            return List.of(UiStockDataResponseDto.builder().stockId(1L).symbol("AAPL").name("Apple").lastSale(new BigDecimal("190.12")).build());
+        });
+        Mockito.when(indicatorService.getIndicatorOfToday()).thenReturn(new ArrayList<>());
+    }
+
+    @Test
+    @DisplayName("캐시가 비어있을 때 동시 요청이 와도 DB 조회는 한번만 실행된다")
+    void givenColdCache_whenConcurrentRequests_thenBuildOnce() throws Exception {
+        int threadCnt = 16;
+        ExecutorService executor = Executors.newFixedThreadPool(threadCnt);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<byte[]>> futures = new ArrayList<>();
+        for (int i = 0; i < threadCnt; i++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                return marketSnapshotService.getMainSnapshot().getBody();
+            }));
+        }
+        start.countDown();
+        byte[] first = futures.get(0).get();
+        for (Future<byte[]> future : futures) {
+            Assertions.assertArrayEquals(first, future.get());
+        }
+        executor.shutdown();
+
+        Mockito.verify(stockService, Mockito.times(1)).getTopTenStocksOfToday();
+        Assertions.assertTrue(new String(first, StandardCharsets.UTF_8).contains("\"symbol\":\"AAPL\""));
+    }
+
+    @Test
+    @DisplayName("메모리 Snapshot 이 유효하면 DB, Redis 조회 없이 응답한다")
+    void givenLocalSnapshot_whenGet_thenNoDbOrRedisCall() {
+        marketSnapshotService.getMainSnapshot();
+        Mockito.clearInvocations(stockService, indicatorService, redisUtils);
+
+        marketSnapshotService.getMainSnapshot();
+
+        Mockito.verifyNoInteractions(stockService, indicatorService, redisUtils);
+    }
+
+    @Test
+    @DisplayName("Redis 에 Snapshot 이 있으면 DB 를 조회하지 않는다")
+    void givenRedisSnapshot_whenGet_thenNoDbCall() {
+        String cached = "{\"data\":{\"portfolioList\":[],\"stockList\":[{\"stockId\":2,\"symbol\":\"MSFT\"}],\"indicatorDataList\":[],\"asOfDate\":\"2024-06-03\"}}";
+        Mockito.when(redisUtils.getData(Mockito.anyString())).thenReturn(cached);
+
+        MarketSnapshotService.MainSnapshot snapshot = marketSnapshotService.getMainSnapshot();
+
+        Mockito.verifyNoInteractions(stockService, indicatorService);
+        Assertions.assertEquals("MSFT", snapshot.getData().getStockList().get(0).getSymbol());
+        Assertions.assertArrayEquals(cached.getBytes(StandardCharsets.UTF_8), snapshot.getBody());
+    }
+
+    @Test
+    @DisplayName("Redis 연결 실패 시 DB 기준으로 Snapshot 을 생성한다")
+    void givenRedisDown_whenGet_thenBuildFromDb() {
+        StringRedisTemplate redisTemplate = Mockito.mock(StringRedisTemplate.class);
+        Mockito.when(redisTemplate.opsForValue()).thenThrow(new RedisConnectionFailureException("connection refused"));
+        MarketSnapshotService service = new MarketSnapshotService(stockService, indicatorService,
+                new RedisUtils(redisTemplate, new SimpleMeterRegistry()), new ObjectMapper().registerModule(new JavaTimeModule()));
+        ReflectionTestUtils.setField(service, "redisTtlSeconds", 60L);
+        ReflectionTestUtils.setField(service, "localTtlSeconds", 60L);
+
+        MarketSnapshotService.MainSnapshot snapshot = service.getMainSnapshot();
+
+        Mockito.verify(stockService, Mockito.times(1)).getTopTenStocksOfToday();
+        Assertions.assertEquals("AAPL", snapshot.getData().getStockList().get(0).getSymbol());
+    }
+}
@@ -0,0 +1,46 @@
+package com.hklim.finingserver.global.batch;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobInstance;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.StepExecution;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+@DisplayName("Batch Step metric 기록 테스트")
+class BatchStepMetricsListenerTest {
+
+    @Test
+    @DisplayName("partition worker Step 은 Step 이름으로 합산하여 실행 시간과 처리 건수를 기록한다")
+    void givenPartitionSteps_whenAfterStep_thenMergedByStepName() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        BatchStepMetricsListener listener = new BatchStepMetricsListener(meterRegistry);
+        JobExecution jobExecution = new JobExecution(new JobInstance(1L, "dailyCrawlingJob"), new JobParameters());
+
+        for (int i = 0; i < 2; i++) {
+            StepExecution stepExecution = new StepExecution("stockCrawlingStep:partition" + i, jobExecution);
+            stepExecution.setStartTime(LocalDateTime.now().minusSeconds(2));
+            stepExecution.setStatus(BatchStatus.COMPLETED);
+            stepExecution.setReadCount(1000);
+            stepExecution.setWriteCount(990);
+            stepExecution.setFilterCount(10);
+            listener.afterStep(stepExecution);
+        }
+
+        Timer timer = meterRegistry.find("batch.step.duration")
+                .tags("job", "dailyCrawlingJob", "step", "stockCrawlingStep", "status", "COMPLETED").timer();
+        Assertions.assertNotNull(timer);
+        Assertions.assertEquals(2, timer.count());
+        Assertions.assertTrue(timer.totalTime(TimeUnit.SECONDS) >= 4);
+        Assertions.assertEquals(2000, meterRegistry.find("batch.step.items").tags("step", "stockCrawlingStep", "type", "read").counter().count());
+        Assertions.assertEquals(1980, meterRegistry.find("batch.step.items").tags("step", "stockCrawlingStep", "type", "write").counter().count());
+        Assertions.assertEquals(20, meterRegistry.find("batch.step.items").tags("step", "stockCrawlingStep", "type", "filter").counter().count());
+    }
+}
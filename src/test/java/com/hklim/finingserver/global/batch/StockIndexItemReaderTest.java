@@ -0,0 +1,123 @@
+package com.hklim.finingserver.global.batch;
+
+import com.hklim.finingserver.domain.stock.dto.StockDataResponseDto;
+import com.hklim.finingserver.global.exception.ApplicationErrorException;
+import com.hklim.finingserver.global.exception.ApplicationErrorType;
+import com.hklim.finingserver.global.utils.CrawlerUtils;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@DisplayName("주식 크롤링 ItemReader 테스트")
+class StockIndexItemReaderTest {
+    private static final int TOTAL_RECORDS = 2500;
+
+    private CrawlerUtils crawlerUtils;
+
+    @BeforeEach
+    void beforeEach() {
+        crawlerUtils = Mockito.mock(CrawlerUtils.class);
+        Mockito.when(crawlerUtils.getStockPageRows(Mockito.anyInt()))
+                .thenAnswer(invocation -> createPageRows(invocation.getArgument(0)));
+    }
+
+    @Test
+    @DisplayName("전체 페이지를 순서대로 읽고 마지막 페이지 이후 종료한다")
+    void givenPagedCrawler_whenReadAll_thenAllRowsInOrder() throws Exception {
+        StockIndexItemReader reader = new StockIndexItemReader(crawlerUtils, 0, 10, TOTAL_RECORDS);
+        reader.open(new ExecutionContext());
+
+        List<String> symbols = new ArrayList<>();
+        StockDataResponseDto.Data.Table.Row row;
+        while ((row = reader.read()) != null) {
+            symbols.add(row.getSymbol());
+        }
+
+        Assertions.assertEquals(TOTAL_RECORDS, symbols.size());
+        Assertions.assertEquals("SYM0", symbols.get(0));
+        Assertions.assertEquals("SYM" + (TOTAL_RECORDS - 1), symbols.get(TOTAL_RECORDS - 1));
+        Mockito.verify(crawlerUtils, Mockito.times(3)).getStockPageRows(Mockito.anyInt());
+    }
+
+    @Test
+    @DisplayName("재시작 시 마지막 commit 위치의 페이지만 다시 요청하고 다음 item 부터 읽는다")
+    void givenSavedReadCount_whenRestart_thenResumeFromLastCommit() throws Exception {
+        StockIndexItemReader reader = new StockIndexItemReader(crawlerUtils, 0, 10, TOTAL_RECORDS);
+        ExecutionContext executionContext = new ExecutionContext();
+        reader.open(executionContext);
+        for (int i = 0; i < 1500; i++) {
+            reader.read();
+        }
+        reader.update(executionContext);
+        reader.close();
+
+        Mockito.clearInvocations(crawlerUtils);
+        StockIndexItemReader restartReader = new StockIndexItemReader(crawlerUtils, 0, 10, TOTAL_RECORDS);
+        restartReader.open(executionContext);
+
+        Assertions.assertEquals("SYM1500", restartReader.read().getSymbol());
+        Mockito.verify(crawlerUtils, Mockito.times(1)).getStockPageRows(1);
+        Mockito.verify(crawlerUtils, Mockito.never()).getStockPageRows(0);
+    }
+
+    @Test
+    @DisplayName("partition 페이지 범위 밖은 읽지 않는다")
+    void givenPageRange_whenRead_thenOnlyPagesInRange() throws Exception {
+        StockIndexItemReader reader = new StockIndexItemReader(crawlerUtils, 1, 2, TOTAL_RECORDS);
+        reader.open(new ExecutionContext());
+
+        List<String> symbols = new ArrayList<>();
+        StockDataResponseDto.Data.Table.Row row;
+        while ((row = reader.read()) != null) {
+            symbols.add(row.getSymbol());
+        }
+
+        Assertions.assertEquals(CrawlerUtils.STOCK_PAGE_SIZE, symbols.size());
+        Assertions.assertEquals("SYM1000", symbols.get(0));
+        Assertions.assertEquals("SYM1999", symbols.get(symbols.size() - 1));
+        Mockito.verify(crawlerUtils, Mockito.times(1)).getStockPageRows(1);
+    }
+
+    @Test
+    @DisplayName("totalRecords 이후 페이지는 요청하지 않고 데이터 끝으로 종료한다")
+    void givenPageRangePastTotalRecords_whenRead_thenEndOfDataWithoutRequest() throws Exception {
+        StockIndexItemReader reader = new StockIndexItemReader(crawlerUtils, 2, 5, TOTAL_RECORDS);
+        reader.open(new ExecutionContext());
+
+        int readCnt = 0;
+        while (reader.read() != null) {
+            readCnt++;
+        }
+
+        Assertions.assertEquals(TOTAL_RECORDS - 2 * CrawlerUtils.STOCK_PAGE_SIZE, readCnt);
+        Mockito.verify(crawlerUtils, Mockito.times(1)).getStockPageRows(2);
+        Mockito.verify(crawlerUtils, Mockito.never()).getStockPageRows(3);
+
+        StockIndexItemReader pastEndReader = new StockIndexItemReader(crawlerUtils, 3, 5, TOTAL_RECORDS);
+        pastEndReader.open(new ExecutionContext());
+        Assertions.assertNull(pastEndReader.read());
+        Mockito.verify(crawlerUtils, Mockito.never()).getStockPageRows(3);
+    }
+
+    private List<StockDataResponseDto.Data.Table.Row> createPageRows(int page) {
+        List<StockDataResponseDto.Data.Table.Row> rows = new ArrayList<>();
+        int from = page * CrawlerUtils.STOCK_PAGE_SIZE;
+        if (from >= TOTAL_RECORDS) {
+            // 실제 응답과 동일하게 데이터 이후 페이지는 빈 응답으로 실패
+            throw new ApplicationErrorException(ApplicationErrorType.INTERNAL_ERROR, "Empty stock page response. page : " + page);
+        }
+        for (int i = from; i < Math.min(from + CrawlerUtils.STOCK_PAGE_SIZE, TOTAL_RECORDS); i++) {
+            StockDataResponseDto.Data.Table.Row row = new StockDataResponseDto.Data.Table.Row();
+            ReflectionTestUtils.setField(row, "symbol", "SYM" + i);
+            rows.add(row);
+        }
+        return rows;
+    }
+}
@@ -0,0 +1,62 @@
+package com.hklim.finingserver.global.batch;
+
+import com.hklim.finingserver.global.utils.CrawlerUtils;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.batch.item.ExecutionContext;
+
+import java.util.Map;
+
+@DisplayName("주식 페이지 Partitioner 테스트")
+class StockPagePartitionerTest {
+
+    @Test
+    @DisplayName("전체 페이지를 빈틈 없이 gridSize 개의 연속 범위로 나눈다")
+    void givenMaxCnt_whenPartition_thenContiguousPageRanges() {
+        Map<String, ExecutionContext> partitions = new StockPagePartitioner(mockCrawler(20000), 10000).partition(4);
+
+        Assertions.assertEquals(4, partitions.size());
+        int expectedFrom = 0;
+        for (ExecutionContext context : partitions.values()) {
+            int fromPage = context.getInt(StockPagePartitioner.FROM_PAGE);
+            int toPage = context.getInt(StockPagePartitioner.TO_PAGE);
+            Assertions.assertEquals(expectedFrom, fromPage);
+            Assertions.assertTrue(toPage - fromPage >= 2 && toPage - fromPage <= 3);
+            Assertions.assertEquals(20000, context.getInt(StockPagePartitioner.TOTAL_RECORDS));
+            expectedFrom = toPage;
+        }
+        Assertions.assertEquals(10, expectedFrom);
+    }
+
+    @Test
+    @DisplayName("페이지 수보다 gridSize 가 크면 페이지 수만큼만 나눈다")
+    void givenGridSizeOverPageCnt_whenPartition_thenOnePagePerPartition() {
+        Map<String, ExecutionContext> partitions = new StockPagePartitioner(mockCrawler(20000), 2000).partition(8);
+
+        Assertions.assertEquals(2, partitions.size());
+    }
+
+    @Test
+    @DisplayName("maxCnt 가 실제 데이터보다 크면 totalrecords 까지의 페이지만 나눈다")
+    void givenMaxCntOverTotalRecords_whenPartition_thenPagesBoundedByTotalRecords() {
+        CrawlerUtils crawlerUtils = mockCrawler(7500);
+
+        Map<String, ExecutionContext> partitions = new StockPagePartitioner(crawlerUtils, 20000).partition(4);
+
+        int lastToPage = 0;
+        for (ExecutionContext context : partitions.values()) {
+            lastToPage = context.getInt(StockPagePartitioner.TO_PAGE);
+        }
+        Assertions.assertEquals(4, partitions.size());
+        Assertions.assertEquals(8, lastToPage);
+        Mockito.verify(crawlerUtils, Mockito.times(1)).getStockTotalRecords();
+    }
+
+    private CrawlerUtils mockCrawler(int totalRecords) {
+        CrawlerUtils crawlerUtils = Mockito.mock(CrawlerUtils.class);
+        Mockito.when(crawlerUtils.getStockTotalRecords()).thenReturn(totalRecords);
+        return crawlerUtils;
+    }
+}
@@ -0,0 +1,39 @@
+package com.hklim.finingserver.global.batch;
+
+import com.hklim.finingserver.global.exception.ApplicationErrorException;
+import com.hklim.finingserver.global.exception.ApplicationErrorType;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.core.step.skip.SkipLimitExceededException;
+import org.springframework.batch.core.step.skip.SkipPolicy;
+import org.springframework.dao.DataIntegrityViolationException;
+
+@DisplayName("주식 크롤링 Step skip 정책 테스트")
+class StockSkipPolicyTest {
+    private final SkipPolicy skipPolicy = BatchJobConfig.stockSkipPolicy(2);
+
+    @Test
+    @DisplayName("writer 의 제약 조건 위반은 skip-limit 까지 skip 한다")
+    void givenDataIntegrityViolation_whenShouldSkip_thenSkippedUntilLimit() {
+        DataIntegrityViolationException e = new DataIntegrityViolationException("duplicate stock index");
+
+        Assertions.assertTrue(skipPolicy.shouldSkip(e, 0));
+        Assertions.assertTrue(skipPolicy.shouldSkip(e, 1));
+        Assertions.assertThrows(SkipLimitExceededException.class, () -> skipPolicy.shouldSkip(e, 2));
+    }
+
+    @Test
+    @DisplayName("페이지 응답 오류는 skip 하지 않고 Step 을 실패시킨다")
+    void givenMalformedPage_whenShouldSkip_thenNotSkipped() {
+        ApplicationErrorException e = new ApplicationErrorException(ApplicationErrorType.INTERNAL_ERROR, "Empty stock page response. page : 3");
+
+        Assertions.assertFalse(skipPolicy.shouldSkip(e, 0));
+    }
+
+    @Test
+    @DisplayName("숫자 파싱 오류는 NumericParseUtils 에서 처리되므로 skip 대상이 아니다")
+    void givenNumberFormatException_whenShouldSkip_thenNotSkipped() {
+        Assertions.assertFalse(skipPolicy.shouldSkip(new NumberFormatException("1,234.5x"), 0));
+    }
+}
@@ -0,0 +1,55 @@
+package com.hklim.finingserver.global.batch;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hklim.finingserver.domain.stock.dto.StockDataResponseDto;
+import com.hklim.finingserver.domain.stock.entity.Stock;
+import com.hklim.finingserver.domain.stock.service.StockSymbolResolver;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobInstance;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.StepExecution;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@DisplayName("Batch 미등록 Symbol 집계 테스트")
+class UnknownSymbolReportListenerTest {
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    @DisplayName("partition 별로 filter 된 Symbol 을 관리 Step ExecutionContext 에 합산한다")
+    void givenUnknownSymbolsInPartitions_whenAfterStep_thenMergedIntoManagerContext() throws Exception {
+        StockSymbolResolver stockSymbolResolver = Mockito.mock(StockSymbolResolver.class);
+        Mockito.when(stockSymbolResolver.resolve("AAPL")).thenReturn(Stock.builder().symbol("AAPL").name("Apple").build());
+        JobExecution jobExecution = new JobExecution(new JobInstance(1L, "dailyCrawlingJob"), new JobParameters());
+
+        String[][] partitionSymbols = {{"AAPL", "NEW1", "NEW1"}, {"NEW2", "AAPL"}};
+        for (int i = 0; i < partitionSymbols.length; i++) {
+            StepExecution workerExecution = jobExecution.createStepExecution("stockCrawlingStep:partition" + i);
+            StockIndexItemProcessor processor = new StockIndexItemProcessor(stockSymbolResolver, LocalDate.of(2024, 6, 3));
+            processor.beforeStep(workerExecution);
+            for (String symbol : partitionSymbols[i]) {
+                processor.process(toRow(symbol));
+            }
+            processor.afterStep(workerExecution);
+        }
+        Assertions.assertEquals(1, jobExecution.getStepExecutions().stream()
+                .filter(stepExecution -> stepExecution.getStepName().endsWith("partition0")).findFirst().orElseThrow()
+                .getExecutionContext().getInt(StockIndexItemProcessor.UNKNOWN_SYMBOL_CNT_KEY));
+
+        StepExecution managerExecution = jobExecution.createStepExecution("stockCrawlingPartitionStep");
+        new UnknownSymbolReportListener("stockCrawlingStep").afterStep(managerExecution);
+
+        Assertions.assertEquals(2, managerExecution.getExecutionContext().getInt(StockIndexItemProcessor.UNKNOWN_SYMBOL_CNT_KEY));
+        Assertions.assertEquals(List.of("NEW1", "NEW2"), managerExecution.getExecutionContext().get(StockIndexItemProcessor.UNKNOWN_SYMBOLS_KEY));
+    }
+
+    private StockDataResponseDto.Data.Table.Row toRow(String symbol) throws Exception {
+        return objectMapper.readValue("{\"symbol\":\"" + symbol + "\",\"lastsale\":\"$1.00\",\"marketCap\":\"1,000\"}",
+                StockDataResponseDto.Data.Table.Row.class);
+    }
+}
@@ -0,0 +1,109 @@
+package com.hklim.finingserver.global.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hklim.finingserver.domain.stock.dto.StockCacheDto;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@DisplayName("2단계 캐시 (Caffeine L1 + Redis L2) 테스트")
+class TwoTierCacheTest {
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Map<String, StockCacheDto> source = new HashMap<>();
+    private final AtomicInteger loadCnt = new AtomicInteger();
+
+    private StringRedisTemplate redisTemplate;
+    private ValueOperations<String, String> valueOperations;
+    private TwoTierCache<StockCacheDto> cache;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void beforeEach() {
+        source.put("AAPL", StockCacheDto.builder().id(1L).symbol("AAPL").name("Apple Inc.").build());
+        redisTemplate = Mockito.mock(StringRedisTemplate.class);
+        valueOperations = Mockito.mock(ValueOperations.class);
+        Mockito.when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        cache = new TwoTierCache<>("stock:symbol", StockCacheDto.class, symbol -> {
+            loadCnt.incrementAndGet();
+            return source.get(symbol);
+        }, redisTemplate, objectMapper, 1000, Duration.ofMinutes(10), Duration.ofHours(1));
+    }
+
+    @Test
+    @DisplayName("처음 조회는 DB 에서 읽어 Redis 에 저장하고, 이후 조회는 로컬 캐시에서 반환한다")
+    void givenCachedValue_whenGetAgain_thenServedFromL1() {
+        StockCacheDto first = cache.get("AAPL");
+        StockCacheDto second = cache.get("AAPL");
+
+        Assertions.assertEquals("Apple Inc.", first.getName());
+        Assertions.assertSame(first, second);
+        Assertions.assertEquals(1, loadCnt.get());
+        Assertions.assertEquals(1, cache.getMissCnt());
+        Assertions.assertEquals(1, cache.getL1HitCnt());
+        Mockito.verify(valueOperations).set(Mockito.eq("cache:stock:symbol:AAPL"), Mockito.anyString(), Mockito.eq(Duration.ofHours(1)));
+    }
+
+    @Test
+    @DisplayName("로컬 캐시에 없으면 Redis 값을 사용하고 DB 는 조회하지 않는다")
+    void givenRedisValue_whenGet_thenServedFromL2() throws Exception {
+        StockCacheDto redisValue = StockCacheDto.builder().id(2L).symbol("MSFT").name("Microsoft").build();
+        Mockito.when(valueOperations.get("cache:stock:symbol:MSFT")).thenReturn(objectMapper.writeValueAsString(redisValue));
+
+        StockCacheDto result = cache.get("MSFT");
+
+        Assertions.assertEquals(2L, result.getId());
+        Assertions.assertEquals(0, loadCnt.get());
+        Assertions.assertEquals(1, cache.getL2HitCnt());
+    }
+
+    @Test
+    @DisplayName("없는 symbol 은 로컬에만 기억하고, invalidate 후에는 다시 DB 를 조회한다")
+    void givenUnknownSymbol_whenInvalidate_thenReloaded() {
+        Assertions.assertNull(cache.get("NEW"));
+        Assertions.assertNull(cache.get("NEW"));
+        Assertions.assertEquals(1, loadCnt.get());
+        Mockito.verify(valueOperations, Mockito.never()).set(Mockito.eq("cache:stock:symbol:NEW"), Mockito.anyString(), Mockito.any(Duration.class));
+
+        source.put("NEW", StockCacheDto.builder().id(3L).symbol("NEW").build());
+        cache.invalidate("NEW");
+
+        Assertions.assertEquals(3L, cache.get("NEW").getId());
+        Assertions.assertEquals(2, loadCnt.get());
+        Mockito.verify(redisTemplate).delete("cache:stock:symbol:NEW");
+        Mockito.verify(redisTemplate).convertAndSend(cache.getInvalidateChannel(), "NEW");
+    }
+
+    @Test
+    @DisplayName("Redis 장애 시 DB 조회 결과를 반환한다")
+    void givenRedisFailure_whenGet_thenFallbackToLoader() {
+        Mockito.when(valueOperations.get(Mockito.anyString())).thenThrow(new RedisConnectionFailureException("connection refused"));
+
+        Assertions.assertEquals(1L, cache.get("AAPL").getId());
+        Assertions.assertEquals(1, loadCnt.get());
+        Assertions.assertTrue(cache.getL2ErrorCnt() > 0);
+    }
+
+    @Test
+    @DisplayName("다른 서버의 invalidate 메시지를 받으면 로컬 캐시만 삭제한다")
+    void givenInvalidateMessage_whenOnMessage_thenLocalEvicted() {
+        cache.get("AAPL");
+        cache.onMessage(new DefaultMessage(cache.getInvalidateChannel().getBytes(StandardCharsets.UTF_8),
+                "AAPL".getBytes(StandardCharsets.UTF_8)), null);
+        cache.get("AAPL");
+
+        Assertions.assertEquals(2, loadCnt.get());
+        Mockito.verify(redisTemplate, Mockito.never()).delete(Mockito.anyString());
+    }
+}
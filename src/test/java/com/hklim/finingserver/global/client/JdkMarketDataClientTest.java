@@ -0,0 +1,148 @@
+package com.hklim.finingserver.global.client;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.http.HttpTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.zip.GZIPOutputStream;
+
+@DisplayName("MarketDataClient 테스트 (Local Stub HTTP Server)")
+class JdkMarketDataClientTest {
+    private static final String BODY = "{\"data\":{\"symbol\":\"AAPL\"}}";
+
+    private HttpServer server;
+    private ExecutorService serverExecutor;
+    private JdkMarketDataClient client;
+    private String baseUrl;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger maxInFlight = new AtomicInteger();
+    private final AtomicReference<String> acceptEncoding = new AtomicReference<>();
+
+    @BeforeEach
+    void beforeEach() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/gzip", exchange -> {
+            acceptEncoding.set(exchange.getRequestHeaders().getFirst("Accept-Encoding"));
+            ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+            try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+                gzip.write(BODY.getBytes(StandardCharsets.UTF_8));
+            }
+            exchange.getResponseHeaders().add("Content-Encoding", "gzip");
+            respond(exchange, 200, compressed.toByteArray());
+        });
+        server.createContext("/slow", exchange -> {
+            int current = inFlight.incrementAndGet();
+            maxInFlight.accumulateAndGet(current, Math::max);
+            sleep(100);
+            inFlight.decrementAndGet();
+            respond(exchange, 200, BODY.getBytes(StandardCharsets.UTF_8));
+        });
+        server.createContext("/error", exchange -> respond(exchange, 503, new byte[0]));
+        server.createContext("/hang", exchange -> {
+            sleep(1000);
+            respond(exchange, 200, BODY.getBytes(StandardCharsets.UTF_8));
+        });
+        serverExecutor = Executors.newFixedThreadPool(16);
+        server.setExecutor(serverExecutor);
+        server.start();
+        baseUrl = "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    @AfterEach
+    void afterEach() {
+        client.destroy();
+        server.stop(0);
+        serverExecutor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("gzip 으로 요청하고 gzip 응답은 압축 해제하여 반환한다")
+    void givenGzipResponse_whenFetch_thenDecompressed() throws IOException {
+        client = new JdkMarketDataClient(1000, 5000, 4, "stub-test");
+
+        try (InputStream body = client.fetch(baseUrl + "/gzip")) {
+            Assertions.assertEquals(BODY, new String(body.readAllBytes(), StandardCharsets.UTF_8));
+        }
+        Assertions.assertEquals("gzip", acceptEncoding.get());
+        Assertions.assertEquals(0, client.getInUseCnt("127.0.0.1", server.getAddress().getPort()));
+    }
+
+    @Test
+    @DisplayName("같은 host 동시 요청은 최대 동시 요청 수를 넘지 않는다")
+    void givenManyRequests_whenFetchAsync_thenLimitedPerHost() {
+        client = new JdkMarketDataClient(1000, 5000, 2, "stub-test");
+
+        List<CompletableFuture<String>> results = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            results.add(client.fetchAsync(baseUrl + "/slow").thenApply(JdkMarketDataClientTest::readAndClose));
+        }
+        CompletableFuture.allOf(results.toArray(new CompletableFuture[0])).join();
+
+        results.forEach(result -> Assertions.assertEquals(BODY, result.join()));
+        Assertions.assertTrue(maxInFlight.get() <= 2);
+        Assertions.assertEquals(0, client.getInUseCnt("127.0.0.1", server.getAddress().getPort()));
+    }
+
+    @Test
+    @DisplayName("2xx 가 아닌 응답은 IOException 으로 실패하고 permit 을 반환한다")
+    void givenErrorStatus_whenFetch_thenIOExceptionAndPermitReleased() throws IOException {
+        client = new JdkMarketDataClient(1000, 5000, 1, "stub-test");
+
+        IOException e = Assertions.assertThrows(IOException.class, () -> client.fetch(baseUrl + "/error"));
+        Assertions.assertTrue(e.getMessage().contains("Status=503"));
+        try (InputStream body = client.fetch(baseUrl + "/gzip")) {
+            Assertions.assertEquals(BODY, new String(body.readAllBytes(), StandardCharsets.UTF_8));
+        }
+    }
+
+    @Test
+    @DisplayName("응답 timeout 을 넘기면 HttpTimeoutException 으로 실패한다")
+    void givenSlowServer_whenFetch_thenTimeout() {
+        client = new JdkMarketDataClient(1000, 200, 1, "stub-test");
+
+        Assertions.assertThrows(HttpTimeoutException.class, () -> client.fetch(baseUrl + "/hang"));
+        Assertions.assertEquals(0, client.getInUseCnt("127.0.0.1", server.getAddress().getPort()));
+    }
+
+    private static String readAndClose(InputStream body) {
+        try (body) {
+            return new String(body.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void respond(HttpExchange exchange, int status, byte[] body) throws IOException {
+        exchange.sendResponseHeaders(status, body.length == 0 ? -1 : body.length);
+        try (OutputStream os = exchange.getResponseBody()) {
+            os.write(body);
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
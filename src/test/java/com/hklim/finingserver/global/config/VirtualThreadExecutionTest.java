@@ -0,0 +1,133 @@
+package com.hklim.finingserver.global.config;
+
+import com.hklim.finingserver.global.client.MarketDataClient;
+import com.hklim.finingserver.global.mail.MailDispatcher;
+import com.hklim.finingserver.global.mail.MailRequest;
+import com.hklim.finingserver.global.utils.CrawlerUtils;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.mail.Session;
+import jakarta.mail.internet.MimeMessage;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.http.HttpMessageConvertersAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.embedded.EmbeddedWebServerFactoryCustomizerAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.servlet.DispatcherServletAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.servlet.ServletWebServerFactoryAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.servlet.WebMvcAutoConfiguration;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+/*
+* virtual profile (spring.threads.virtual.enabled=true) 에서 요청 처리, 크롤링 worker, 메일 발송 worker 가 virtual thread 로 실행되는지 확인
+* DB / Redis 없이 Web 계층과 CrawlerUtils, MailDispatcher 만 띄움
+*/
+@SpringBootTest(classes = VirtualThreadExecutionTest.TestConfig.class,
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {
+                "spring.threads.virtual.enabled=true",
+                "service.stock.single-url-head=http://localhost/stock/",
+                "service.stock.single-url-tail=/info",
+                "service.stock.total-url=http://localhost/stock?offset=",
+                "service.indicator.stock-url=http://localhost/indicator/stock",
+                "service.indicator.bond-url=http://localhost/indicator/bond",
+                "service.stock.crawl.max-retry=0"})
+@DisplayName("virtual profile thread 실행 테스트")
+class VirtualThreadExecutionTest {
+    private static final String STOCK_PAGE_BODY = "{\"data\":{\"totalrecords\":2000,\"table\":{\"rows\":[{\"symbol\":\"AAPL\"}]}}}";
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+    @Autowired
+    private CrawlerUtils crawlerUtils;
+    @Autowired
+    private MailDispatcher mailDispatcher;
+
+    @MockBean
+    private MarketDataClient marketDataClient;
+    @MockBean
+    private JavaMailSender javaMailSender;
+
+    @Test
+    @DisplayName("Tomcat 요청 처리 thread 는 virtual thread 이다")
+    void givenVirtualProfile_whenHandleRequest_thenVirtualThread() {
+        Assertions.assertEquals("true", restTemplate.getForObject("/test/thread/virtual", String.class));
+    }
+
+    @Test
+    @DisplayName("크롤링 worker (stock-crawler-) 는 virtual thread 이다")
+    void givenVirtualProfile_whenCrawlStockPages_thenWorkerIsVirtualThread() throws Exception {
+        List<Thread> fetchThreads = new CopyOnWriteArrayList<>();
+        Mockito.when(marketDataClient.fetch(Mockito.anyString())).thenAnswer(invocation -> {
+            fetchThreads.add(Thread.currentThread());
+            return new ByteArrayInputStream(STOCK_PAGE_BODY.getBytes(StandardCharsets.UTF_8));
+        });
+
+        Assertions.assertEquals(2, crawlerUtils.crawlTotalStockRows(2000, row -> { }));
+
+        // 첫 페이지는 호출한 thread, 나머지 페이지는 worker 에서 요청
+        Assertions.assertEquals(2, fetchThreads.size());
+        Thread workerThread = fetchThreads.get(1);
+        Assertions.assertTrue(workerThread.isVirtual());
+        Assertions.assertTrue(workerThread.getName().startsWith("stock-crawler-"));
+    }
+
+    @Test
+    @DisplayName("메일 발송 worker (mail-worker-) 는 virtual thread 이다")
+    void givenVirtualProfile_whenSendMail_thenWorkerIsVirtualThread() throws Exception {
+        CompletableFuture<Thread> mailThread = new CompletableFuture<>();
+        Mockito.when(javaMailSender.createMimeMessage()).thenAnswer(invocation -> {
+            mailThread.complete(Thread.currentThread());
+            return new MimeMessage((Session) null);
+        });
+
+        mailDispatcher.enqueue(MailRequest.builder()
+                .to("test@fining.com")
+                .subject("[FINING] 이메일 인증을 위한 인증번호입니다.")
+                .text("메일 인증을 위한 인증번호는 123456 입니다. <br/>")
+                .build());
+
+        Thread workerThread = mailThread.get(10, TimeUnit.SECONDS);
+        Assertions.assertTrue(workerThread.isVirtual());
+        Assertions.assertTrue(workerThread.getName().startsWith("mail-worker-"));
+    }
+
+    @SpringBootConfiguration
+    @ImportAutoConfiguration({ServletWebServerFactoryAutoConfiguration.class, EmbeddedWebServerFactoryCustomizerAutoConfiguration.class,
+            DispatcherServletAutoConfiguration.class, WebMvcAutoConfiguration.class,
+            HttpMessageConvertersAutoConfiguration.class, JacksonAutoConfiguration.class})
+    @Import({CrawlerUtils.class, MailDispatcher.class, ThreadCheckController.class})
+    static class TestConfig {
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+
+    @RestController
+    static class ThreadCheckController {
+        @GetMapping("/test/thread/virtual")
+        String isVirtual() {
+            return String.valueOf(Thread.currentThread().isVirtual());
+        }
+    }
+}
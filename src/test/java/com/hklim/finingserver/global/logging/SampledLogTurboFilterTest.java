@@ -0,0 +1,61 @@
+package com.hklim.finingserver.global.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("SAMPLED marker 로그 sampling 테스트")
+class SampledLogTurboFilterTest {
+    private Logger logger;
+    private ListAppender<ILoggingEvent> appender;
+
+    @BeforeEach
+    void beforeEach() {
+        LoggerContext context = new LoggerContext();
+        SampledLogTurboFilter filter = new SampledLogTurboFilter();
+        filter.setRate(10);
+        filter.setContext(context);
+        filter.start();
+        context.addTurboFilter(filter);
+
+        appender = new ListAppender<>();
+        appender.setContext(context);
+        appender.start();
+        logger = context.getLogger("sampling-test");
+        logger.setLevel(Level.INFO);
+        logger.addAppender(appender);
+    }
+
+    @Test
+    @DisplayName("SAMPLED 로그는 rate 건 중 1 건만 출력하고, 일반 로그와 WARN 이상은 모두 출력한다")
+    void givenSampledAndPlainLogs_whenLog_thenOnlySampledLogsThinned() {
+        for (int i = 0; i < 100; i++) {
+            logger.info(LogSampling.SAMPLED, "[TEST] sampled : {}", i);
+        }
+        Assertions.assertEquals(10, appender.list.size());
+
+        for (int i = 0; i < 5; i++) {
+            logger.info("[TEST] plain : {}", i);
+            logger.warn(LogSampling.SAMPLED, "[TEST] sampled warn : {}", i);
+        }
+        Assertions.assertEquals(20, appender.list.size());
+    }
+
+    @Test
+    @DisplayName("출력 레벨이 아닌 SAMPLED 로그는 sampling 횟수에 포함하지 않는다")
+    void givenDisabledLevel_whenLogSampled_thenNotCounted() {
+        for (int i = 0; i < 100; i++) {
+            logger.debug(LogSampling.SAMPLED, "[TEST] sampled debug : {}", i);
+        }
+        logger.info(LogSampling.SAMPLED, "[TEST] first sampled info");
+
+        Assertions.assertEquals(1, appender.list.size());
+        Assertions.assertEquals("[TEST] first sampled info", appender.list.get(0).getFormattedMessage());
+    }
+}
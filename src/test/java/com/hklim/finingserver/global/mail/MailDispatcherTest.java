@@ -0,0 +1,113 @@
+package com.hklim.finingserver.global.mail;
+
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.mail.Session;
+import jakarta.mail.internet.MimeMessage;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.mockito.Mockito;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+
+import java.util.function.BooleanSupplier;
+
+@DisplayName("메일 발송 Queue 테스트 (GreenMail SMTP)")
+class MailDispatcherTest {
+    private static final int MAIL_CNT = 30;
+
+    @RegisterExtension
+    static GreenMailExtension greenMail = new GreenMailExtension(ServerSetupTest.SMTP);
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private MailDispatcher mailDispatcher;
+
+    @AfterEach
+    void afterEach() throws InterruptedException {
+        if (mailDispatcher != null) {
+            mailDispatcher.stop();
+        }
+    }
+
+    @Test
+    @DisplayName("Queue 에 적재된 메일은 Worker 가 batch 로 모두 발송한다")
+    void givenQueuedMails_whenWorkersRun_thenAllDelivered() throws InterruptedException {
+        JavaMailSenderImpl javaMailSender = new JavaMailSenderImpl();
+        javaMailSender.setHost("localhost");
+        javaMailSender.setPort(greenMail.getSmtp().getPort());
+        mailDispatcher = new MailDispatcher(javaMailSender, meterRegistry, 100, 2, 10, 3, 10, 5000, false);
+        mailDispatcher.start();
+
+        long start = System.nanoTime();
+        for (int i = 0; i < MAIL_CNT; i++) {
+            mailDispatcher.enqueue(createMailRequest("user" + i + "@fining.com"));
+        }
+        long enqueueMillis = (System.nanoTime() - start) / 1_000_000;
+
+        Assertions.assertTrue(greenMail.waitForIncomingEmail(10_000, MAIL_CNT));
+        awaitUntil(() -> mailDispatcher.getSentCnt() == MAIL_CNT);
+        Assertions.assertEquals(MAIL_CNT, greenMail.getReceivedMessages().length);
+        Assertions.assertEquals(0, mailDispatcher.getFailedCnt());
+        Assertions.assertTrue(enqueueMillis < 1_000, "enqueue 는 SMTP 발송을 기다리지 않는다");
+    }
+
+    @Test
+    @DisplayName("발송 실패 시 backoff 후 재시도하여 발송한다")
+    void givenTransientFailure_whenSend_thenRetried() throws InterruptedException {
+        JavaMailSender javaMailSender = Mockito.mock(JavaMailSender.class);
+        Mockito.when(javaMailSender.createMimeMessage()).thenAnswer(invocation -> new MimeMessage((Session) null));
+        Mockito.doThrow(new MailSendException("Mail server connection failed"))
+                .doNothing()
+                .when(javaMailSender).send(Mockito.any(MimeMessage[].class));
+        mailDispatcher = new MailDispatcher(javaMailSender, meterRegistry, 100, 1, 10, 3, 10, 5000, false);
+        mailDispatcher.start();
+
+        mailDispatcher.enqueue(createMailRequest("retry@fining.com"));
+
+        awaitUntil(() -> mailDispatcher.getSentCnt() == 1);
+        Assertions.assertEquals(1, mailDispatcher.getRetriedCnt());
+        Assertions.assertEquals(0, mailDispatcher.getFailedCnt());
+        Assertions.assertEquals(1.0, meterRegistry.get("mail.requests").tag("result", "sent").functionCounter().count());
+        Assertions.assertEquals(1.0, meterRegistry.get("mail.requests").tag("result", "retried").functionCounter().count());
+        Assertions.assertEquals(0.0, meterRegistry.get("mail.queue.size").gauge().value());
+    }
+
+    @Test
+    @DisplayName("virtual thread worker 로 실행해도 Queue 의 메일을 모두 발송한다")
+    void givenVirtualThreadWorkers_whenWorkersRun_thenAllDelivered() throws InterruptedException {
+        JavaMailSenderImpl javaMailSender = new JavaMailSenderImpl();
+        javaMailSender.setHost("localhost");
+        javaMailSender.setPort(greenMail.getSmtp().getPort());
+        mailDispatcher = new MailDispatcher(javaMailSender, meterRegistry, 100, 2, 10, 3, 10, 5000, true);
+        mailDispatcher.start();
+
+        for (int i = 0; i < MAIL_CNT; i++) {
+            mailDispatcher.enqueue(createMailRequest("virtual" + i + "@fining.com"));
+        }
+
+        Assertions.assertTrue(greenMail.waitForIncomingEmail(10_000, MAIL_CNT));
+        awaitUntil(() -> mailDispatcher.getSentCnt() == MAIL_CNT);
+        Assertions.assertEquals(0, mailDispatcher.getFailedCnt());
+    }
+
+    private MailRequest createMailRequest(String to) {
+        return MailRequest.builder()
+                .to(to)
+                .subject("[FINING] 이메일 인증을 위한 인증번호입니다.")
+                .text("메일 인증을 위한 인증번호는 123456 입니다. <br/>")
+                .build();
+    }
+
+    private void awaitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (!condition.getAsBoolean()) {
+            Assertions.assertTrue(System.currentTimeMillis() < deadline, "조건을 만족하지 못하고 시간 초과");
+            Thread.sleep(20);
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.hklim.finingserver.global.security.jwt;
+
+import com.hklim.finingserver.domain.auth.dto.JwtUserInfo;
+import com.hklim.finingserver.domain.member.entity.Member;
+import com.hklim.finingserver.domain.member.entity.RoleType;
+import com.hklim.finingserver.domain.member.repository.MemberRepository;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Optional;
+
+@DisplayName("JWT Claims 기반 인증 정보 구성 테스트")
+class CustomUserDetailsServiceTest {
+    private MemberRepository memberRepository;
+    private MemberStatusCache memberStatusCache;
+    private CustomUserDetailsService customUserDetailsService;
+    private Member member;
+
+    @BeforeEach
+    void beforeEach() {
+        memberRepository = Mockito.mock(MemberRepository.class);
+        memberStatusCache = new MemberStatusCache(memberRepository, 60, 100);
+        customUserDetailsService = new CustomUserDetailsService(memberRepository, memberStatusCache, true);
+
+        member = Member.builder().email("test@fining.com").password("pw").name("tester").phoneNumber("010-0000-0000").build();
+        ReflectionTestUtils.setField(member, "id", 1L);
+        Mockito.when(memberRepository.findById(1L)).thenReturn(Optional.of(member));
+    }
+
+    @Test
+    @DisplayName("회원 상태가 캐시되어 있으면 요청마다 DB 를 조회하지 않는다")
+    void givenCachedStatus_whenLoadUserByClaims_thenNoRepeatedDbQuery() {
+        UserDetails first = customUserDetailsService.loadUserByClaims(createClaims());
+        UserDetails second = customUserDetailsService.loadUserByClaims(createClaims());
+
+        Assertions.assertEquals("1", first.getUsername());
+        Assertions.assertEquals("ROLE_USER", second.getAuthorities().iterator().next().getAuthority());
+        Mockito.verify(memberRepository, Mockito.times(1)).findById(1L);
+    }
+
+    @Test
+    @DisplayName("회원 탈퇴 후 invalidate 되면 같은 토큰으로 인증되지 않는다")
+    void givenWithdrawnMember_whenInvalidated_thenRejected() {
+        customUserDetailsService.loadUserByClaims(createClaims());
+
+        member.withdrawal();
+        memberStatusCache.invalidate(1L);
+
+        Assertions.assertThrows(UsernameNotFoundException.class, () -> customUserDetailsService.loadUserByClaims(createClaims()));
+        Mockito.verify(memberRepository, Mockito.times(2)).findById(1L);
+    }
+
+    private JwtUserInfo createClaims() {
+        return JwtUserInfo.builder().memberId(1L).email("test@fining.com").role(RoleType.USER).build();
+    }
+}
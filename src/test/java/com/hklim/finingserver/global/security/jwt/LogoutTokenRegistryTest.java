@@ -0,0 +1,52 @@
+package com.hklim.finingserver.global.security.jwt;
+
+import com.hklim.finingserver.global.utils.TokenHashUtils;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+@DisplayName("로그아웃 토큰 Filter Redis 장애 테스트")
+class LogoutTokenRegistryTest {
+    private StringRedisTemplate redisTemplate;
+    private LogoutTokenRegistry logoutTokenRegistry;
+
+    @BeforeEach
+    void beforeEach() {
+        redisTemplate = Mockito.mock(StringRedisTemplate.class);
+        logoutTokenRegistry = new LogoutTokenRegistry(redisTemplate, Mockito.mock(RedisMessageListenerContainer.class), 1000, 0.01);
+    }
+
+    @Test
+    @DisplayName("최초 구성 전에는 ready 가 아니다")
+    void givenRedisDownAtStartup_whenRebuild_thenNotReady() {
+        Mockito.when(redisTemplate.execute(Mockito.<RedisCallback<Long>>any())).thenThrow(new RedisConnectionFailureException("connection refused"));
+
+        logoutTokenRegistry.rebuild();
+
+        Assertions.assertFalse(logoutTokenRegistry.isReady());
+    }
+
+    @Test
+    @DisplayName("구성 이후 Redis 장애가 발생해도 마지막 Filter 로 계속 판단한다")
+    void givenBuiltFilter_whenRedisDown_thenKeepLastFilter() {
+        Mockito.when(redisTemplate.execute(Mockito.<RedisCallback<Long>>any()))
+                .thenReturn(0L)
+                .thenThrow(new RedisConnectionFailureException("connection refused"));
+        Mockito.doThrow(new RedisConnectionFailureException("connection refused"))
+                .when(redisTemplate).convertAndSend(Mockito.anyString(), Mockito.anyString());
+        logoutTokenRegistry.rebuild();
+
+        logoutTokenRegistry.register("logout-token");
+        logoutTokenRegistry.rebuild();
+
+        Assertions.assertTrue(logoutTokenRegistry.isReady());
+        Assertions.assertTrue(logoutTokenRegistry.mightBeLogoutToken(TokenHashUtils.sha256Hex("logout-token")));
+        Assertions.assertFalse(logoutTokenRegistry.mightBeLogoutToken(TokenHashUtils.sha256Hex("active-token")));
+    }
+}
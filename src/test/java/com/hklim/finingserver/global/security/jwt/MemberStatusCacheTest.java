@@ -0,0 +1,95 @@
+package com.hklim.finingserver.global.security.jwt;
+
+import com.hklim.finingserver.domain.member.entity.Member;
+import com.hklim.finingserver.domain.member.repository.MemberRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+@DisplayName("회원 상태 캐시 Transaction 연동 테스트")
+class MemberStatusCacheTest {
+    private MemberRepository memberRepository;
+    private MemberStatusCache memberStatusCache;
+    // DB 에 commit 된 회원 상태
+    private final AtomicReference<Member> committedMember = new AtomicReference<>();
+
+    @BeforeEach
+    void beforeEach() {
+        memberRepository = Mockito.mock(MemberRepository.class);
+        memberStatusCache = new MemberStatusCache(memberRepository, 60, 100);
+        committedMember.set(createMember(false));
+        Mockito.when(memberRepository.findById(1L)).thenAnswer(invocation -> Optional.of(committedMember.get()));
+    }
+
+    @AfterEach
+    void afterEach() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("탈퇴 Transaction commit 전에 다른 요청이 조회해도 commit 후에는 탈퇴 상태로 조회된다")
+    void givenWithdrawalInTransaction_whenConcurrentLoadBeforeCommit_thenWithdrawnAfterCommit() throws Exception {
+        TransactionSynchronizationManager.initSynchronization();
+        memberStatusCache.invalidate(1L);
+
+        // commit 전 다른 요청 (다른 thread) 은 변경 전 상태를 조회해 캐시
+        Assertions.assertFalse(CompletableFuture.supplyAsync(() -> memberStatusCache.getStatus(1L)).get().isDeleted());
+
+        commit(createMember(true));
+
+        Assertions.assertTrue(memberStatusCache.getStatus(1L).isDeleted());
+    }
+
+    @Test
+    @DisplayName("commit 전에 시작된 조회가 commit 후에 끝나면 그 결과는 캐시하지 않는다")
+    void givenLoadInFlightDuringCommit_whenLoadFinishes_thenStaleStatusNotCached() throws Exception {
+        CountDownLatch loadStarted = new CountDownLatch(1);
+        CountDownLatch commitDone = new CountDownLatch(1);
+        Member staleMember = committedMember.get();
+        Mockito.when(memberRepository.findById(1L)).thenAnswer(invocation -> {
+            loadStarted.countDown();
+            commitDone.await(5, TimeUnit.SECONDS);
+            return Optional.of(staleMember);
+        }).thenAnswer(invocation -> Optional.of(committedMember.get()));
+
+        CompletableFuture<MemberStatusCache.MemberStatus> inFlight = CompletableFuture.supplyAsync(() -> memberStatusCache.getStatus(1L));
+        Assertions.assertTrue(loadStarted.await(5, TimeUnit.SECONDS));
+        TransactionSynchronizationManager.initSynchronization();
+        memberStatusCache.invalidate(1L);
+        commit(createMember(true));
+        commitDone.countDown();
+
+        Assertions.assertFalse(inFlight.get().isDeleted());
+        Assertions.assertTrue(memberStatusCache.getStatus(1L).isDeleted());
+        Mockito.verify(memberRepository, Mockito.times(2)).findById(1L);
+    }
+
+    private void commit(Member member) {
+        committedMember.set(member);
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    private Member createMember(boolean withdrawn) {
+        Member member = Member.builder().email("test@fining.com").password("pw").name("tester").phoneNumber("010-0000-0000").build();
+        ReflectionTestUtils.setField(member, "id", 1L);
+        if (withdrawn) {
+            member.withdrawal();
+        }
+        return member;
+    }
+}
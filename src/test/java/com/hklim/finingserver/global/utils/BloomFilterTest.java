@@ -0,0 +1,49 @@
+package com.hklim.finingserver.global.utils;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+@DisplayName("Bloom Filter 테스트")
+class BloomFilterTest {
+    private static final int INSERT_CNT = 100_000;
+    private static final double FALSE_POSITIVE_RATE = 0.01;
+
+    @Test
+    @DisplayName("추가된 값은 항상 포함으로 판단한다 (false negative 없음)")
+    void givenInsertedValues_whenMightContain_thenAlwaysTrue() {
+        BloomFilter filter = new BloomFilter(INSERT_CNT, FALSE_POSITIVE_RATE);
+        SplittableRandom random = new SplittableRandom(1);
+        long[][] hashes = new long[INSERT_CNT][2];
+        for (int i = 0; i < INSERT_CNT; i++) {
+            hashes[i][0] = random.nextLong();
+            hashes[i][1] = random.nextLong();
+            filter.put(hashes[i][0], hashes[i][1]);
+        }
+
+        for (long[] hash : hashes) {
+            Assertions.assertTrue(filter.mightContain(hash[0], hash[1]));
+        }
+    }
+
+    @Test
+    @DisplayName("추가하지 않은 값의 오탐률은 설정값 근처로 유지된다")
+    void givenUnknownValues_whenMightContain_thenFalsePositiveRateBounded() {
+        BloomFilter filter = new BloomFilter(INSERT_CNT, FALSE_POSITIVE_RATE);
+        SplittableRandom random = new SplittableRandom(2);
+        for (int i = 0; i < INSERT_CNT; i++) {
+            filter.put(random.nextLong(), random.nextLong());
+        }
+
+        int falsePositiveCnt = 0;
+        for (int i = 0; i < INSERT_CNT; i++) {
+            if (filter.mightContain(random.nextLong(), random.nextLong())) {
+                falsePositiveCnt++;
+            }
+        }
+
+        Assertions.assertTrue((double) falsePositiveCnt / INSERT_CNT < FALSE_POSITIVE_RATE * 2);
+    }
+}
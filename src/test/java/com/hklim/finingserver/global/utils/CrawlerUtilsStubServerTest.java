@@ -0,0 +1,227 @@
+package com.hklim.finingserver.global.utils;
+
+import com.hklim.finingserver.domain.stock.dto.StockDataResponseDto;
+import com.hklim.finingserver.global.batch.StockIndexItemReader;
+import com.hklim.finingserver.global.batch.StockPagePartitioner;
+import com.hklim.finingserver.global.client.JdkMarketDataClient;
+import com.hklim.finingserver.global.exception.ApplicationErrorException;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@DisplayName("주식 페이지 병렬 크롤링 테스트 (Local Stub HTTP Server)")
+class CrawlerUtilsStubServerTest {
+    private static final int TOTAL_RECORDS = 7500;
+    private static final long PAGE_DELAY_MILLIS = 300;
+    private static final int CRAWL_THREAD_CNT = 4;
+
+    private HttpServer server;
+    private ExecutorService serverExecutor;
+    private SimpleMeterRegistry meterRegistry;
+    private JdkMarketDataClient marketDataClient;
+    private CrawlerUtils crawlerUtils;
+    // 0 보다 크면 빈 페이지 응답 (data = null) 반환 후 감소
+    private final AtomicInteger emptyResponseCnt = new AtomicInteger();
+    // stub server 동시 처리 중인 요청 수
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger maxInFlight = new AtomicInteger();
+    private final AtomicInteger requestCnt = new AtomicInteger();
+
+    @BeforeEach
+    void beforeEach() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/api/screener/stocks", exchange -> {
+            String query = exchange.getRequestURI().getQuery();
+            int offset = Integer.parseInt(query.substring(query.lastIndexOf('=') + 1));
+            requestCnt.incrementAndGet();
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(PAGE_DELAY_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                inFlight.decrementAndGet();
+            }
+            // 실제 API 와 동일하게 totalrecords 이후 offset 은 data = null 응답
+            String json = emptyResponseCnt.getAndDecrement() > 0 || offset >= TOTAL_RECORDS
+                    ? "{\"data\":null,\"status\":{\"rCode\":200}}" : toPageJson(offset);
+            byte[] body = json.getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream os = exchange.getResponseBody()) {
+                os.write(body);
+            }
+        });
+        serverExecutor = Executors.newFixedThreadPool(16);
+        server.setExecutor(serverExecutor);
+        server.start();
+
+        meterRegistry = new SimpleMeterRegistry();
+        marketDataClient = new JdkMarketDataClient(1000, 5000, 8, "stub-test");
+        crawlerUtils = new CrawlerUtils(marketDataClient, meterRegistry);
+        ReflectionTestUtils.setField(crawlerUtils, "totalStockUrl",
+                "http://127.0.0.1:" + server.getAddress().getPort() + "/api/screener/stocks?tableonly=true&limit=1000&offset=");
+        ReflectionTestUtils.setField(crawlerUtils, "crawlThreadCnt", CRAWL_THREAD_CNT);
+        ReflectionTestUtils.setField(crawlerUtils, "crawlMaxRetry", 2);
+        ReflectionTestUtils.setField(crawlerUtils, "crawlBackoffMillis", 10L);
+        crawlerUtils.init();
+    }
+
+    @AfterEach
+    void afterEach() {
+        crawlerUtils.destroy();
+        marketDataClient.destroy();
+        server.stop(0);
+        serverExecutor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("병렬 크롤링 결과는 페이지 순서대로 병합되고, 동시 요청 수는 worker 수로 제한된다")
+    void givenStubServer_whenParallelCrawl_thenMergedInPageOrderWithBoundedConcurrency() {
+        List<StockDataResponseDto.Data.Table.Row> serialRows = new ArrayList<>();
+        int pageCnt = CrawlerUtils.stockPageCnt(crawlerUtils.streamStockPage(0, serialRows::add), 10000);
+        for (int i = 1; i < pageCnt; i++) {
+            crawlerUtils.streamStockPage(i, serialRows::add);
+        }
+        Assertions.assertEquals(1, maxInFlight.get());
+        maxInFlight.set(0);
+
+        List<StockDataResponseDto.Data.Table.Row> parallelRows = new ArrayList<>();
+        int crawlingCnt = crawlerUtils.crawlTotalStockRows(10000, parallelRows::add);
+
+        Assertions.assertEquals(TOTAL_RECORDS, crawlingCnt);
+        Assertions.assertEquals(TOTAL_RECORDS, parallelRows.size());
+        Assertions.assertEquals(serialRows.size(), parallelRows.size());
+        for (int i = 0; i < parallelRows.size(); i++) {
+            Assertions.assertEquals("SYM" + i, parallelRows.get(i).getSymbol());
+        }
+        Assertions.assertTrue(maxInFlight.get() > 1);
+        Assertions.assertTrue(maxInFlight.get() <= CRAWL_THREAD_CNT);
+    }
+
+    @Test
+    @DisplayName("virtual thread worker 로 실행해도 페이지 순서대로 병합된다")
+    void givenVirtualThreadWorkers_whenParallelCrawl_thenMergedInPageOrder() {
+        crawlerUtils.destroy();
+        ReflectionTestUtils.setField(crawlerUtils, "virtualThreads", true);
+        crawlerUtils.init();
+
+        List<StockDataResponseDto.Data.Table.Row> rows = new ArrayList<>();
+        int crawlingCnt = crawlerUtils.crawlTotalStockRows(10000, rows::add);
+
+        Assertions.assertEquals(TOTAL_RECORDS, crawlingCnt);
+        for (int i = 0; i < rows.size(); i++) {
+            Assertions.assertEquals("SYM" + i, rows.get(i).getSymbol());
+        }
+    }
+
+    @Test
+    @DisplayName("Streaming 파싱은 data.table.rows 외 필드를 건너뛰고 totalrecords 를 반환한다")
+    void givenPageJsonWithExtraFields_whenReadStockPage_thenRowsStreamedAndTotalReturned() throws IOException {
+        String json = "{\"status\":{\"rCode\":200,\"errors\":[{\"a\":1}]},"
+                + "\"data\":{\"filters\":{\"x\":[1,2]},\"table\":{\"headers\":{\"symbol\":\"Symbol\"},"
+                + "\"rows\":[{\"symbol\":\"AAA\",\"lastsale\":\"$1.00\",\"unknown\":{\"k\":\"v\"}},{\"symbol\":\"BBB\"}]},"
+                + "\"totalrecords\":2,\"asof\":\"Jun 3, 2024\"},\"message\":null}";
+        List<StockDataResponseDto.Data.Table.Row> rows = new ArrayList<>();
+
+        int totalRecords = CrawlerUtils.readStockPage(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)), rows::add);
+
+        Assertions.assertEquals(2, totalRecords);
+        Assertions.assertEquals(2, rows.size());
+        Assertions.assertEquals("AAA", rows.get(0).getSymbol());
+        Assertions.assertEquals("$1.00", rows.get(0).getLastsale());
+        Assertions.assertEquals("BBB", rows.get(1).getSymbol());
+    }
+
+    @Test
+    @DisplayName("data.table.rows 가 없는 응답은 빈 페이지 응답으로 실패한다")
+    void givenPageJsonWithoutRows_whenReadStockPage_thenIOException() {
+        String[] bodies = {"{\"data\":null}", "{\"data\":{\"totalrecords\":7500}}", "{\"data\":{\"table\":{\"rows\":null}}}", "{}"};
+        for (String json : bodies) {
+            Assertions.assertThrows(IOException.class,
+                    () -> CrawlerUtils.readStockPage(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)), row -> { }), json);
+        }
+    }
+
+    @Test
+    @DisplayName("빈 페이지 응답은 재시도하고, 재시도 횟수를 넘기면 실패한다")
+    void givenEmptyPageResponse_whenGetStockPageRows_thenRetriedOrFailed() {
+        emptyResponseCnt.set(1);
+        Assertions.assertEquals(CrawlerUtils.STOCK_PAGE_SIZE, crawlerUtils.getStockPageRows(0).size());
+
+        emptyResponseCnt.set(3);
+        Assertions.assertThrows(ApplicationErrorException.class, () -> crawlerUtils.getStockPageRows(0));
+    }
+
+    @Test
+    @DisplayName("maxCnt 가 실제 데이터보다 커도 partition 별 ItemReader 는 totalrecords 까지만 읽고 정상 종료한다")
+    void givenMaxCntOverTotalRecords_whenPartitionAndRead_thenPastEndPagesNotRequested() throws Exception {
+        Map<String, ExecutionContext> partitions = new StockPagePartitioner(crawlerUtils, 20000).partition(3);
+
+        int readCnt = 0;
+        for (ExecutionContext context : partitions.values()) {
+            StockIndexItemReader reader = new StockIndexItemReader(crawlerUtils,
+                    context.getInt(StockPagePartitioner.FROM_PAGE), context.getInt(StockPagePartitioner.TO_PAGE),
+                    context.getInt(StockPagePartitioner.TOTAL_RECORDS));
+            reader.open(new ExecutionContext());
+            while (reader.read() != null) {
+                readCnt++;
+            }
+            reader.close();
+        }
+
+        Assertions.assertEquals(TOTAL_RECORDS, readCnt);
+        // 분할 시 첫 페이지 1회 + 데이터가 있는 8 페이지, data = null 응답 없음
+        Assertions.assertEquals(1 + 8, requestCnt.get());
+        Assertions.assertEquals(0, meterRegistry.find("crawler.fetch").tag("outcome", "error").timers().size());
+    }
+
+    @Test
+    @DisplayName("페이지 요청마다 수집 시간과 응답 body 크기를 source 별로 기록한다")
+    void givenStubServer_whenStreamStockPage_thenFetchMetricsRecorded() {
+        crawlerUtils.streamStockPage(0, row -> { });
+
+        Timer timer = meterRegistry.find("crawler.fetch").tags("source", "stock-page", "outcome", "success").timer();
+        DistributionSummary payload = meterRegistry.find("crawler.fetch.payload").tag("source", "stock-page").summary();
+        Assertions.assertNotNull(timer);
+        Assertions.assertEquals(1, timer.count());
+        Assertions.assertTrue(timer.totalTime(TimeUnit.MILLISECONDS) >= PAGE_DELAY_MILLIS);
+        Assertions.assertEquals(toPageJson(0).getBytes(StandardCharsets.UTF_8).length, (long) payload.totalAmount());
+    }
+
+    private String toPageJson(int offset) {
+        StringBuilder sb = new StringBuilder();
+        sb.append("{\"data\":{\"totalrecords\":").append(TOTAL_RECORDS).append(",\"table\":{\"rows\":[");
+        int end = Math.min(offset + CrawlerUtils.STOCK_PAGE_SIZE, TOTAL_RECORDS);
+        for (int i = offset; i < end; i++) {
+            if (i > offset) {
+                sb.append(',');
+            }
+            sb.append("{\"symbol\":\"SYM").append(i).append("\",\"name\":\"Stock ").append(i)
+                    .append("\",\"lastsale\":\"$12.34\",\"netchange\":\"0.12\",\"pctchange\":\"0.98%\",\"marketCap\":\"1,234,567\"}");
+        }
+        sb.append("]}},\"status\":{\"rCode\":200}}");
+        return sb.toString();
+    }
+}
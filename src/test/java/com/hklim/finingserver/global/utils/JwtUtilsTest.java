@@ -0,0 +1,142 @@
+package com.hklim.finingserver.global.utils;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.hklim.finingserver.domain.auth.dto.JwtUserInfo;
+import com.hklim.finingserver.domain.member.entity.RoleType;
+import com.hklim.finingserver.global.exception.ApplicationErrorException;
+import com.hklim.finingserver.global.security.jwt.LogoutTokenRegistry;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.SignatureAlgorithm;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Map;
+
+@DisplayName("JWT 검증 캐시 테스트")
+class JwtUtilsTest {
+    private RedisUtils redisUtils;
+    private LogoutTokenRegistry logoutTokenRegistry;
+    private JwtUtils jwtUtils;
+
+    @BeforeEach
+    void beforeEach() {
+        redisUtils = Mockito.mock(RedisUtils.class);
+        logoutTokenRegistry = Mockito.mock(LogoutTokenRegistry.class);
+        String secretKey = Base64.getEncoder().encodeToString(Keys.secretKeyFor(SignatureAlgorithm.HS256).getEncoded());
+        jwtUtils = new JwtUtils(secretKey, "3600", "86400", 100, redisUtils, logoutTokenRegistry);
+    }
+
+    @Test
+    @DisplayName("한번 검증된 토큰은 Claims 를 캐시에서 재사용한다")
+    void givenValidatedToken_whenGetClaims_thenReuseVerifiedClaims() {
+        String token = jwtUtils.createAccessToken(createUserInfo());
+
+        Assertions.assertTrue(jwtUtils.validateToken(token));
+        Assertions.assertEquals(1, verifiedTokenCache().size());
+        Object cached = verifiedTokenCache().values().iterator().next();
+
+        Assertions.assertEquals(1L, jwtUtils.getUserId(token));
+        Assertions.assertEquals("test@fining.com", jwtUtils.getEmail(token));
+        Assertions.assertTrue(jwtUtils.validateToken(token));
+        Assertions.assertSame(cached, verifiedTokenCache().values().iterator().next());
+    }
+
+    @Test
+    @DisplayName("로그아웃 시 캐시에서 제거되고 Redis 로그아웃 목록 확인은 유지된다")
+    void givenLogoutToken_whenValidate_thenRejected() {
+        String token = jwtUtils.createAccessToken(createUserInfo());
+        jwtUtils.validateToken(token);
+
+        jwtUtils.evictVerifiedToken(token);
+        Mockito.when(redisUtils.getData(Mockito.anyString())).thenReturn("true");
+
+        Assertions.assertTrue(verifiedTokenCache().isEmpty());
+        Assertions.assertThrows(ApplicationErrorException.class, () -> jwtUtils.validateToken(token));
+    }
+
+    @Test
+    @DisplayName("로그아웃 토큰 Filter 에 없는 토큰은 Redis 를 조회하지 않는다")
+    void givenReadyFilterWithoutToken_whenValidate_thenNoRedisCall() {
+        String token = jwtUtils.createAccessToken(createUserInfo());
+        Mockito.when(logoutTokenRegistry.isReady()).thenReturn(true);
+        Mockito.when(logoutTokenRegistry.mightBeLogoutToken(Mockito.anyString())).thenReturn(false);
+
+        Assertions.assertTrue(jwtUtils.validateToken(token));
+        Mockito.verifyNoInteractions(redisUtils);
+    }
+
+    @Test
+    @DisplayName("Redis 장애 중에도 Filter 에 없는 토큰은 통과하고, Filter 에 있을 수도 있는 토큰은 거부한다")
+    void givenRedisDown_whenValidate_thenAnsweredFromFilter() {
+        String token = jwtUtils.createAccessToken(createUserInfo());
+        String suspected = jwtUtils.createAccessToken(JwtUserInfo.builder().memberId(2L).email("other@fining.com").role(RoleType.USER).build());
+        Mockito.when(redisUtils.getData(Mockito.anyString())).thenThrow(new RedisConnectionFailureException("connection refused"));
+        Mockito.when(logoutTokenRegistry.isReady()).thenReturn(true);
+        Mockito.when(logoutTokenRegistry.mightBeLogoutToken(Mockito.anyString())).thenReturn(false);
+        Mockito.when(logoutTokenRegistry.mightBeLogoutToken(TokenHashUtils.sha256Hex(suspected))).thenReturn(true);
+
+        Assertions.assertTrue(jwtUtils.validateToken(token));
+        Assertions.assertThrows(ApplicationErrorException.class, () -> jwtUtils.validateToken(suspected));
+    }
+
+    @Test
+    @DisplayName("서명이 변조된 토큰은 캐시되지 않고 거부된다")
+    void givenTamperedToken_whenValidate_thenRejected() {
+        String token = jwtUtils.createAccessToken(createUserInfo());
+        String tampered = token.substring(0, token.length() - 2) + (token.endsWith("A") ? "BB" : "AA");
+
+        Assertions.assertThrows(ApplicationErrorException.class, () -> jwtUtils.validateToken(tampered));
+        Assertions.assertTrue(verifiedTokenCache().isEmpty());
+    }
+
+    @Test
+    @DisplayName("캐시가 가득 차도 최대 개수를 넘지 않고 새 토큰 검증은 계속된다")
+    void givenFullCache_whenValidateNewTokens_thenSizeBounded() {
+        for (long memberId = 1; memberId <= 150; memberId++) {
+            String token = jwtUtils.createAccessToken(JwtUserInfo.builder().memberId(memberId).email("test@fining.com").role(RoleType.USER).build());
+            Assertions.assertTrue(jwtUtils.validateToken(token));
+        }
+        Cache<String, Claims> cache = verifiedTokenCacheRaw();
+        cache.cleanUp();
+
+        Assertions.assertTrue(cache.estimatedSize() <= 100);
+    }
+
+    @Test
+    @DisplayName("캐시된 Claims 는 토큰 exp 시각에 만료된다")
+    void givenValidatedToken_whenCached_thenExpiresAtTokenExp() {
+        String token = jwtUtils.createAccessToken(createUserInfo());
+        jwtUtils.validateToken(token);
+
+        Duration expiresAfter = verifiedTokenCacheRaw().policy().expireVariably().orElseThrow()
+                .getExpiresAfter(TokenHashUtils.sha256Hex(token)).orElseThrow();
+
+        Assertions.assertTrue(expiresAfter.compareTo(Duration.ofSeconds(3600)) <= 0);
+        Assertions.assertTrue(expiresAfter.compareTo(Duration.ofSeconds(3590)) > 0);
+    }
+
+    private Map<String, Claims> verifiedTokenCache() {
+        return verifiedTokenCacheRaw().asMap();
+    }
+
+    @SuppressWarnings("unchecked")
+    private Cache<String, Claims> verifiedTokenCacheRaw() {
+        return (Cache<String, Claims>) ReflectionTestUtils.getField(jwtUtils, "verifiedTokenCache");
+    }
+
+    private JwtUserInfo createUserInfo() {
+        return JwtUserInfo.builder()
+                .memberId(1L)
+                .email("test@fining.com")
+                .role(RoleType.USER)
+                .build();
+    }
+}
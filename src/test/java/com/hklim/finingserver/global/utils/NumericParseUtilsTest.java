@@ -0,0 +1,42 @@
+package com.hklim.finingserver.global.utils;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+@DisplayName("크롤링 문자열 수치 변환 테스트")
+class NumericParseUtilsTest {
+
+    @Test
+    @DisplayName("통화, 퍼센트, 부호, 천단위 구분자를 제거하고 변환한다")
+    void givenFormattedString_whenToDecimal_thenParsed() {
+        Assertions.assertEquals(0, new BigDecimal("123.45").compareTo(NumericParseUtils.toDecimal("$123.45")));
+        Assertions.assertEquals(0, new BigDecimal("1.2").compareTo(NumericParseUtils.toDecimal("+1.2%")));
+        Assertions.assertEquals(0, new BigDecimal("-0.56").compareTo(NumericParseUtils.toDecimal("-0.56%")));
+        Assertions.assertEquals(0, new BigDecimal("1234567.8").compareTo(NumericParseUtils.toDecimal("1,234,567.8")));
+    }
+
+    @Test
+    @DisplayName("NA 는 null, UNCH 는 0 으로 변환한다")
+    void givenSpecialValue_whenToDecimal_thenNullOrZero() {
+        Assertions.assertNull(NumericParseUtils.toDecimal(null));
+        Assertions.assertNull(NumericParseUtils.toDecimal("NA"));
+        Assertions.assertNull(NumericParseUtils.toDecimal(""));
+        Assertions.assertEquals(BigDecimal.ZERO, NumericParseUtils.toDecimal("UNCH"));
+        Assertions.assertEquals(0L, NumericParseUtils.toLong("NA"));
+        Assertions.assertEquals(1234567L, NumericParseUtils.toLong("1,234,567"));
+    }
+
+    @Test
+    @DisplayName("유니코드 마이너스는 음수로, 변환할 수 없는 값은 예외 없이 null 로 변환한다")
+    void givenMalformedString_whenToDecimal_thenLenient() {
+        Assertions.assertEquals(0, new BigDecimal("-1.25").compareTo(NumericParseUtils.toDecimal("\u22121.25%")));
+        Assertions.assertNull(NumericParseUtils.toDecimal("1.2.3"));
+        Assertions.assertNull(NumericParseUtils.toDecimal("N.A."));
+        Assertions.assertNull(NumericParseUtils.toDecimal("abc"));
+        Assertions.assertNull(NumericParseUtils.toDecimal("--%"));
+        Assertions.assertEquals(0L, NumericParseUtils.toLong("$1.2M?"));
+    }
+}